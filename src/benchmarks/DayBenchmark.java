@@ -0,0 +1,101 @@
+package benchmarks;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import generators.Generators;
+import universalFunctions.Solver;
+import universalFunctions.SolverRegistry;
+import universalFunctions.SolverRegistry.Entry;
+
+/**
+ * JMH fixture of one day, benchmarking its parse, part 1 and part 2. Every day has a subclass in the
+ * package of its year, which only names the day, so each day and part is a benchmark of its own,
+ * run in a fork of its own.
+ * 
+ * The input is found or generated once per fork, and parsed again before every iteration, outside
+ * the measured time, so the parts are measured without parsing. Parsing is measured by the parse
+ * benchmark. Run with -prof gc to get the allocated bytes per call across every thread.
+ * 
+ * By default the input is generated with the scale and seed parameters. Setting the input parameter to
+ * a folder holding one folder of puzzle inputs per year benchmarks those inputs instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class DayBenchmark {
+
+	@Param("")
+	public String input;
+
+	@Param("1")
+	public int scale;
+
+	@Param("0")
+	public long seed;
+
+	private final Entry entry;
+	private final Solver<Object> solver;
+	private File puzzleFile;
+	private Object puzzle;
+
+	/** Constructor.
+	 * 
+	 * @param year Year of the puzzle.
+	 * @param day Day of the puzzle.
+	 */
+	@SuppressWarnings("unchecked")
+	protected DayBenchmark(int year, int day) {
+		List<Entry> entries = SolverRegistry.select(year, day);
+		if (entries.isEmpty()) throw new IllegalStateException("There's no solver for " + year + " day " + day);
+		this.entry = entries.get(0);
+		this.solver = (Solver<Object>) entry.solver();
+	}
+
+	@Setup(Level.Trial)
+	public void findInput() {
+		File inputFolder = input.isEmpty()
+				? Generators.writeTemporaryInputs(List.of(entry), scale, seed)
+				: new File(input);
+		if (inputFolder == null) throw new IllegalStateException("Could not generate the input");
+		puzzleFile = entry.puzzleFile(inputFolder);
+		if (!puzzleFile.isFile()) throw new IllegalStateException("There's no input at " + puzzleFile);
+	}
+
+	@Setup(Level.Iteration)
+	public void parseInput() {
+		puzzle = solver.parse(puzzleFile);
+	}
+
+	@Benchmark
+	public Object parse() {
+		return solver.parse(puzzleFile);
+	}
+
+	@Benchmark
+	public Object part1() {
+		return solver.part1(puzzle);
+	}
+
+	@Benchmark
+	public Object part2() {
+		return solver.part2(puzzle);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2023;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2023 day 1. */
+public class Day1Benchmark extends DayBenchmark {
+
+	public Day1Benchmark() {
+		super(2023, 1);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2023;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2023 day 2. */
+public class Day2Benchmark extends DayBenchmark {
+
+	public Day2Benchmark() {
+		super(2023, 2);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2023;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2023 day 3. */
+public class Day3Benchmark extends DayBenchmark {
+
+	public Day3Benchmark() {
+		super(2023, 3);
+	}
+}
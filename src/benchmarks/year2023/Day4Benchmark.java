@@ -0,0 +1,11 @@
+package benchmarks.year2023;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2023 day 4. */
+public class Day4Benchmark extends DayBenchmark {
+
+	public Day4Benchmark() {
+		super(2023, 4);
+	}
+}
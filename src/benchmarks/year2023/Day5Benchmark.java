@@ -0,0 +1,11 @@
+package benchmarks.year2023;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2023 day 5. */
+public class Day5Benchmark extends DayBenchmark {
+
+	public Day5Benchmark() {
+		super(2023, 5);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2023;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2023 day 6. */
+public class Day6Benchmark extends DayBenchmark {
+
+	public Day6Benchmark() {
+		super(2023, 6);
+	}
+}
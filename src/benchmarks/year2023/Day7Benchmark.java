@@ -0,0 +1,11 @@
+package benchmarks.year2023;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2023 day 7. */
+public class Day7Benchmark extends DayBenchmark {
+
+	public Day7Benchmark() {
+		super(2023, 7);
+	}
+}
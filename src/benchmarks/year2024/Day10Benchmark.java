@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 10. */
+public class Day10Benchmark extends DayBenchmark {
+
+	public Day10Benchmark() {
+		super(2024, 10);
+	}
+}
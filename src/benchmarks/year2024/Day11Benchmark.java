@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 11. */
+public class Day11Benchmark extends DayBenchmark {
+
+	public Day11Benchmark() {
+		super(2024, 11);
+	}
+}
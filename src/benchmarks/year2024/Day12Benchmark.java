@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 12. */
+public class Day12Benchmark extends DayBenchmark {
+
+	public Day12Benchmark() {
+		super(2024, 12);
+	}
+}
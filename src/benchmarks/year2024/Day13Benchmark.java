@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 13. */
+public class Day13Benchmark extends DayBenchmark {
+
+	public Day13Benchmark() {
+		super(2024, 13);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 14. */
+public class Day14Benchmark extends DayBenchmark {
+
+	public Day14Benchmark() {
+		super(2024, 14);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 15. */
+public class Day15Benchmark extends DayBenchmark {
+
+	public Day15Benchmark() {
+		super(2024, 15);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 16. */
+public class Day16Benchmark extends DayBenchmark {
+
+	public Day16Benchmark() {
+		super(2024, 16);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 17. */
+public class Day17Benchmark extends DayBenchmark {
+
+	public Day17Benchmark() {
+		super(2024, 17);
+	}
+}
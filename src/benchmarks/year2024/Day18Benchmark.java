@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 18. */
+public class Day18Benchmark extends DayBenchmark {
+
+	public Day18Benchmark() {
+		super(2024, 18);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 19. */
+public class Day19Benchmark extends DayBenchmark {
+
+	public Day19Benchmark() {
+		super(2024, 19);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 1. */
+public class Day1Benchmark extends DayBenchmark {
+
+	public Day1Benchmark() {
+		super(2024, 1);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 20. */
+public class Day20Benchmark extends DayBenchmark {
+
+	public Day20Benchmark() {
+		super(2024, 20);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 21. */
+public class Day21Benchmark extends DayBenchmark {
+
+	public Day21Benchmark() {
+		super(2024, 21);
+	}
+}
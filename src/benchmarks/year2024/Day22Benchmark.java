@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 22. */
+public class Day22Benchmark extends DayBenchmark {
+
+	public Day22Benchmark() {
+		super(2024, 22);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 23. */
+public class Day23Benchmark extends DayBenchmark {
+
+	public Day23Benchmark() {
+		super(2024, 23);
+	}
+}
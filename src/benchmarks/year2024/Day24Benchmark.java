@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 24. */
+public class Day24Benchmark extends DayBenchmark {
+
+	public Day24Benchmark() {
+		super(2024, 24);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 25. */
+public class Day25Benchmark extends DayBenchmark {
+
+	public Day25Benchmark() {
+		super(2024, 25);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 3. */
+public class Day3Benchmark extends DayBenchmark {
+
+	public Day3Benchmark() {
+		super(2024, 3);
+	}
+}
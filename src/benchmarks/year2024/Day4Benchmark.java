@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 4. */
+public class Day4Benchmark extends DayBenchmark {
+
+	public Day4Benchmark() {
+		super(2024, 4);
+	}
+}
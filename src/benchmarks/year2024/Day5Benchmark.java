@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 5. */
+public class Day5Benchmark extends DayBenchmark {
+
+	public Day5Benchmark() {
+		super(2024, 5);
+	}
+}
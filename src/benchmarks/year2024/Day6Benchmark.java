@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 6. */
+public class Day6Benchmark extends DayBenchmark {
+
+	public Day6Benchmark() {
+		super(2024, 6);
+	}
+}
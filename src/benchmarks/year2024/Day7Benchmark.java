@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 7. */
+public class Day7Benchmark extends DayBenchmark {
+
+	public Day7Benchmark() {
+		super(2024, 7);
+	}
+}
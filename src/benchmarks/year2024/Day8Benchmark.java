@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 8. */
+public class Day8Benchmark extends DayBenchmark {
+
+	public Day8Benchmark() {
+		super(2024, 8);
+	}
+}
@@ -0,0 +1,11 @@
+package benchmarks.year2024;
+
+import benchmarks.DayBenchmark;
+
+/** Benchmarks of 2024 day 9. */
+public class Day9Benchmark extends DayBenchmark {
+
+	public Day9Benchmark() {
+		super(2024, 9);
+	}
+}
@@ -0,0 +1,133 @@
+package generators;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+
+import universalFunctions.SolverRegistry;
+import universalFunctions.SolverRegistry.Entry;
+
+/**
+ * Writes generated puzzle inputs into a folder laid out like the input folder, one folder per year,
+ * so the Runner can read it with --input and the benchmarks with -p input, or generate one themselves
+ * with --scale and -p scale.
+ * 
+ * Usage: Generators --output folder [--year YYYY] [--day N] [--scale N] [--seed S]
+ */
+public class Generators {
+
+	private static final String USAGE = "Usage: Generators --output folder [--year YYYY] [--day N] [--scale N] [--seed S]";
+
+	public static void main(String[] args) {
+		int year = 0;
+		int day = 0;
+		int scale = 1;
+		long seed = 0;
+		File outputFolder = null;
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+				case "--year" -> year = Integer.parseInt(args[++i]);
+				case "--day" -> day = Integer.parseInt(args[++i]);
+				case "--scale" -> scale = Integer.parseInt(args[++i]);
+				case "--seed" -> seed = Long.parseLong(args[++i]);
+				case "--output" -> outputFolder = new File(args[++i]);
+				default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+				}
+			}
+			if (outputFolder == null) throw new IllegalArgumentException("An output folder is needed");
+			if (scale < 1) throw new IllegalArgumentException("Scale must be at least 1");
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			System.out.println(e.getMessage());
+			System.out.println(USAGE);
+			return;
+		}
+
+		int written = writeInputs(SolverRegistry.select(year, day), outputFolder, scale, seed);
+		System.out.println("Wrote " + written + " inputs at scale " + scale + " to " + outputFolder);
+	}
+
+	/** Finds the generator of a day.
+	 * 
+	 * @param year Year of the puzzle.
+	 * @param day Day of the puzzle.
+	 * @return the InputGenerator, or null if the day has none.
+	 */
+	public static InputGenerator find(int year, int day) {
+		String className = "generators.year" + year + ".Day" + day;
+		try {
+			Class<?> generatorClass = Class.forName(className);
+			if (!InputGenerator.class.isAssignableFrom(generatorClass)) return null;
+			return (InputGenerator) generatorClass.getDeclaredConstructor().newInstance();
+		} catch (ClassNotFoundException cnfe) {
+			return null;
+		} catch (ReflectiveOperationException roe) {
+			throw new IllegalStateException("Could not create the generator of " + className, roe);
+		}
+	}
+
+	/** Returns the source of randomness of a day. Every day gets its own, so an input doesn't change
+	 *  when other days are generated with it.
+	 * 
+	 * @param seed Seed of the whole run.
+	 * @param year Year of the puzzle.
+	 * @param day Day of the puzzle.
+	 * @return a seeded Random.
+	 */
+	public static Random random(long seed, int year, int day) {
+		return new Random(seed * 1_000_003L + year * 100L + day);
+	}
+
+	/** Generates the input of every day that has a generator, at the path its solver reads from.
+	 * 
+	 * @param entries Days to generate.
+	 * @param outputFolder Folder to hold one folder of puzzle inputs per year.
+	 * @param scale Multiple of the size of an official input.
+	 * @param seed Seed of the whole run.
+	 * @return the number of inputs written.
+	 */
+	public static int writeInputs(List<Entry> entries, File outputFolder, int scale, long seed) {
+		int written = 0;
+
+		for (Entry entry: entries) {
+			InputGenerator generator = find(entry.year(), entry.day());
+			if (generator == null) continue;
+
+			File puzzleFile = entry.puzzleFile(outputFolder);
+			puzzleFile.getParentFile().mkdirs();
+			try (PrintWriter out = new PrintWriter(puzzleFile, StandardCharsets.UTF_8)) {
+				InputWriter writer = new InputWriter(out);
+				generator.generate(scale, random(seed, entry.year(), entry.day()), writer);
+				if (writer.checkError()) System.out.println("Could not write " + puzzleFile);
+				else written++;
+			} catch (IOException ioe) {
+				System.out.println(ioe.getMessage());
+			}
+		}
+
+		return written;
+	}
+
+	/** Generates the inputs into a new temporary folder, named after the scale.
+	 * 
+	 * @param entries Days to generate.
+	 * @param scale Multiple of the size of an official input.
+	 * @param seed Seed of the whole run.
+	 * @return the folder holding the inputs, or null if it couldn't be created.
+	 */
+	public static File writeTemporaryInputs(List<Entry> entries, int scale, long seed) {
+		try {
+			File outputFolder = new File(Files.createTempDirectory("aoc-inputs").toFile(), "x" + scale);
+			writeInputs(entries, outputFolder, scale, seed);
+			return outputFolder;
+		} catch (IOException ioe) {
+			System.out.println(ioe.getMessage());
+			return null;
+		}
+	}
+}
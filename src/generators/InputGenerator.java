@@ -0,0 +1,69 @@
+package generators;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Random;
+
+/** Generates puzzle inputs for a single day of Advent of Code. A scale of 1 is about the size of an
+ *  official input, and every other scale is that many times bigger, so the slow paths of a day show up
+ *  long before a real input hits them. The same scale and seed always give the same input.
+ *  
+ *  Generators live in the class generators.yearYYYY.DayN, next to the solver they feed.
+ */
+public interface InputGenerator {
+
+	/** Writes a puzzle input.
+	 * 
+	 * @param scale Multiple of the size of an official input, at least 1.
+	 * @param random Seeded source of every random choice.
+	 * @param out Writer of the lines of the puzzle input.
+	 */
+	void generate(int scale, Random random, InputWriter out);
+
+	/** Generates a puzzle input into a String.
+	 * 
+	 * @param scale Multiple of the size of an official input, at least 1.
+	 * @param random Seeded source of every random choice.
+	 * @return the puzzle input.
+	 */
+	default String generate(int scale, Random random) {
+		StringWriter text = new StringWriter();
+		generate(scale, random, new InputWriter(new PrintWriter(text)));
+		return text.toString();
+	}
+
+	/** Returns the side of a square grid holding scale times the cells of an official grid.
+	 * 
+	 * @param officialSide Side of the official grid.
+	 * @param scale Multiple of the size of an official input.
+	 * @return the side of the scaled grid.
+	 */
+	static int side(int officialSide, int scale) {
+		return (int) Math.round(officialSide * Math.sqrt(scale));
+	}
+
+	/** Returns a random int between two bounds.
+	 * 
+	 * @param random Source of randomness.
+	 * @param low Lowest possible value.
+	 * @param high Highest possible value.
+	 * @return an int from low to high, both included.
+	 */
+	static int between(Random random, int low, int high) {
+		return low + random.nextInt(high - low + 1);
+	}
+
+	/** Shuffles an int array in place.
+	 * 
+	 * @param array int array to shuffle.
+	 * @param random Source of randomness.
+	 */
+	static void shuffle(int[] array, Random random) {
+		for (int i = array.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int temporary = array[i];
+			array[i] = array[j];
+			array[j] = temporary;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package generators;
+
+import java.io.PrintWriter;
+
+/** Writes a puzzle input line by line. Lines are separated by the system line separator, the same one
+ *  the solvers split on, and the input doesn't end in a separator, just like the inputs in this repo.
+ */
+public class InputWriter {
+	private final PrintWriter out;
+	private boolean first = true;
+
+	public InputWriter(PrintWriter out) {
+		this.out = out;
+	}
+
+	/** Writes a line.
+	 * 
+	 * @param line Line to write, without a line separator.
+	 */
+	public void line(CharSequence line) {
+		if (!first) out.print(System.lineSeparator());
+		first = false;
+		out.append(line);
+	}
+
+	/** Writes an empty line, separating two sections of the input.
+	 * 
+	 */
+	public void blank() {
+		line("");
+	}
+
+	/** Writes every row of a grid as a line.
+	 * 
+	 * @param grid 2D char array, one array per row.
+	 */
+	public void grid(char[][] grid) {
+		for (char[] row: grid) line(new String(row));
+	}
+
+	/** Flushes the input, and checks if every line was written.
+	 * 
+	 * @return Boolean value if writing failed.
+	 */
+	public boolean checkError() {
+		return out.checkError();
+	}
+}
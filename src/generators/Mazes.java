@@ -0,0 +1,108 @@
+package generators;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Random;
+
+/** Maze building shared by the generators of the maze days. Mazes are char grids of '#' walls and '.'
+ *  passages, with walls all around the border.
+ */
+public class Mazes {
+
+	private static final int[][] DIRECTIONS = { {-1, 0}, {1, 0}, {0, -1}, {0, 1} };
+
+	/** Returns the odd side of a square maze holding scale times the cells of an official maze.
+	 * 
+	 * @param officialSide Side of the official maze.
+	 * @param scale Multiple of the size of an official input.
+	 * @return the odd side of the scaled maze.
+	 */
+	public static int oddSide(int officialSide, int scale) {
+		return InputGenerator.side(officialSide, scale) | 1;
+	}
+
+	/** Carves a perfect maze, with exactly one path between any two passages, with an iterative
+	 *  randomized depth-first search. Passages sit on the odd rows and columns.
+	 * 
+	 * @param side Odd side of the maze.
+	 * @param startRow Odd row to start carving from.
+	 * @param startColumn Odd column to start carving from.
+	 * @param random Source of randomness.
+	 * @return a 2D char array of the maze.
+	 */
+	public static char[][] carve(int side, int startRow, int startColumn, Random random) {
+		char[][] maze = new char[side][side];
+		for (char[] row: maze) Arrays.fill(row, '#');
+
+		Deque<int[]> stack = new ArrayDeque<>();
+		maze[startRow][startColumn] = '.';
+		stack.push(new int[] {startRow, startColumn});
+		int[] order = {0, 1, 2, 3};
+
+		while (!stack.isEmpty()) {
+			int[] cell = stack.peek();
+			InputGenerator.shuffle(order, random);
+			boolean carved = false;
+			for (int d: order) {
+				int r = cell[0] + 2 * DIRECTIONS[d][0];
+				int c = cell[1] + 2 * DIRECTIONS[d][1];
+				if (r < 1 || c < 1 || r >= side - 1 || c >= side - 1 || maze[r][c] == '.') continue;
+				maze[cell[0] + DIRECTIONS[d][0]][cell[1] + DIRECTIONS[d][1]] = '.';
+				maze[r][c] = '.';
+				stack.push(new int[] {r, c});
+				carved = true;
+				break;
+			}
+			if (!carved) stack.pop();
+		}
+
+		return maze;
+	}
+
+	/** Knocks down some of the walls between two passages, adding loops to a perfect maze.
+	 * 
+	 * @param maze 2D char array of the maze.
+	 * @param chance Chance of knocking down each such wall.
+	 * @param random Source of randomness.
+	 */
+	public static void openWalls(char[][] maze, double chance, Random random) {
+		for (int r = 1; r < maze.length - 1; r++) {
+			for (int c = 1; c < maze[r].length - 1; c++) {
+				if (maze[r][c] != '#' || random.nextDouble() >= chance) continue;
+				boolean vertical = maze[r-1][c] == '.' && maze[r+1][c] == '.' && maze[r][c-1] == '#' && maze[r][c+1] == '#';
+				boolean horizontal = maze[r][c-1] == '.' && maze[r][c+1] == '.' && maze[r-1][c] == '#' && maze[r+1][c] == '#';
+				if (vertical || horizontal) maze[r][c] = '.';
+			}
+		}
+	}
+
+	/** Finds the distance from a passage to every other passage, with a breadth-first search.
+	 * 
+	 * @param maze 2D char array of the maze.
+	 * @param row Row of the passage to start from.
+	 * @param column Column of the passage to start from.
+	 * @return a 2D int array of the distances, with -1 for unreachable cells.
+	 */
+	public static int[][] distances(char[][] maze, int row, int column) {
+		int[][] distance = new int[maze.length][maze[0].length];
+		for (int[] distanceRow: distance) Arrays.fill(distanceRow, -1);
+
+		Deque<int[]> queue = new ArrayDeque<>();
+		distance[row][column] = 0;
+		queue.add(new int[] {row, column});
+
+		while (!queue.isEmpty()) {
+			int[] cell = queue.poll();
+			for (int[] direction: DIRECTIONS) {
+				int r = cell[0] + direction[0];
+				int c = cell[1] + direction[1];
+				if (maze[r][c] == '#' || distance[r][c] != -1) continue;
+				distance[r][c] = distance[cell[0]][cell[1]] + 1;
+				queue.add(new int[] {r, c});
+			}
+		}
+
+		return distance;
+	}
+}
@@ -0,0 +1,31 @@
+package generators.year2023;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the calibration document. An official input has 1000 lines of letters, digits and spelled
+ *  out digits, where every line has at least one real digit.
+ */
+public class Day1 implements InputGenerator {
+
+	private static final String[] SPELLED = { "one", "two", "three", "four", "five", "six", "seven", "eight", "nine" };
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		for (int i = 0; i < 1000 * scale; i++) {
+			StringBuilder line = new StringBuilder();
+			int length = InputGenerator.between(random, 5, 50);
+			while (line.length() < length) {
+				switch (random.nextInt(6)) {
+				case 0 -> line.append(InputGenerator.between(random, 1, 9));
+				case 1 -> line.append(SPELLED[random.nextInt(SPELLED.length)]);
+				default -> line.append((char) ('a' + random.nextInt(26)));
+				}
+			}
+			line.insert(random.nextInt(line.length() + 1), InputGenerator.between(random, 1, 9));
+			out.line(line);
+		}
+	}
+}
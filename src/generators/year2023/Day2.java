@@ -0,0 +1,31 @@
+package generators.year2023;
+
+import java.util.Random;
+import java.util.StringJoiner;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the cube games. An official input has 100 games of 1 to 6 draws, each showing 1 to 20 cubes
+ *  of some of the three colours.
+ */
+public class Day2 implements InputGenerator {
+
+	private static final String[] COLOURS = { "red", "green", "blue" };
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		for (int game = 1; game <= 100 * scale; game++) {
+			StringJoiner draws = new StringJoiner("; ");
+			for (int draw = InputGenerator.between(random, 1, 6); draw > 0; draw--) {
+				StringJoiner cubes = new StringJoiner(", ");
+				for (String colour: COLOURS) {
+					if (random.nextInt(4) != 0) cubes.add(InputGenerator.between(random, 1, 20) + " " + colour);
+				}
+				if (cubes.length() == 0) cubes.add(InputGenerator.between(random, 1, 20) + " " + COLOURS[random.nextInt(3)]);
+				draws.add(cubes.toString());
+			}
+			out.line("Game " + game + ": " + draws);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package generators.year2023;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the engine schematic. An official input is a 140 by 140 grid of part numbers of 1 to 3
+ *  digits and symbols on a background of dots. Most symbols are gears.
+ */
+public class Day3 implements InputGenerator {
+
+	private static final String SYMBOLS = "**********#+$/@%=&-";
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int side = InputGenerator.side(140, scale);
+		char[][] schematic = new char[side][side];
+		for (char[] row: schematic) Arrays.fill(row, '.');
+
+		for (char[] row: schematic) {
+			int c = random.nextInt(4);
+			while (c < side) {
+				if (random.nextInt(5) == 0) {
+					row[c] = SYMBOLS.charAt(random.nextInt(SYMBOLS.length()));
+					c += InputGenerator.between(random, 2, 6);
+					continue;
+				}
+				String number = String.valueOf(InputGenerator.between(random, 1, 999));
+				for (int i = 0; i < number.length() && c + i < side; i++) row[c + i] = number.charAt(i);
+				c += number.length() + InputGenerator.between(random, 1, 6);
+			}
+		}
+
+		out.grid(schematic);
+	}
+}
@@ -0,0 +1,55 @@
+package generators.year2023;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the scratchcards. An official input has about 200 cards of 10 winning numbers and 25 numbers
+ *  you have, all below 100. The copies won in the second part grow quickly, so a card stops winning
+ *  once the total number of cards would pass a billion, and cards never win past the last card.
+ */
+public class Day4 implements InputGenerator {
+
+	private static final long MAX_CARDS = 1_000_000_000L;
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int cards = 200 * scale;
+		long[] copies = new long[cards];
+		Arrays.fill(copies, 1);
+		long total = cards;
+
+		for (int card = 0; card < cards; card++) {
+			int matches = Math.min(random.nextInt(11) * random.nextInt(2), cards - card - 1);
+			if (total + copies[card] * matches > MAX_CARDS) matches = 0;
+			for (int i = 1; i <= matches; i++) copies[card + i] += copies[card];
+			total += copies[card] * matches;
+
+			List<Integer> numbers = new ArrayList<>();
+			for (int number = 1; number < 100; number++) numbers.add(number);
+			Collections.shuffle(numbers, random);
+			List<Integer> winning = numbers.subList(0, 10);
+			List<Integer> have = new ArrayList<>(numbers.subList(0, matches));
+			have.addAll(numbers.subList(10, 10 + 25 - matches));
+			Collections.shuffle(have, random);
+
+			out.line(String.format("Card %3d: %s | %s", card + 1, join(winning), join(have)));
+		}
+	}
+
+	/** Joins numbers the way the cards show them, right aligned in two columns.
+	 * 
+	 * @param numbers List of numbers.
+	 * @return the numbers as a String.
+	 */
+	private static String join(List<Integer> numbers) {
+		StringBuilder builder = new StringBuilder();
+		for (int number: numbers) builder.append(builder.isEmpty() ? "" : " ").append(String.format("%2d", number));
+		return builder.toString();
+	}
+}
@@ -0,0 +1,52 @@
+package generators.year2023;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the almanac. An official input has 10 seed ranges and 7 maps of up to about 45 lines over
+ *  the numbers below 2^32. Each map cuts the numbers into ranges and lays them out again in another
+ *  order, so every map is a one-to-one mapping, like in the official inputs.
+ */
+public class Day5 implements InputGenerator {
+
+	private static final long LIMIT = 1L << 32;
+	private static final String[] MAPS = { "seed-to-soil", "soil-to-fertilizer", "fertilizer-to-water", "water-to-light",
+			"light-to-temperature", "temperature-to-humidity", "humidity-to-location" };
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		StringJoiner seeds = new StringJoiner(" ");
+		for (int i = 0; i < 10 * scale; i++) {
+			long start = (long) (random.nextDouble() * LIMIT * 0.9);
+			long length = 1 + (long) (random.nextDouble() * LIMIT / 20);
+			seeds.add(start + " " + length);
+		}
+		out.line("seeds: " + seeds);
+
+		for (String map: MAPS) {
+			out.blank();
+			out.line(map + " map:");
+
+			int ranges = InputGenerator.between(random, 20, 45) * scale;
+			long[] cuts = new long[ranges + 1];
+			for (int i = 1; i < ranges; i++) cuts[i] = (long) (random.nextDouble() * LIMIT);
+			cuts[ranges] = LIMIT;
+			Arrays.sort(cuts);
+
+			int[] order = new int[ranges];
+			for (int i = 0; i < ranges; i++) order[i] = i;
+			InputGenerator.shuffle(order, random);
+
+			long destination = 0;
+			for (int index: order) {
+				long length = cuts[index + 1] - cuts[index];
+				if (length > 0) out.line(destination + " " + cuts[index] + " " + length);
+				destination += length;
+			}
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package generators.year2023;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the boat races. An official input has 4 races of two-digit times, with records every boat
+ *  can beat by holding the button long enough. The second part reads all the races as one, so there
+ *  can't be more races and the scale is ignored.
+ */
+public class Day6 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		StringBuilder times = new StringBuilder("Time:     ");
+		StringBuilder distances = new StringBuilder("Distance: ");
+
+		for (int race = 0; race < 4; race++) {
+			int time = InputGenerator.between(random, 40, 99);
+			int best = (time / 2) * (time - time / 2);
+			int record = InputGenerator.between(random, best / 2, best - 1);
+			times.append(String.format(" %4d", time));
+			distances.append(String.format(" %4d", record));
+		}
+
+		out.line(times);
+		out.line(distances);
+	}
+}
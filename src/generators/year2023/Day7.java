@@ -0,0 +1,23 @@
+package generators.year2023;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the Camel Cards hands. An official input has 1000 hands of 5 cards, each with a bid of 1 to
+ *  1000.
+ */
+public class Day7 implements InputGenerator {
+
+	private static final String CARDS = "23456789TJQKA";
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		for (int i = 0; i < 1000 * scale; i++) {
+			char[] hand = new char[5];
+			for (int j = 0; j < hand.length; j++) hand[j] = CARDS.charAt(random.nextInt(CARDS.length()));
+			out.line(new String(hand) + " " + InputGenerator.between(random, 1, 1000));
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package generators.year2024;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the two lists of location IDs. An official input has 1000 pairs of five-digit IDs, and
+ *  some IDs of the left list show up again in the right list.
+ */
+public class Day1 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int pairs = 1000 * scale;
+		int[] left = new int[pairs];
+
+		for (int i = 0; i < pairs; i++) {
+			left[i] = InputGenerator.between(random, 10000, 99999);
+			int right = (i > 0 && random.nextInt(4) == 0) ? left[random.nextInt(i)] : InputGenerator.between(random, 10000, 99999);
+			out.line(left[i] + "   " + right);
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package generators.year2024;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the topographic map. An official input is a 45 by 45 grid of heights. The map starts out
+ *  as random heights, then hiking trails climbing from 0 to 9 are walked across it, so every map has
+ *  plenty of trailheads.
+ */
+public class Day10 implements InputGenerator {
+
+	private static final int[][] DIRECTIONS = { {-1, 0}, {1, 0}, {0, -1}, {0, 1} };
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int side = InputGenerator.side(45, scale);
+		char[][] map = new char[side][side];
+		for (char[] row: map) {
+			for (int c = 0; c < side; c++) row[c] = (char) ('0' + random.nextInt(10));
+		}
+
+		for (int trail = side * side / 15; trail > 0; trail--) {
+			int r = random.nextInt(side);
+			int c = random.nextInt(side);
+			map[r][c] = '0';
+			for (int height = 1; height <= 9; height++) {
+				int[] direction = DIRECTIONS[random.nextInt(4)];
+				int nr = r + direction[0];
+				int nc = c + direction[1];
+				if (nr < 0 || nc < 0 || nr >= side || nc >= side) break;
+				r = nr;
+				c = nc;
+				map[r][c] = (char) ('0' + height);
+			}
+		}
+
+		out.grid(map);
+	}
+}
@@ -0,0 +1,24 @@
+package generators.year2024;
+
+import java.util.Random;
+import java.util.StringJoiner;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the stones. An official input is one line of 8 stones of up to 7 digits.
+ */
+public class Day11 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		StringJoiner stones = new StringJoiner(" ");
+
+		for (int i = 0; i < 8 * scale; i++) {
+			int digits = InputGenerator.between(random, 1, 7);
+			stones.add(String.valueOf(random.nextInt((int) Math.pow(10, digits))));
+		}
+
+		out.line(stones.toString());
+	}
+}
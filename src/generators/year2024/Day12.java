@@ -0,0 +1,49 @@
+package generators.year2024;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the garden plots. An official input is a 140 by 140 grid of about 600 regions. Regions are
+ *  grown from random seeds at the same time, so they get ragged borders, and far apart regions may
+ *  share a plant type.
+ */
+public class Day12 implements InputGenerator {
+
+	private static final int[][] DIRECTIONS = { {-1, 0}, {1, 0}, {0, -1}, {0, 1} };
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int side = InputGenerator.side(140, scale);
+		char[][] garden = new char[side][side];
+		List<int[]> frontier = new ArrayList<>();
+
+		for (int seed = side * side / 32; seed > 0; seed--) {
+			int r = random.nextInt(side);
+			int c = random.nextInt(side);
+			if (garden[r][c] != 0) continue;
+			garden[r][c] = (char) ('A' + random.nextInt(26));
+			frontier.add(new int[] {r, c});
+		}
+
+		while (!frontier.isEmpty()) {
+			int index = random.nextInt(frontier.size());
+			int[] cell = frontier.get(index);
+			frontier.set(index, frontier.get(frontier.size() - 1));
+			frontier.remove(frontier.size() - 1);
+
+			for (int[] direction: DIRECTIONS) {
+				int r = cell[0] + direction[0];
+				int c = cell[1] + direction[1];
+				if (r < 0 || c < 0 || r >= side || c >= side || garden[r][c] != 0) continue;
+				garden[r][c] = garden[cell[0]][cell[1]];
+				frontier.add(new int[] {r, c});
+			}
+		}
+
+		out.grid(garden);
+	}
+}
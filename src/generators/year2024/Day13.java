@@ -0,0 +1,39 @@
+package generators.year2024;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the claw machines. An official input has 320 machines, with buttons moving the claw 10 to
+ *  99 units along each axis. About half the prizes are reachable with at most 100 presses of each
+ *  button, the rest are placed at random.
+ */
+public class Day13 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		for (int i = 0; i < 320 * scale; i++) {
+			int ax = InputGenerator.between(random, 10, 99);
+			int ay = InputGenerator.between(random, 10, 99);
+			int bx = InputGenerator.between(random, 10, 99);
+			int by = InputGenerator.between(random, 10, 99);
+			int prizeX;
+			int prizeY;
+			if (random.nextBoolean()) {
+				int a = InputGenerator.between(random, 1, 100);
+				int b = InputGenerator.between(random, 1, 100);
+				prizeX = a * ax + b * bx;
+				prizeY = a * ay + b * by;
+			} else {
+				prizeX = InputGenerator.between(random, 1000, 20000);
+				prizeY = InputGenerator.between(random, 1000, 20000);
+			}
+
+			if (i > 0) out.blank();
+			out.line("Button A: X+" + ax + ", Y+" + ay);
+			out.line("Button B: X+" + bx + ", Y+" + by);
+			out.line("Prize: X=" + prizeX + ", Y=" + prizeY);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package generators.year2024;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the robots of the 101 by 103 bathroom. An official input has 500 robots, which all stand on
+ *  different tiles at some moment. That moment is picked first, and every robot is walked back
+ *  from it. Past 10403 robots they can't all stand apart, so bigger inputs have no such moment.
+ */
+public class Day14 implements InputGenerator {
+
+	private static final int WIDTH = 101;
+	private static final int HEIGHT = 103;
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int robots = 500 * scale;
+		int tiles = WIDTH * HEIGHT;
+		int moment = random.nextInt(tiles);
+
+		int[] order = new int[tiles];
+		for (int i = 0; i < tiles; i++) order[i] = i;
+		InputGenerator.shuffle(order, random);
+
+		for (int i = 0; i < robots; i++) {
+			int tile = (i < tiles) ? order[i] : random.nextInt(tiles);
+			int vx = InputGenerator.between(random, -(WIDTH - 1), WIDTH - 1);
+			int vy = InputGenerator.between(random, -(HEIGHT - 1), HEIGHT - 1);
+			long px = Math.floorMod(tile % WIDTH - (long) vx * moment, WIDTH);
+			long py = Math.floorMod(tile / WIDTH - (long) vy * moment, HEIGHT);
+			out.line("p=" + px + "," + py + " v=" + vx + "," + vy);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package generators.year2024;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the warehouse and the robot's moves. An official input is a 50 by 50 warehouse, walled all
+ *  around, with scattered walls and boxes, followed by 20000 moves in lines of 1000.
+ */
+public class Day15 implements InputGenerator {
+
+	private static final String MOVES = "<>^v";
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int side = InputGenerator.side(50, scale);
+		char[][] warehouse = new char[side][side];
+
+		for (int r = 0; r < side; r++) {
+			for (int c = 0; c < side; c++) {
+				int roll = random.nextInt(100);
+				if (r == 0 || c == 0 || r == side - 1 || c == side - 1 || roll < 5) warehouse[r][c] = '#';
+				else if (roll < 35) warehouse[r][c] = 'O';
+				else warehouse[r][c] = '.';
+			}
+		}
+		warehouse[side / 2][side / 2] = '@';
+		out.grid(warehouse);
+		out.blank();
+
+		for (int line = 0; line < 20 * scale; line++) {
+			char[] moves = new char[1000];
+			for (int i = 0; i < moves.length; i++) moves[i] = MOVES.charAt(random.nextInt(MOVES.length()));
+			out.line(new String(moves));
+		}
+	}
+}
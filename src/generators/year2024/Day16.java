@@ -0,0 +1,25 @@
+package generators.year2024;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+import generators.Mazes;
+
+/** Generates the reindeer maze. An official input is a 141 by 141 maze, with the start in the bottom
+ *  left corner and the end in the top right corner. The maze is carved as a perfect maze, then some
+ *  walls are knocked down so there are loops and tied best paths.
+ */
+public class Day16 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int side = Mazes.oddSide(141, scale);
+		char[][] maze = Mazes.carve(side, side - 2, 1, random);
+		Mazes.openWalls(maze, 0.1, random);
+
+		maze[side - 2][1] = 'S';
+		maze[1][side - 2] = 'E';
+		out.grid(maze);
+	}
+}
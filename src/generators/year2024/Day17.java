@@ -0,0 +1,75 @@
+package generators.year2024;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the 3-bit computer. Official programs all have the same shape: take the low 3 bits of A,
+ *  mix them with two constants and with a shifted copy of A, output them, shift A right by 3 and loop.
+ *  The constants are picked at random until the program can output a copy of itself, since the
+ *  second part relies on that. The program can't grow with the scale, so the scale is ignored.
+ */
+public class Day17 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int[] program;
+		do {
+			int first = random.nextInt(8);
+			int second = random.nextInt(8);
+			program = random.nextBoolean()
+					? new int[] {2, 4, 1, first, 7, 5, 1, second, 4, random.nextInt(8), 5, 5, 0, 3, 3, 0}
+					: new int[] {2, 4, 1, first, 7, 5, 4, random.nextInt(8), 1, second, 5, 5, 0, 3, 3, 0};
+		} while (!outputsItself(program[3], program[6] == 1 ? program[7] : program[9], program));
+
+		StringBuilder text = new StringBuilder();
+		for (int number: program) text.append(text.isEmpty() ? "" : ",").append(number);
+
+		out.line("Register A: " + (random.nextLong() >>> 16));
+		out.line("Register B: 0");
+		out.line("Register C: 0");
+		out.blank();
+		out.line("Program: " + text);
+	}
+
+	/** Output of one loop of the program.
+	 * 
+	 * @param a Value of register A.
+	 * @param first Constant of the first bxl.
+	 * @param second Constant of the second bxl.
+	 * @return the value the loop outputs.
+	 */
+	private static long output(long a, int first, int second) {
+		long b = (a & 7) ^ first;
+		long c = a >>> b;
+		return (b ^ second ^ c) & 7;
+	}
+
+	/** Searches for a value of A making the program output itself, three bits at a time from the last
+	 *  output to the first.
+	 * 
+	 * @param first Constant of the first bxl.
+	 * @param second Constant of the second bxl.
+	 * @param program The program.
+	 * @return Boolean value if such a value of A exists.
+	 */
+	private static boolean outputsItself(int first, int second, int[] program) {
+		Deque<long[]> left = new ArrayDeque<>();
+		left.add(new long[] {program.length - 1, 0});
+
+		while (!left.isEmpty()) {
+			long[] popped = left.poll();
+			int index = (int) popped[0];
+			for (long a = 8 * popped[1]; a < 8 * (popped[1] + 1); a++) {
+				if (a == 0 || output(a, first, second) != program[index]) continue;
+				if (index == 0) return true;
+				left.add(new long[] {index - 1, a});
+			}
+		}
+
+		return false;
+	}
+}
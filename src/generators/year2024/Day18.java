@@ -0,0 +1,60 @@
+package generators.year2024;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the falling bytes. An official input drops about 3450 bytes on a 71 by 71 memory space, and
+ *  the exit is still reachable after the first 1024 of them, but not after all of them. The solver
+ *  works on that exact space, so the scale is ignored.
+ */
+public class Day18 implements InputGenerator {
+
+	private static final int SIDE = 71;
+	private static final int SAFE_BYTES = 1024;
+	private static final int BYTES = 3450;
+	private static final int[][] DIRECTIONS = { {-1, 0}, {1, 0}, {0, -1}, {0, 1} };
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int[] order = new int[SIDE * SIDE - 2];
+		for (int i = 0; i < order.length; i++) order[i] = i + 1;
+
+		do {
+			InputGenerator.shuffle(order, random);
+		} while (!exitReachable(order, SAFE_BYTES) || exitReachable(order, BYTES));
+
+		for (int i = 0; i < BYTES; i++) out.line(order[i] % SIDE + "," + order[i] / SIDE);
+	}
+
+	/** Checks if the exit can be reached after some bytes have fallen.
+	 * 
+	 * @param order Cells the bytes fall on, as row * SIDE + column.
+	 * @param fallen Number of bytes that have fallen.
+	 * @return Boolean value if the exit is reachable.
+	 */
+	private static boolean exitReachable(int[] order, int fallen) {
+		boolean[] blocked = new boolean[SIDE * SIDE];
+		for (int i = 0; i < fallen; i++) blocked[order[i]] = true;
+
+		Deque<Integer> queue = new ArrayDeque<>();
+		blocked[0] = true;
+		queue.add(0);
+		while (!queue.isEmpty()) {
+			int cell = queue.poll();
+			if (cell == SIDE * SIDE - 1) return true;
+			for (int[] direction: DIRECTIONS) {
+				int r = cell / SIDE + direction[0];
+				int c = cell % SIDE + direction[1];
+				if (r < 0 || c < 0 || r >= SIDE || c >= SIDE || blocked[r * SIDE + c]) continue;
+				blocked[r * SIDE + c] = true;
+				queue.add(r * SIDE + c);
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,54 @@
+package generators.year2024;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the towel patterns and the designs. An official input has about 450 patterns of 1 to 8
+ *  stripes, and 400 designs of 20 to 60 stripes. Most designs are put together from the patterns,
+ *  the rest are random stripes. Patterns never include a lone r, so random designs are often impossible.
+ */
+public class Day19 implements InputGenerator {
+
+	private static final String COLOURS = "wubrg";
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		Set<String> patterns = new LinkedHashSet<>();
+		while (patterns.size() < 450) {
+			String pattern = randomStripes(random, InputGenerator.between(random, 1, 8));
+			if (!pattern.equals("r")) patterns.add(pattern);
+		}
+		List<String> patternList = new ArrayList<>(patterns);
+		out.line(String.join(", ", patternList));
+		out.blank();
+
+		for (int i = 0; i < 400 * scale; i++) {
+			int length = InputGenerator.between(random, 20, 60);
+			if (random.nextInt(3) == 0) {
+				out.line(randomStripes(random, length));
+				continue;
+			}
+			StringBuilder design = new StringBuilder();
+			while (design.length() < length) design.append(patternList.get(random.nextInt(patternList.size())));
+			out.line(design);
+		}
+	}
+
+	/** Returns random stripes.
+	 * 
+	 * @param random Source of randomness.
+	 * @param length Number of stripes.
+	 * @return a String of stripe colours.
+	 */
+	private static String randomStripes(Random random, int length) {
+		StringBuilder stripes = new StringBuilder();
+		for (int i = 0; i < length; i++) stripes.append(COLOURS.charAt(random.nextInt(COLOURS.length())));
+		return stripes.toString();
+	}
+}
@@ -0,0 +1,31 @@
+package generators.year2024;
+
+import java.util.Random;
+import java.util.StringJoiner;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the reports of levels. An official input has 1000 reports of 5 to 8 levels. Most reports
+ *  start out safe, and some of them get one or more levels broken.
+ */
+public class Day2 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		for (int i = 0; i < 1000 * scale; i++) {
+			int length = InputGenerator.between(random, 5, 8);
+			int direction = random.nextBoolean() ? 1 : -1;
+			int[] levels = new int[length];
+			levels[0] = (direction == 1) ? InputGenerator.between(random, 1, 60) : InputGenerator.between(random, 40, 99);
+			for (int j = 1; j < length; j++) levels[j] = levels[j-1] + direction * InputGenerator.between(random, 1, 3);
+
+			int broken = random.nextInt(3);
+			for (int j = 0; j < broken; j++) levels[random.nextInt(length)] += InputGenerator.between(random, -4, 4);
+
+			StringJoiner report = new StringJoiner(" ");
+			for (int level: levels) report.add(String.valueOf(Math.max(1, level)));
+			out.line(report.toString());
+		}
+	}
+}
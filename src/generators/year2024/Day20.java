@@ -0,0 +1,56 @@
+package generators.year2024;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+import generators.Mazes;
+
+/** Generates the race track. An official input is a 141 by 141 map holding a single track, one tile
+ *  wide, from the start to the end. A perfect maze is carved from the start, the end is put on the
+ *  passage farthest away, and every passage off the path between them is walled up again.
+ */
+public class Day20 implements InputGenerator {
+
+	private static final int[][] DIRECTIONS = { {-1, 0}, {1, 0}, {0, -1}, {0, 1} };
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int side = Mazes.oddSide(141, scale);
+		int startRow = 2 * random.nextInt(side / 2) + 1;
+		int startColumn = 2 * random.nextInt(side / 2) + 1;
+		char[][] maze = Mazes.carve(side, startRow, startColumn, random);
+		int[][] distance = Mazes.distances(maze, startRow, startColumn);
+
+		int endRow = startRow;
+		int endColumn = startColumn;
+		for (int r = 0; r < side; r++) {
+			for (int c = 0; c < side; c++) {
+				if (distance[r][c] > distance[endRow][endColumn]) {
+					endRow = r;
+					endColumn = c;
+				}
+			}
+		}
+
+		char[][] track = new char[side][side];
+		for (char[] row: track) Arrays.fill(row, '#');
+		int r = endRow;
+		int c = endColumn;
+		while (distance[r][c] > 0) {
+			track[r][c] = '.';
+			for (int[] direction: DIRECTIONS) {
+				if (distance[r + direction[0]][c + direction[1]] == distance[r][c] - 1) {
+					r += direction[0];
+					c += direction[1];
+					break;
+				}
+			}
+		}
+
+		track[startRow][startColumn] = 'S';
+		track[endRow][endColumn] = 'E';
+		out.grid(track);
+	}
+}
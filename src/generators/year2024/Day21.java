@@ -0,0 +1,16 @@
+package generators.year2024;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the door codes. An official input has 5 codes of three digits followed by A.
+ */
+public class Day21 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		for (int i = 0; i < 5 * scale; i++) out.line(String.format("%03dA", random.nextInt(1000)));
+	}
+}
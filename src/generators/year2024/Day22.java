@@ -0,0 +1,17 @@
+package generators.year2024;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the initial secret numbers of the buyers. An official input has about 2400 secrets below
+ *  2^24.
+ */
+public class Day22 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		for (int i = 0; i < 2400 * scale; i++) out.line(String.valueOf(InputGenerator.between(random, 1, (1 << 24) - 1)));
+	}
+}
@@ -0,0 +1,84 @@
+package generators.year2024;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the LAN connections. An official input connects 520 computers with two-letter names, each
+ *  to 13 others on average, with a single biggest party of 13 computers. Bigger networks need longer
+ *  names once the two-letter names run out.
+ */
+public class Day23 implements InputGenerator {
+
+	private static final int DEGREE = 13;
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int computers = 520 * scale;
+		String[] names = names(computers, random);
+		Set<Long> connections = new HashSet<>();
+		List<int[]> edges = new ArrayList<>();
+
+		int[] party = new int[DEGREE];
+		for (int i = 0; i < DEGREE; i++) party[i] = i;
+		for (int i = 0; i < DEGREE; i++) {
+			for (int j = i + 1; j < DEGREE; j++) connect(party[i], party[j], computers, connections, edges);
+		}
+		while (edges.size() < computers * DEGREE / 2) {
+			connect(random.nextInt(computers), random.nextInt(computers), computers, connections, edges);
+		}
+
+		int[] order = new int[edges.size()];
+		for (int i = 0; i < order.length; i++) order[i] = i;
+		InputGenerator.shuffle(order, random);
+		for (int index: order) {
+			int[] edge = edges.get(index);
+			if (random.nextBoolean()) out.line(names[edge[0]] + "-" + names[edge[1]]);
+			else out.line(names[edge[1]] + "-" + names[edge[0]]);
+		}
+	}
+
+	/** Adds a connection between two computers, unless they are the same or already connected.
+	 * 
+	 * @param a Index of a computer.
+	 * @param b Index of another computer.
+	 * @param computers Number of computers.
+	 * @param connections Set of the connections so far, as low * computers + high.
+	 * @param edges List of the connections so far, in the order they were made.
+	 */
+	private static void connect(int a, int b, int computers, Set<Long> connections, List<int[]> edges) {
+		if (a == b) return;
+		long key = (long) Math.min(a, b) * computers + Math.max(a, b);
+		if (connections.add(key)) edges.add(new int[] {a, b});
+	}
+
+	/** Picks distinct random names, as short as possible.
+	 * 
+	 * @param count Number of names.
+	 * @param random Source of randomness.
+	 * @return a String array of the names.
+	 */
+	private static String[] names(int count, Random random) {
+		int length = 2;
+		while (Math.pow(26, length) < 2 * count) length++;
+
+		Set<String> names = new HashSet<>();
+		String[] result = new String[count];
+		for (int i = 0; i < count; i++) {
+			String name;
+			do {
+				StringBuilder builder = new StringBuilder();
+				for (int j = 0; j < length; j++) builder.append((char) ('a' + random.nextInt(26)));
+				name = builder.toString();
+			} while (!names.add(name));
+			result[i] = name;
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,113 @@
+package generators.year2024;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the gates of the crossed-wire adder. An official input is a 45-bit ripple carry adder, where
+ *  the outputs of four pairs of gates were swapped, each pair inside a single bit. Every bit of the
+ *  adder has the same five gates, so wider adders just have more bits.
+ */
+public class Day24 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int bits = 45 * scale;
+		Set<String> used = new HashSet<>();
+		String[] sum = new String[bits];
+		String[] carry = new String[bits];
+		String[] halfSum = new String[bits];
+		String[] halfCarry = new String[bits];
+		String[] carryThrough = new String[bits];
+		int length = (bits * 4 < 23 * 26 * 26 / 2) ? 3 : 4;
+
+		for (int i = 0; i < bits; i++) {
+			sum[i] = wire("z", i);
+			halfSum[i] = name(length, random, used);
+			halfCarry[i] = name(length, random, used);
+			carryThrough[i] = name(length, random, used);
+			carry[i] = (i == bits - 1) ? wire("z", bits) : name(length, random, used);
+		}
+
+		Map<String, String> swaps = new HashMap<>();
+		List<Integer> swappedBits = new ArrayList<>();
+		for (int i = 2; i < bits - 1; i++) swappedBits.add(i);
+		Collections.shuffle(swappedBits, random);
+		for (int i: swappedBits.subList(0, Math.min(4, swappedBits.size()))) {
+			String[] pair = switch (random.nextInt(4)) {
+			case 0 -> new String[] {sum[i], carry[i]};
+			case 1 -> new String[] {sum[i], carryThrough[i]};
+			case 2 -> new String[] {sum[i], halfCarry[i]};
+			default -> new String[] {halfSum[i], halfCarry[i]};
+			};
+			swaps.put(pair[0], pair[1]);
+			swaps.put(pair[1], pair[0]);
+		}
+
+		for (String register: new String[] {"x", "y"}) {
+			for (int i = 0; i < bits; i++) out.line(wire(register, i) + ": " + random.nextInt(2));
+		}
+		out.blank();
+
+		List<String> gates = new ArrayList<>();
+		gates.add(gate("x00", "XOR", "y00", sum[0], swaps, random));
+		gates.add(gate("x00", "AND", "y00", carry[0], swaps, random));
+		for (int i = 1; i < bits; i++) {
+			String x = wire("x", i);
+			String y = wire("y", i);
+			gates.add(gate(x, "XOR", y, halfSum[i], swaps, random));
+			gates.add(gate(x, "AND", y, halfCarry[i], swaps, random));
+			gates.add(gate(halfSum[i], "XOR", carry[i-1], sum[i], swaps, random));
+			gates.add(gate(halfSum[i], "AND", carry[i-1], carryThrough[i], swaps, random));
+			gates.add(gate(halfCarry[i], "OR", carryThrough[i], carry[i], swaps, random));
+		}
+		Collections.shuffle(gates, random);
+		for (String gate: gates) out.line(gate);
+	}
+
+	private static String wire(String register, int bit) {
+		return register + String.format("%02d", bit);
+	}
+
+	/** Writes a gate, with its inputs in random order and its output swapped if it's one of the crossed wires.
+	 * 
+	 * @param a First input wire.
+	 * @param operation AND, OR or XOR.
+	 * @param b Second input wire.
+	 * @param output Output wire of the correct adder.
+	 * @param swaps Map of every crossed wire to the wire it was swapped with.
+	 * @param random Source of randomness.
+	 * @return the gate as a line of the puzzle input.
+	 */
+	private static String gate(String a, String operation, String b, String output, Map<String, String> swaps, Random random) {
+		String first = random.nextBoolean() ? a : b;
+		String second = first.equals(a) ? b : a;
+		return first + " " + operation + " " + second + " -> " + swaps.getOrDefault(output, output);
+	}
+
+	/** Picks a random wire name that isn't used yet, and doesn't start like an input or output wire.
+	 * 
+	 * @param length Length of the name.
+	 * @param random Source of randomness.
+	 * @param used Set of the names used so far.
+	 * @return the new wire name.
+	 */
+	private static String name(int length, Random random, Set<String> used) {
+		String name;
+		do {
+			StringBuilder builder = new StringBuilder();
+			builder.append((char) ('a' + random.nextInt(23)));
+			for (int j = 1; j < length; j++) builder.append((char) ('a' + random.nextInt(26)));
+			name = builder.toString();
+		} while (!used.add(name));
+		return name;
+	}
+}
@@ -0,0 +1,31 @@
+package generators.year2024;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the lock and key schematics. An official input has 500 schematics of 5 columns and 7 rows,
+ *  about half of them locks, filled from the top, and half keys, filled from the bottom.
+ */
+public class Day25 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		for (int i = 0; i < 500 * scale; i++) {
+			boolean lock = random.nextBoolean();
+			int[] heights = new int[5];
+			for (int c = 0; c < heights.length; c++) heights[c] = random.nextInt(6);
+
+			if (i > 0) out.blank();
+			for (int r = 0; r < 7; r++) {
+				char[] row = new char[heights.length];
+				for (int c = 0; c < heights.length; c++) {
+					boolean filled = lock ? r <= heights[c] : 6 - r <= heights[c];
+					row[c] = filled ? '#' : '.';
+				}
+				out.line(new String(row));
+			}
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package generators.year2024;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the corrupted memory. An official input has 6 lines of about 3000 characters, with valid
+ *  mul instructions, do() and don't() instructions, and almost valid instructions hidden in the noise.
+ */
+public class Day3 implements InputGenerator {
+
+	private static final String NOISE = "!@#$%^&*()[]{}<>?/\\,.;:'\"-+= _~select{}from()what()who()where()why()how()";
+	private static final String[] ALMOST = { "mul[%d,%d]", "mul(%d,%d]", "mul ( %d,%d)", "mul(%d, %d)", "mul(%d,%d!", "mull(%d,%d" };
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		for (int i = 0; i < 6 * scale; i++) {
+			StringBuilder line = new StringBuilder();
+			while (line.length() < 3000) {
+				int a = InputGenerator.between(random, 1, 999);
+				int b = InputGenerator.between(random, 1, 999);
+				switch (random.nextInt(10)) {
+				case 0, 1, 2 -> line.append("mul(").append(a).append(',').append(b).append(')');
+				case 3 -> line.append(random.nextBoolean() ? "do()" : "don't()");
+				case 4 -> line.append(String.format(ALMOST[random.nextInt(ALMOST.length)], a, b));
+				default -> {
+					for (int j = InputGenerator.between(random, 1, 12); j > 0; j--) line.append(NOISE.charAt(random.nextInt(NOISE.length())));
+				}
+				}
+			}
+			out.line(line);
+		}
+	}
+}
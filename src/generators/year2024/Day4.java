@@ -0,0 +1,24 @@
+package generators.year2024;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the word search. An official input is a 140 by 140 grid of the letters of XMAS.
+ */
+public class Day4 implements InputGenerator {
+
+	private static final String LETTERS = "XMAS";
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int side = InputGenerator.side(140, scale);
+
+		for (int r = 0; r < side; r++) {
+			char[] row = new char[side];
+			for (int c = 0; c < side; c++) row[c] = LETTERS.charAt(random.nextInt(LETTERS.length()));
+			out.line(new String(row));
+		}
+	}
+}
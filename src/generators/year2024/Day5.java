@@ -0,0 +1,47 @@
+package generators.year2024;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the page ordering rules and the updates. An official input orders 49 two-digit pages with a
+ *  rule for every pair of them, followed by about 200 updates of 5 to 23 pages. About half the updates
+ *  are in the right order. Only the number of updates grows with the scale, as pages are two-digit.
+ */
+public class Day5 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		List<Integer> pages = new ArrayList<>();
+		for (int page = 10; page <= 99; page++) pages.add(page);
+		Collections.shuffle(pages, random);
+		pages = pages.subList(0, 49);
+
+		List<String> rules = new ArrayList<>();
+		for (int i = 0; i < pages.size(); i++) {
+			for (int j = i + 1; j < pages.size(); j++) rules.add(pages.get(i) + "|" + pages.get(j));
+		}
+		Collections.shuffle(rules, random);
+		for (String rule: rules) out.line(rule);
+		out.blank();
+
+		for (int i = 0; i < 200 * scale; i++) {
+			List<Integer> indices = new ArrayList<>();
+			for (int j = 0; j < pages.size(); j++) indices.add(j);
+			Collections.shuffle(indices, random);
+			indices = indices.subList(0, 2 * InputGenerator.between(random, 2, 11) + 1);
+
+			if (random.nextBoolean()) Collections.sort(indices);
+			else Collections.shuffle(indices, random);
+
+			StringJoiner update = new StringJoiner(",");
+			for (int index: indices) update.add(String.valueOf(pages.get(index)));
+			out.line(update.toString());
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package generators.year2024;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the lab map. An official input is a 130 by 130 grid with about 5% obstructions and the guard
+ *  facing up. The guard always walks off the map, so whenever the guard gets stuck in a loop, an
+ *  obstruction of the loop is removed and the guard walks again.
+ */
+public class Day6 implements InputGenerator {
+
+	private static final int[][] DIRECTIONS = { {-1, 0}, {0, 1}, {1, 0}, {0, -1} };
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int side = InputGenerator.side(130, scale);
+		char[][] map = new char[side][side];
+		for (char[] row: map) {
+			for (int c = 0; c < side; c++) row[c] = (random.nextInt(20) == 0) ? '#' : '.';
+		}
+
+		int r = InputGenerator.between(random, side / 4, 3 * side / 4);
+		int c = InputGenerator.between(random, side / 4, 3 * side / 4);
+		map[r][c] = '.';
+		for (int obstacle = loopObstacle(map, r, c); obstacle != -1; obstacle = loopObstacle(map, r, c)) {
+			map[obstacle / side][obstacle % side] = '.';
+		}
+		map[r][c] = '^';
+
+		out.grid(map);
+	}
+
+	/** Walks the guard until it leaves the map or repeats a position and direction.
+	 * 
+	 * @param map 2D char array of the map.
+	 * @param r Starting row of the guard.
+	 * @param c Starting column of the guard.
+	 * @return the obstruction the guard turns at next once it's looping, as row * side + column,
+	 *         or -1 if the guard leaves the map.
+	 */
+	private static int loopObstacle(char[][] map, int r, int c) {
+		int side = map.length;
+		BitSet seen = new BitSet(side * side * 4);
+		boolean looping = false;
+		int direction = 0;
+		while (true) {
+			int state = (r * side + c) * 4 + direction;
+			if (seen.get(state)) looping = true;
+			seen.set(state);
+
+			int nr = r + DIRECTIONS[direction][0];
+			int nc = c + DIRECTIONS[direction][1];
+			if (nr < 0 || nc < 0 || nr >= side || nc >= side) return -1;
+			if (map[nr][nc] == '#') {
+				if (looping) return nr * side + nc;
+				direction = (direction + 1) % 4;
+			} else {
+				r = nr;
+				c = nc;
+			}
+		}
+	}
+}
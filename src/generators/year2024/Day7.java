@@ -0,0 +1,47 @@
+package generators.year2024;
+
+import java.util.Random;
+import java.util.StringJoiner;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the calibration equations. An official input has about 850 equations of 3 to 12 numbers.
+ *  Most test values are made by applying random operators to the numbers, the others are nudged so
+ *  they probably can't be made. No mix of operators makes more than concatenating every number, so
+ *  an equation has at most 16 digits in all, and every value the solver tries fits in a long.
+ */
+public class Day7 implements InputGenerator {
+
+	private static final int MAX_DIGITS = 16;
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		for (int i = 0; i < 850 * scale; i++) {
+			int count = InputGenerator.between(random, 3, 12);
+			StringJoiner numbers = new StringJoiner(" ");
+			long value = InputGenerator.between(random, 1, 99);
+			numbers.add(String.valueOf(value));
+			int digits = String.valueOf(value).length();
+
+			for (int j = 1; j < count; j++) {
+				int number = switch (random.nextInt(4)) {
+				case 0 -> InputGenerator.between(random, 100, 999);
+				case 1 -> InputGenerator.between(random, 10, 99);
+				default -> InputGenerator.between(random, 1, 9);
+				};
+				digits += String.valueOf(number).length();
+				if (digits > MAX_DIGITS) break;
+				value = switch (random.nextInt(3)) {
+				case 0 -> value + number;
+				case 1 -> value * number;
+				default -> Long.parseLong(value + "" + number);
+				};
+				numbers.add(String.valueOf(number));
+			}
+
+			if (random.nextInt(3) == 0) value += InputGenerator.between(random, 1, 9);
+			out.line(value + ": " + numbers);
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package generators.year2024;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the antenna map. An official input is a 50 by 50 grid with about 4 antennas for each of
+ *  many frequencies, where a frequency is a digit or a letter.
+ */
+public class Day8 implements InputGenerator {
+
+	private static final String FREQUENCIES = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int side = InputGenerator.side(50, scale);
+		char[][] map = new char[side][side];
+		for (char[] row: map) Arrays.fill(row, '.');
+
+		int antennas = Math.min(200 * scale, side * side / 4);
+		for (int i = 0; i < antennas; i++) {
+			int r = random.nextInt(side);
+			int c = random.nextInt(side);
+			if (map[r][c] == '.') map[r][c] = FREQUENCIES.charAt(random.nextInt(FREQUENCIES.length()));
+		}
+
+		out.grid(map);
+	}
+}
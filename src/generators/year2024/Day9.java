@@ -0,0 +1,24 @@
+package generators.year2024;
+
+import java.util.Random;
+
+import generators.InputGenerator;
+import generators.InputWriter;
+
+/** Generates the disk map. An official input is one line of 19999 digits, alternating between file
+ *  lengths of 1 to 9 and free space lengths of 0 to 9, starting and ending with a file.
+ */
+public class Day9 implements InputGenerator {
+
+	@Override
+	public void generate(int scale, Random random, InputWriter out) {
+		int length = 20000 * scale - 1;
+		StringBuilder diskMap = new StringBuilder(length);
+
+		for (int i = 0; i < length; i++) {
+			diskMap.append((i % 2 == 0) ? InputGenerator.between(random, 1, 9) : random.nextInt(10));
+		}
+
+		out.line(diskMap);
+	}
+}
@@ -0,0 +1,111 @@
+package universalFunctions;
+
+import java.util.Arrays;
+
+/** Breadth-first search over the cells of a Grid, for mazes where every step costs the same. The
+ *  distances are kept in a flat int array indexed like the grid, and the queue is a flat int array too.
+ *  Every cell is queued at most once, so the queue never needs to be longer than the grid, and once a
+ *  search is done it holds the reached cells in order of their distance.
+ * 
+ *  A search can start from several cells at once, and can stop as soon as it reaches a goal. The
+ *  arrays are kept between searches, so one instance can run any number of searches on the same grid.
+ */
+public class BreadthFirstSearch {
+
+	public static final int UNREACHED = -1;
+
+	private final Grid grid;
+	private final char wall;
+	private final int[] distances;
+	private final int[] queue;
+	private int queued;
+	private int polled;
+
+	/** Constructor.
+	 * 
+	 * @param grid Grid to search. Changes to it show up in later searches.
+	 * @param wall Character of the cells that can't be entered.
+	 */
+	public BreadthFirstSearch(Grid grid, char wall) {
+		this.grid = grid;
+		this.wall = wall;
+		this.distances = new int[grid.size()];
+		this.queue = new int[grid.size()];
+	}
+
+	/** Finds the distance to every cell that can be reached from the starts.
+	 * 
+	 * @param starts Flat indices of the cells to start from, all at distance 0.
+	 * @return the distances, indexed like the grid, with UNREACHED for the cells that can't be reached.
+	 *  The array is reused by the next search.
+	 */
+	public int[] distancesFrom(int... starts) {
+		search(-1, starts);
+		return distances;
+	}
+
+	/** Finds the distance from the nearest start to a goal, stopping as soon as the goal is reached.
+	 * 
+	 * @param goal Flat index of the cell to reach.
+	 * @param starts Flat indices of the cells to start from, all at distance 0.
+	 * @return the number of steps to the goal, or UNREACHED if it can't be reached.
+	 */
+	public int distance(int goal, int... starts) {
+		search(goal, starts);
+		return distances[goal];
+	}
+
+	/** Returns the cells reached by the last search, in the order they were reached, so the distance
+	 *  never goes down along the array.
+	 * 
+	 * @return the flat indices of the reached cells.
+	 */
+	public int[] reached() {
+		return Arrays.copyOf(queue, queued);
+	}
+
+	/** Returns the number of cells the last search took off the queue.
+	 * 
+	 * @return the number of cells whose neighbours were looked at.
+	 */
+	public int polled() {
+		return polled;
+	}
+
+	private void search(int goal, int[] starts) {
+		Arrays.fill(distances, UNREACHED);
+		queued = 0;
+		polled = 0;
+
+		for (int start: starts) {
+			if (visit(start, 0, goal)) return;
+		}
+
+		int width = grid.getWidth();
+		int height = grid.getHeight();
+		while (polled < queued) {
+			int cell = queue[polled++];
+			int next = distances[cell] + 1;
+			int r = cell / width;
+			int c = cell % width;
+			if (r > 0 && visit(cell - width, next, goal)) return;
+			if (c < width - 1 && visit(cell + 1, next, goal)) return;
+			if (r < height - 1 && visit(cell + width, next, goal)) return;
+			if (c > 0 && visit(cell - 1, next, goal)) return;
+		}
+	}
+
+	/** Queues a cell at a distance, if it can be entered and hasn't been reached yet.
+	 * 
+	 * @param cell Flat index of the cell.
+	 * @param distance Distance to give it.
+	 * @param goal Flat index of the goal, or -1 if there's none.
+	 * @return Boolean value if the cell is the goal and the search can stop.
+	 */
+	private boolean visit(int cell, int distance, int goal) {
+		if (distances[cell] != UNREACHED || grid.get(cell) == wall) return false;
+		distances[cell] = distance;
+		queue[queued++] = cell;
+		return cell == goal;
+	}
+}
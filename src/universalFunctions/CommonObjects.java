@@ -1,7 +1,5 @@
 package universalFunctions;
 
-import java.util.Objects;
-
 public class CommonObjects {
 
 	public static class Position {
@@ -27,6 +25,62 @@ public class CommonObjects {
 			return new Position(r + dir[0], c + dir[1]);
 		}
 		
+		/** Packs the position into a single long, row in the upper half and column in the lower half.
+		 * 
+		 * @return the packed position.
+		 */
+		public long pack() {
+			return pack(r, c);
+		}
+		
+		/** Packs a row and column index into a single long. Used as the key of PositionSet and PositionLongMap
+		 *  so grids don't need a Position object per cell.
+		 * 
+		 * @param r Row index.
+		 * @param c Column index.
+		 * @return the packed position.
+		 */
+		public static long pack(int r, int c) {
+			return ((long) r << 32) | (c & 0xFFFFFFFFL);
+		}
+		
+		/** Returns the row index of a packed position.
+		 * 
+		 * @param packed Packed position.
+		 * @return Row index.
+		 */
+		public static int row(long packed) {
+			return (int) (packed >> 32);
+		}
+		
+		/** Returns the column index of a packed position.
+		 * 
+		 * @param packed Packed position.
+		 * @return Column index.
+		 */
+		public static int column(long packed) {
+			return (int) packed;
+		}
+		
+		/** Moves a packed position.
+		 * 
+		 * @param packed Packed position.
+		 * @param dir Integer array of the row and column change.
+		 * @return the moved packed position.
+		 */
+		public static long move(long packed, int[] dir) {
+			return pack(row(packed) + dir[0], column(packed) + dir[1]);
+		}
+		
+		/** Unpacks a packed position into a Position object.
+		 * 
+		 * @param packed Packed position.
+		 * @return a new Position.
+		 */
+		public static Position unpack(long packed) {
+			return new Position(row(packed), column(packed));
+		}
+		
 		public int getR() {
 			return r;
 		}
@@ -45,7 +99,7 @@ public class CommonObjects {
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(c, r);
+			return 31 * r + c;
 		}
 
 		@Override
@@ -0,0 +1,229 @@
+package universalFunctions;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+public class Grid {
+
+	public static final int[][] CARDINAL_DIRECTIONS = { { -1, 0 }, { 0, 1 }, { 1, 0 }, { 0, -1 } };
+
+	private final byte[] cells;
+	private final int height;
+	private final int width;
+
+	/** Constructor for a grid filled with one character.
+	 * 
+	 * @param height Number of rows.
+	 * @param width Number of columns.
+	 * @param fill Character every cell starts as.
+	 */
+	public Grid(int height, int width, char fill) {
+		this.height = height;
+		this.width = width;
+		this.cells = new byte[height * width];
+		Arrays.fill(cells, (byte) fill);
+	}
+
+	/** Constructor for copying purposes.
+	 * 
+	 * @param grid Grid to copy from.
+	 */
+	public Grid(Grid grid) {
+		this.height = grid.height;
+		this.width = grid.width;
+		this.cells = grid.cells.clone();
+	}
+
+	/** Builds a grid from a range of lines of a puzzle input.
+	 * 
+	 * @param input MappedInput to read from.
+	 * @param fromLine First line of the grid, inclusive.
+	 * @param toLine Last line of the grid, exclusive.
+	 * @return a Grid holding the lines.
+	 */
+	public static Grid fromLines(MappedInput input, int fromLine, int toLine) {
+		if (fromLine >= toLine) return new Grid(0, 0, '.');
+
+		Grid grid = new Grid(toLine - fromLine, input.lineLength(fromLine), '.');
+		for (int line = fromLine; line < toLine; line++) {
+			if (input.lineLength(line) != grid.width)
+				throw new IllegalArgumentException("Grid rows are not the same length!");
+			input.line(line).copyTo(grid.cells, (line - fromLine) * grid.width);
+		}
+		return grid;
+	}
+
+	/** Returns the number of rows.
+	 * 
+	 * @return Height of the grid.
+	 */
+	public int getHeight() {
+		return height;
+	}
+
+	/** Returns the number of columns.
+	 * 
+	 * @return Width of the grid.
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/** Returns the number of cells.
+	 * 
+	 * @return Height times width.
+	 */
+	public int size() {
+		return cells.length;
+	}
+
+	/** Converts a row and column index into a flat, row-major index.
+	 * 
+	 * @param r Row index.
+	 * @param c Column index.
+	 * @return the flat index of the cell.
+	 */
+	public int index(int r, int c) {
+		return r * width + c;
+	}
+
+	/** Returns the row index of a flat index.
+	 * 
+	 * @param index Flat index.
+	 * @return Row index.
+	 */
+	public int row(int index) {
+		return index / width;
+	}
+
+	/** Returns the column index of a flat index.
+	 * 
+	 * @param index Flat index.
+	 * @return Column index.
+	 */
+	public int column(int index) {
+		return index % width;
+	}
+
+	/** Checks if a row and column index is inside the grid.
+	 * 
+	 * @param r Row index.
+	 * @param c Column index.
+	 * @return Boolean value if the cell exists.
+	 */
+	public boolean inBounds(int r, int c) {
+		return r >= 0 && c >= 0 && r < height && c < width;
+	}
+
+	/** Returns the character of a cell.
+	 * 
+	 * @param r Row index.
+	 * @param c Column index.
+	 * @return Character at the cell.
+	 */
+	public char get(int r, int c) {
+		return (char) cells[r * width + c];
+	}
+
+	/** Returns the character of a cell.
+	 * 
+	 * @param index Flat index.
+	 * @return Character at the cell.
+	 */
+	public char get(int index) {
+		return (char) cells[index];
+	}
+
+	/** Returns the character of a cell, or a default character if the cell is outside the grid.
+	 * 
+	 * @param r Row index.
+	 * @param c Column index.
+	 * @param outside Character to return when out of bounds.
+	 * @return Character at the cell, or the default.
+	 */
+	public char getOrDefault(int r, int c, char outside) {
+		return inBounds(r, c) ? (char) cells[r * width + c] : outside;
+	}
+
+	/** Sets the character of a cell.
+	 * 
+	 * @param r Row index.
+	 * @param c Column index.
+	 * @param element Character to set.
+	 */
+	public void set(int r, int c, char element) {
+		cells[r * width + c] = (byte) element;
+	}
+
+	/** Sets the character of a cell.
+	 * 
+	 * @param index Flat index.
+	 * @param element Character to set.
+	 */
+	public void set(int index, char element) {
+		cells[index] = (byte) element;
+	}
+
+	/** Finds the first cell with a character, in row-major order.
+	 * 
+	 * @param element Character to find.
+	 * @return the flat index of the cell, or -1 if there's none.
+	 */
+	public int find(char element) {
+		for (int i = 0; i < cells.length; i++) {
+			if (cells[i] == element) return i;
+		}
+		return -1;
+	}
+
+	/** Returns a copy of this grid with a one cell border around it. Neighbours of any original cell
+	 *  are then always inside the grid, so lookups don't need bounds checks.
+	 * 
+	 * @param border Character for the border.
+	 * @return a new Grid, two rows taller and two columns wider.
+	 */
+	public Grid padded(char border) {
+		Grid result = new Grid(height + 2, width + 2, border);
+		for (int r = 0; r < height; r++) {
+			System.arraycopy(cells, r * width, result.cells, (r + 1) * result.width + 1, width);
+		}
+		return result;
+	}
+
+	/** Returns the flat index of a neighbouring cell.
+	 * 
+	 * @param index Flat index of the cell.
+	 * @param direction Index into CARDINAL_DIRECTIONS.
+	 * @return the flat index of the neighbour, or -1 if it's outside the grid.
+	 */
+	public int neighbor(int index, int direction) {
+		int r = index / width + CARDINAL_DIRECTIONS[direction][0];
+		int c = index % width + CARDINAL_DIRECTIONS[direction][1];
+		return inBounds(r, c) ? r * width + c : -1;
+	}
+
+	/** Runs an action on the flat index of every neighbouring cell inside the grid.
+	 * 
+	 * @param index Flat index of the cell.
+	 * @param action Action to run on each neighbour.
+	 */
+	public void forEachNeighbor(int index, IntConsumer action) {
+		int r = index / width;
+		int c = index % width;
+		if (r > 0) action.accept(index - width);
+		if (c < width - 1) action.accept(index + 1);
+		if (r < height - 1) action.accept(index + width);
+		if (c > 0) action.accept(index - 1);
+	}
+
+	// Formatting purposes.
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder(cells.length + height);
+		for (int r = 0; r < height; r++) {
+			for (int c = 0; c < width; c++) builder.append((char) cells[r * width + c]);
+			builder.append('\n');
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,233 @@
+package universalFunctions;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import universalFunctions.MappedInput.View;
+
+/** Pulls the lines of a puzzle input one at a time, reading the file through a single buffer that is
+ *  reused for every line. Only the current line is held in memory, so inputs of any size, even ones too
+ *  big to be memory-mapped, are read in constant memory. Lines end at '\n', with a trailing '\r' removed.
+ * 
+ *  The View of a line points into the shared buffer, and is only valid until the next line is read.
+ *  Call toString() on it to keep a line around.
+ */
+public class LineSource implements Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final FileChannel channel;
+	private final long fileEnd;
+	private long filePosition;
+	private byte[] bytes = new byte[BUFFER_SIZE];
+	private ByteBuffer buffer = ByteBuffer.wrap(bytes);
+	private int lineStart = 0;
+	private int scanned = 0;
+	private int limit = 0;
+	private View line;
+
+	/** Constructor over a range of a file. The range has to start at the start of a line.
+	 * 
+	 * @param channel FileChannel of the puzzle input, or null for an empty source.
+	 * @param start Byte offset of the first line, inclusive.
+	 * @param end Byte offset to stop reading at, exclusive.
+	 */
+	LineSource(FileChannel channel, long start, long end) {
+		this.channel = channel;
+		this.filePosition = start;
+		this.fileEnd = end;
+	}
+
+	/** Opens a puzzle input file for reading line by line.
+	 * 
+	 * @param puzzle File object of the puzzle input file path.
+	 * @return a LineSource over the file, or an empty one if the file could not be read.
+	 */
+	public static LineSource open(File puzzle) {
+		try {
+			FileChannel channel = FileChannel.open(puzzle.toPath(), StandardOpenOption.READ);
+			return new LineSource(channel, 0, channel.size());
+		} catch (IOException ioe) {
+			System.out.println(ioe.getMessage());
+			return new LineSource(null, 0, 0);
+		}
+	}
+
+	/** Streams the lines of a puzzle input file. A parallel stream splits the file at line boundaries,
+	 *  and every split reads its own part of the file through its own buffer. Close the stream to close
+	 *  the file.
+	 * 
+	 * @param puzzle File object of the puzzle input file path.
+	 * @param parallel Boolean value if the stream should be parallel.
+	 * @return a Stream of Views of the lines, each only valid while it's being processed.
+	 */
+	public static Stream<View> lines(File puzzle, boolean parallel) {
+		try {
+			FileChannel channel = FileChannel.open(puzzle.toPath(), StandardOpenOption.READ);
+			return StreamSupport.stream(new LineSpliterator(channel, 0, channel.size()), parallel).onClose(() -> {
+				try {
+					channel.close();
+				} catch (IOException ioe) {
+					System.out.println(ioe.getMessage());
+				}
+			});
+		} catch (IOException ioe) {
+			System.out.println(ioe.getMessage());
+			return Stream.empty();
+		}
+	}
+
+	/** Moves to the next line.
+	 * 
+	 * @return Boolean value if there was another line.
+	 */
+	public boolean next() {
+		while (true) {
+			for (int i = scanned; i < limit; i++) {
+				if (bytes[i] != '\n') continue;
+				line = new View(buffer, lineStart, (i > lineStart && bytes[i - 1] == '\r') ? i - 1 : i);
+				lineStart = i + 1;
+				scanned = i + 1;
+				return true;
+			}
+			scanned = limit;
+
+			if (!fill()) {
+				// Last line without a trailing newline, the same way MappedInput treats it.
+				if (lineStart == limit) {
+					line = null;
+					return false;
+				}
+				line = new View(buffer, lineStart, (bytes[limit - 1] == '\r') ? limit - 1 : limit);
+				lineStart = limit;
+				return true;
+			}
+		}
+	}
+
+	/** Returns the current line. The View is only valid until the next call to next().
+	 * 
+	 * @return a View of the current line, or null before the first or after the last line.
+	 */
+	public View line() {
+		return line;
+	}
+
+	/** Reads more of the file into the buffer, keeping the unfinished line. The buffer grows when a
+	 *  single line doesn't fit.
+	 * 
+	 * @return Boolean value if anything was read.
+	 */
+	private boolean fill() {
+		if (channel == null || filePosition >= fileEnd) return false;
+
+		if (lineStart > 0) {
+			System.arraycopy(bytes, lineStart, bytes, 0, limit - lineStart);
+			scanned -= lineStart;
+			limit -= lineStart;
+			lineStart = 0;
+		} else if (limit == bytes.length) {
+			bytes = Arrays.copyOf(bytes, bytes.length * 2);
+			buffer = ByteBuffer.wrap(bytes);
+		}
+
+		try {
+			int toRead = (int) Math.min(bytes.length - limit, fileEnd - filePosition);
+			int read = channel.read(ByteBuffer.wrap(bytes, limit, toRead), filePosition);
+			if (read <= 0) return false;
+			filePosition += read;
+			limit += read;
+			return true;
+		} catch (IOException ioe) {
+			System.out.println(ioe.getMessage());
+			return false;
+		}
+	}
+
+	@Override
+	public void close() {
+		if (channel == null) return;
+		try {
+			channel.close();
+		} catch (IOException ioe) {
+			System.out.println(ioe.getMessage());
+		}
+	}
+
+	/** Spliterator over the lines of a range of a file. Splitting cuts the range in half, then moves the
+	 *  cut forward to the start of the next line, so no line is ever split.
+	 */
+	static class LineSpliterator implements Spliterator<View> {
+		private final FileChannel channel;
+		private long start;
+		private final long end;
+		private LineSource source;
+
+		LineSpliterator(FileChannel channel, long start, long end) {
+			this.channel = channel;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super View> action) {
+			if (source == null) source = new LineSource(channel, start, end);
+			if (!source.next()) return false;
+			action.accept(source.line());
+			return true;
+		}
+
+		@Override
+		public Spliterator<View> trySplit() {
+			if (source != null || end - start < 2 * BUFFER_SIZE) return null;
+
+			long boundary = nextLineStart(start + (end - start) / 2);
+			if (boundary >= end) return null;
+			LineSpliterator prefix = new LineSpliterator(channel, start, boundary);
+			start = boundary;
+			return prefix;
+		}
+
+		/** Finds the start of the first line after an offset.
+		 * 
+		 * @param offset Byte offset to search from.
+		 * @return the byte offset right after the next '\n', or the end of the range if there's none.
+		 */
+		private long nextLineStart(long offset) {
+			ByteBuffer chunk = ByteBuffer.allocate(256);
+			try {
+				while (offset < end) {
+					chunk.clear();
+					int read = channel.read(chunk, offset);
+					if (read <= 0) return end;
+					for (int i = 0; i < read; i++) {
+						if (chunk.get(i) == '\n') return offset + i + 1;
+					}
+					offset += read;
+				}
+			} catch (IOException ioe) {
+				System.out.println(ioe.getMessage());
+			}
+			return end;
+		}
+
+		@Override
+		public long estimateSize() {
+			return end - start;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | NONNULL;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package universalFunctions;
+
+import java.util.Arrays;
+
+/** Open-addressing hash map from primitive longs to primitive longs, meant for counting how often every
+ *  value comes up. Same layout as PositionLongMap, for keys that aren't positions.
+ * 
+ *  Clearing keeps the tables, so two maps can be swapped back and forth between the steps of a
+ *  simulation without allocating anything once they've grown.
+ */
+public class LongLongMap {
+
+	private static final long EMPTY = Long.MIN_VALUE;
+
+	/** Callback for iterating over the entries of the map.
+	 * 
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer {
+		void accept(long key, long value);
+	}
+
+	private long[] keys;
+	private long[] values;
+	private int mask;
+	private int size;
+	private boolean hasEmptyKey;
+	private long emptyKeyValue;
+
+	/** Constructor for an empty map.
+	 * 
+	 */
+	public LongLongMap() {
+		this(16);
+	}
+
+	/** Constructor for an empty map, sized so it won't resize before holding the expected number of keys.
+	 * 
+	 * @param expectedSize Expected number of keys.
+	 */
+	public LongLongMap(int expectedSize) {
+		int capacity = PositionSet.tableSize(expectedSize);
+		keys = new long[capacity];
+		values = new long[capacity];
+		Arrays.fill(keys, EMPTY);
+		mask = capacity - 1;
+	}
+
+	/** Returns the value of a key.
+	 * 
+	 * @param key Key to look up.
+	 * @param defaultValue Value to return if the key isn't in the map.
+	 * @return the value, or the default.
+	 */
+	public long get(long key, long defaultValue) {
+		if (key == EMPTY) return hasEmptyKey ? emptyKeyValue : defaultValue;
+
+		int slot = PositionSet.mix(key) & mask;
+		long current;
+		while ((current = keys[slot]) != EMPTY) {
+			if (current == key) return values[slot];
+			slot = (slot + 1) & mask;
+		}
+		return defaultValue;
+	}
+
+	/** Adds to the value of a key, starting from zero if it isn't in the map yet.
+	 * 
+	 * @param key Key to add to.
+	 * @param delta Amount to add.
+	 */
+	public void addTo(long key, long delta) {
+		if (key == EMPTY) {
+			if (!hasEmptyKey) size++;
+			hasEmptyKey = true;
+			emptyKeyValue += delta;
+			return;
+		}
+
+		int slot = PositionSet.mix(key) & mask;
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == key) {
+				values[slot] += delta;
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		values[slot] = delta;
+		if (++size * 2 > keys.length) rehash(keys.length * 2);
+	}
+
+	/** Picks which of several maps a key goes in, when the keys are split into shards. The shard comes
+	 *  from the high bits of the hash, and the slot in a map from the low bits, so every shard still
+	 *  spreads its keys over its whole table.
+	 * 
+	 * @param key Key to place.
+	 * @param shards Number of shards.
+	 * @return the shard of the key, from 0 up to shards - 1.
+	 */
+	public static int shardOf(long key, int shards) {
+		return (int) (((PositionSet.mix(key) >>> 1) * (long) shards) >>> 31);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/** Adds up every value in the map.
+	 * 
+	 * @return the sum of the values.
+	 */
+	public long sum() {
+		long total = hasEmptyKey ? emptyKeyValue : 0;
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != EMPTY) total += values[i];
+		}
+		return total;
+	}
+
+	/** Empties the map, keeping its tables.
+	 * 
+	 */
+	public void clear() {
+		Arrays.fill(keys, EMPTY);
+		hasEmptyKey = false;
+		emptyKeyValue = 0;
+		size = 0;
+	}
+
+	/** Runs an action on every entry of the map, in no particular order.
+	 * 
+	 * @param action Action to run.
+	 */
+	public void forEach(EntryConsumer action) {
+		if (hasEmptyKey) action.accept(EMPTY, emptyKeyValue);
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != EMPTY) action.accept(keys[i], values[i]);
+		}
+	}
+
+	private void rehash(int capacity) {
+		long[] oldKeys = keys;
+		long[] oldValues = values;
+		keys = new long[capacity];
+		values = new long[capacity];
+		Arrays.fill(keys, EMPTY);
+		mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] == EMPTY) continue;
+			int slot = PositionSet.mix(oldKeys[i]) & mask;
+			while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+			keys[slot] = oldKeys[i];
+			values[slot] = oldValues[i];
+		}
+	}
+}
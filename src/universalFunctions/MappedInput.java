@@ -0,0 +1,396 @@
+package universalFunctions;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class MappedInput {
+
+	private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+	private final ByteBuffer buffer;
+	private final int[] lineStarts;
+	private final int[] lineEnds;
+	private final int lineCount;
+
+	/** Constructor over an already loaded buffer. Finds the line offsets in one pass.
+	 * 
+	 * @param buffer ByteBuffer holding the whole puzzle input.
+	 */
+	public MappedInput(ByteBuffer buffer) {
+		this.buffer = buffer;
+
+		int size = buffer.limit();
+		int[] starts = new int[16];
+		int[] ends = new int[16];
+		int n = 0;
+		int start = 0;
+		for (int i = 0; i < size; i++) {
+			if (buffer.get(i) != '\n') continue;
+			if (n == starts.length) {
+				starts = Arrays.copyOf(starts, n * 2);
+				ends = Arrays.copyOf(ends, n * 2);
+			}
+			starts[n] = start;
+			ends[n] = (i > start && buffer.get(i - 1) == '\r') ? i - 1 : i;
+			n++;
+			start = i + 1;
+		}
+		// Last line without a trailing newline, the same way BufferedReader.readLine() treats it.
+		if (start < size) {
+			if (n == starts.length) {
+				starts = Arrays.copyOf(starts, n + 1);
+				ends = Arrays.copyOf(ends, n + 1);
+			}
+			starts[n] = start;
+			ends[n] = (buffer.get(size - 1) == '\r') ? size - 1 : size;
+			n++;
+		}
+
+		this.lineStarts = starts;
+		this.lineEnds = ends;
+		this.lineCount = n;
+	}
+
+	/** Memory-maps a puzzle input file. Nothing is copied onto the heap apart from the line offsets.
+	 *  Files larger than 2GB cannot be mapped into a single buffer.
+	 * 
+	 * @param puzzle File object of the puzzle input file path.
+	 * @return a MappedInput over the file, or an empty one if the file could not be read.
+	 */
+	public static MappedInput map(File puzzle) {
+		try (FileChannel channel = FileChannel.open(puzzle.toPath(), StandardOpenOption.READ)) {
+			return new MappedInput(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		} catch (IOException ioe) {
+			System.out.println(ioe.getMessage());
+			return new MappedInput(EMPTY);
+		}
+	}
+
+	/** Returns the size of the input in bytes.
+	 * 
+	 * @return Number of bytes in the input.
+	 */
+	public int size() {
+		return buffer.limit();
+	}
+
+	/** Returns the raw byte at an offset of the input.
+	 * 
+	 * @param offset Byte offset from the start of the input.
+	 * @return the byte at said offset.
+	 */
+	public byte byteAt(int offset) {
+		return buffer.get(offset);
+	}
+
+	/** Returns the number of lines in the input.
+	 * 
+	 * @return Number of lines.
+	 */
+	public int lineCount() {
+		return lineCount;
+	}
+
+	/** Returns the offset of the first character of a line.
+	 * 
+	 * @param line Line index.
+	 * @return Byte offset of the start of the line.
+	 */
+	public int lineStart(int line) {
+		return lineStarts[line];
+	}
+
+	/** Returns the offset right after the last character of a line, excluding the line separator.
+	 * 
+	 * @param line Line index.
+	 * @return Byte offset of the end of the line.
+	 */
+	public int lineEnd(int line) {
+		return lineEnds[line];
+	}
+
+	/** Returns the length of a line, excluding the line separator.
+	 * 
+	 * @param line Line index.
+	 * @return Length of the line.
+	 */
+	public int lineLength(int line) {
+		return lineEnds[line] - lineStarts[line];
+	}
+
+	/** Returns a view of a line. No characters are copied.
+	 * 
+	 * @param line Line index.
+	 * @return a CharSequence view of the line.
+	 */
+	public View line(int line) {
+		return new View(buffer, lineStarts[line], lineEnds[line]);
+	}
+
+	/** Returns a view of a range of the input. No characters are copied.
+	 * 
+	 * @param start Starting byte offset, inclusive.
+	 * @param end Ending byte offset, exclusive.
+	 * @return a CharSequence view of the range.
+	 */
+	public View view(int start, int end) {
+		return new View(buffer, start, end);
+	}
+
+	/** Returns a number scanner over a single line.
+	 * 
+	 * @param line Line index.
+	 * @return a NumberScanner over the line.
+	 */
+	public NumberScanner numbers(int line) {
+		return new NumberScanner(buffer, lineStarts[line], lineEnds[line]);
+	}
+
+	/** Returns a number scanner over the whole input.
+	 * 
+	 * @return a NumberScanner over the input.
+	 */
+	public NumberScanner numbers() {
+		return new NumberScanner(buffer, 0, buffer.limit());
+	}
+
+	/** Splits the input into sections, the blocks of lines separated by blank lines. A line with nothing
+	 *  on it is blank whether it ended with '\n' or "\r\n", so any newline style works. The sections are
+	 *  found in one pass over the line offsets, and no characters are copied.
+	 * 
+	 * @return a List of the Sections, in the order they appear.
+	 */
+	public List<Section> sections() {
+		List<Section> sections = new ArrayList<>();
+		int first = -1;
+		for (int line = 0; line < lineCount; line++) {
+			boolean blank = lineEnds[line] == lineStarts[line];
+			if (!blank && first == -1) {
+				first = line;
+			} else if (blank && first != -1) {
+				sections.add(new Section(this, first, line));
+				first = -1;
+			}
+		}
+		if (first != -1) sections.add(new Section(this, first, lineCount));
+		return sections;
+	}
+
+	/** Decodes the whole input into a String. This is the only method that copies the entire input.
+	 * 
+	 */
+	@Override
+	public String toString() {
+		byte[] bytes = new byte[buffer.limit()];
+		buffer.get(0, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/** Read-only CharSequence over a range of the input. Puzzle inputs are single-byte text,
+	 *  so every byte is a character.
+	 * 
+	 */
+	public static class View implements CharSequence {
+		private final ByteBuffer buffer;
+		private final int start;
+		private final int end;
+
+		View(ByteBuffer buffer, int start, int end) {
+			this.buffer = buffer;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public int length() {
+			return end - start;
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) (buffer.get(start + index) & 0xFF);
+		}
+
+		@Override
+		public View subSequence(int from, int to) {
+			return new View(buffer, start + from, start + to);
+		}
+
+		/** Returns the first index of a character in the view.
+		 * 
+		 * @param ch Character to find.
+		 * @return the index of the character, or -1 if it's not in the view.
+		 */
+		public int indexOf(char ch) {
+			for (int i = start; i < end; i++) {
+				if (buffer.get(i) == ch) return i - start;
+			}
+			return -1;
+		}
+
+		/** Parses the whole view as a (possibly negative) long number, without creating a String.
+		 * 
+		 * @return the parsed long number.
+		 */
+		public long parseLong() {
+			return new NumberScanner(buffer, start, end).nextLong();
+		}
+
+		/** Returns a number scanner over the view.
+		 * 
+		 * @return a NumberScanner over the view.
+		 */
+		public NumberScanner numbers() {
+			return new NumberScanner(buffer, start, end);
+		}
+
+		/** Copies the bytes of the view into an array.
+		 * 
+		 * @param destination Array to copy into.
+		 * @param offset Starting index in the destination array.
+		 */
+		public void copyTo(byte[] destination, int offset) {
+			buffer.get(start, destination, offset, end - start);
+		}
+
+		@Override
+		public String toString() {
+			byte[] bytes = new byte[end - start];
+			buffer.get(start, bytes);
+			return new String(bytes, StandardCharsets.ISO_8859_1);
+		}
+	}
+
+	/** Block of consecutive non-blank lines of the input. No characters are copied.
+	 * 
+	 */
+	public static class Section {
+		private final MappedInput input;
+		private final int firstLine;
+		private final int endLine;
+
+		Section(MappedInput input, int firstLine, int endLine) {
+			this.input = input;
+			this.firstLine = firstLine;
+			this.endLine = endLine;
+		}
+
+		/** Returns the number of lines in the section.
+		 * 
+		 * @return Number of lines.
+		 */
+		public int lineCount() {
+			return endLine - firstLine;
+		}
+
+		/** Returns a view of a line of the section.
+		 * 
+		 * @param line Line index, counted from the start of the section.
+		 * @return a CharSequence view of the line.
+		 */
+		public View line(int line) {
+			return input.line(firstLine + line);
+		}
+
+		/** Returns views of every line of the section.
+		 * 
+		 * @return a List of CharSequence views, one per line.
+		 */
+		public List<View> lines() {
+			List<View> lines = new ArrayList<>(lineCount());
+			for (int line = firstLine; line < endLine; line++) lines.add(input.line(line));
+			return lines;
+		}
+
+		/** Returns a number scanner over the whole section.
+		 * 
+		 * @return a NumberScanner over the section.
+		 */
+		public NumberScanner numbers() {
+			return new NumberScanner(input.buffer, input.lineStarts[firstLine], input.lineEnds[endLine - 1]);
+		}
+
+		/** Copies the section into a Grid of characters.
+		 * 
+		 * @return Grid of the section.
+		 */
+		public Grid grid() {
+			return Grid.fromLines(input, firstLine, endLine);
+		}
+
+		/** Decodes the section into a String, with the lines joined by '\n' whatever the input used.
+		 * 
+		 */
+		@Override
+		public String toString() {
+			return String.join("\n", lines());
+		}
+	}
+
+	/** Pulls every number out of a range of the input, skipping anything that isn't part of a number.
+	 *  A '-' directly in front of a digit makes the number negative.
+	 * 
+	 */
+	public static class NumberScanner {
+		private final ByteBuffer buffer;
+		private final int end;
+		private int cursor;
+
+		NumberScanner(ByteBuffer buffer, int start, int end) {
+			this.buffer = buffer;
+			this.cursor = start;
+			this.end = end;
+		}
+
+		/** Checks if there's another number left, moving the cursor to its first character.
+		 * 
+		 * @return Boolean value if there's another number.
+		 */
+		public boolean hasNext() {
+			while (cursor < end) {
+				byte b = buffer.get(cursor);
+				if (isDigit(b)) return true;
+				if (b == '-' && cursor + 1 < end && isDigit(buffer.get(cursor + 1))) return true;
+				cursor++;
+			}
+			return false;
+		}
+
+		/** Returns the next number.
+		 * 
+		 * @return the next long number.
+		 */
+		public long nextLong() {
+			if (!hasNext()) throw new IllegalStateException("No numbers left to scan!");
+
+			boolean negative = buffer.get(cursor) == '-';
+			if (negative) cursor++;
+
+			long result = 0;
+			while (cursor < end && isDigit(buffer.get(cursor))) {
+				result = result * 10 + (buffer.get(cursor) - '0');
+				cursor++;
+			}
+			return negative ? -result : result;
+		}
+
+		/** Returns the next number as an integer.
+		 * 
+		 * @return the next int number.
+		 */
+		public int nextInt() {
+			return Math.toIntExact(nextLong());
+		}
+
+		private static boolean isDigit(byte b) {
+			return b >= '0' && b <= '9';
+		}
+	}
+}
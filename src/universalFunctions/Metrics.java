@@ -0,0 +1,253 @@
+package universalFunctions;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters, timers and histograms for the inner loops of the solvers, so a change in the work a day does
+ * shows up as a changed count, and not just as noise in the wall-clock time.
+ * 
+ * Every metric belongs to a day, and is named after the day's class, like year2024.Day16.relaxations.
+ * The metrics are created once, as static fields of the day, and are backed by LongAdders so the parallel
+ * days and streams can update them without contention. Metrics are disabled by default, which makes every
+ * update a single check of a static boolean. The Runner turns them on with --metrics.
+ */
+public class Metrics {
+
+	// Not volatile on purpose: it's only switched before the days run, and a plain read is as cheap as it gets.
+	private static boolean enabled = false;
+	private static final Map<String, Metric> METRICS = new ConcurrentHashMap<>();
+
+	/** Something that adds its current values into a snapshot.
+	 * 
+	 */
+	private interface Metric {
+		long[] values();
+	}
+
+	/** Turns the metrics on or off.
+	 * 
+	 * @param on Boolean value if the metrics should be recorded.
+	 */
+	public static void enable(boolean on) {
+		enabled = on;
+	}
+
+	/** Checks if the metrics are being recorded.
+	 * 
+	 * @return Boolean value if the metrics are on.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/** Returns the counter of a day, creating it the first time.
+	 * 
+	 * @param day Class of the day the counter belongs to.
+	 * @param name Name of the counter.
+	 * @return the Counter.
+	 */
+	public static Counter counter(Class<?> day, String name) {
+		return (Counter) METRICS.computeIfAbsent(day.getName() + "." + name, key -> new Counter());
+	}
+
+	/** Returns the timer of a day, creating it the first time.
+	 * 
+	 * @param day Class of the day the timer belongs to.
+	 * @param name Name of the timer.
+	 * @return the Timer.
+	 */
+	public static Timer timer(Class<?> day, String name) {
+		return (Timer) METRICS.computeIfAbsent(day.getName() + "." + name, key -> new Timer());
+	}
+
+	/** Returns the histogram of a day, creating it the first time.
+	 * 
+	 * @param day Class of the day the histogram belongs to.
+	 * @param name Name of the histogram.
+	 * @return the Histogram.
+	 */
+	public static Histogram histogram(Class<?> day, String name) {
+		return (Histogram) METRICS.computeIfAbsent(day.getName() + "." + name, key -> new Histogram());
+	}
+
+	/** Takes the current values of every metric whose name starts with a prefix.
+	 * 
+	 * @param prefix Start of the names, like the name of a day's class.
+	 * @return a Snapshot of the metrics.
+	 */
+	public static Snapshot snapshot(String prefix) {
+		Map<String, long[]> values = new TreeMap<>();
+		for (Map.Entry<String, Metric> entry: METRICS.entrySet()) {
+			if (entry.getKey().startsWith(prefix)) values.put(entry.getKey().substring(prefix.length()), entry.getValue().values());
+		}
+		return new Snapshot(values);
+	}
+
+	/** Counts how often something happened.
+	 * 
+	 */
+	public static class Counter implements Metric {
+		private final LongAdder count = new LongAdder();
+
+		/** Adds one to the counter.
+		 * 
+		 */
+		public void increment() {
+			if (enabled) count.increment();
+		}
+
+		/** Adds to the counter.
+		 * 
+		 * @param amount Amount to add.
+		 */
+		public void add(long amount) {
+			if (enabled) count.add(amount);
+		}
+
+		@Override
+		public long[] values() {
+			return new long[] {count.sum()};
+		}
+	}
+
+	/** Adds up the time spent in a stretch of code, and how often it ran. Meant for whole stages of a
+	 *  part, as reading the clock costs more than a counter does.
+	 * 
+	 */
+	public static class Timer implements Metric {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+
+		/** Starts timing.
+		 * 
+		 * @return the start time to hand to stop(), or 0 if the metrics are off.
+		 */
+		public long start() {
+			return enabled ? System.nanoTime() : 0;
+		}
+
+		/** Stops timing.
+		 * 
+		 * @param start Start time returned by start().
+		 */
+		public void stop(long start) {
+			if (!enabled || start == 0) return;
+			nanos.add(System.nanoTime() - start);
+			count.increment();
+		}
+
+		@Override
+		public long[] values() {
+			return new long[] {count.sum(), nanos.sum()};
+		}
+	}
+
+	/** Records how values are spread, in power-of-two buckets. Bucket k holds the values from 2^(k-1)
+	 *  up to 2^k - 1, and bucket 0 holds zero and the negative values.
+	 * 
+	 */
+	public static class Histogram implements Metric {
+		private static final int BUCKETS = 64;
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder sum = new LongAdder();
+		private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+		Histogram() {
+			for (int i = 0; i < BUCKETS; i++) buckets[i] = new LongAdder();
+		}
+
+		/** Records a value.
+		 * 
+		 * @param value Value to record.
+		 */
+		public void record(long value) {
+			if (!enabled) return;
+			count.increment();
+			sum.add(value);
+			buckets[(value <= 0) ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value))].increment();
+		}
+
+		@Override
+		public long[] values() {
+			long[] values = new long[2 + BUCKETS];
+			values[0] = count.sum();
+			values[1] = sum.sum();
+			for (int i = 0; i < BUCKETS; i++) values[2 + i] = buckets[i].sum();
+			return values;
+		}
+	}
+
+	/** Values of a set of metrics at one point in time. Every value is a running total, so the difference
+	 *  between two snapshots holds exactly what happened in between, even while other days update their
+	 *  own metrics.
+	 * 
+	 */
+	public static class Snapshot {
+		private final Map<String, long[]> values;
+
+		Snapshot(Map<String, long[]> values) {
+			this.values = values;
+		}
+
+		/** Returns what happened since an earlier snapshot.
+		 * 
+		 * @param earlier Snapshot taken before this one.
+		 * @return a Snapshot of the differences.
+		 */
+		public Snapshot since(Snapshot earlier) {
+			Map<String, long[]> differences = new TreeMap<>();
+			for (Map.Entry<String, long[]> entry: values.entrySet()) {
+				long[] now = entry.getValue();
+				long[] before = earlier.values.getOrDefault(entry.getKey(), new long[now.length]);
+				long[] difference = new long[now.length];
+				for (int i = 0; i < now.length; i++) difference[i] = now[i] - before[i];
+				differences.put(entry.getKey(), difference);
+			}
+			return new Snapshot(differences);
+		}
+
+		/** Flattens the snapshot into named numbers, leaving out metrics that never changed. A counter is
+		 *  one number. A timer is its count and total milliseconds. A histogram is its count, mean, and
+		 *  the upper bounds of the buckets holding the median, the 99th percentile and the maximum.
+		 * 
+		 * @return a SortedMap of the names to their numbers.
+		 */
+		public SortedMap<String, Long> toMap() {
+			SortedMap<String, Long> flat = new TreeMap<>();
+			for (Map.Entry<String, long[]> entry: values.entrySet()) {
+				String name = entry.getKey();
+				long[] v = entry.getValue();
+				if (v[0] == 0) continue;
+
+				if (v.length == 1) {
+					flat.put(name, v[0]);
+				} else if (v.length == 2) {
+					flat.put(name + ".count", v[0]);
+					flat.put(name + ".ms", v[1] / 1_000_000);
+				} else {
+					flat.put(name + ".count", v[0]);
+					flat.put(name + ".mean", v[1] / v[0]);
+					flat.put(name + ".p50", percentile(v, 0.5));
+					flat.put(name + ".p99", percentile(v, 0.99));
+					flat.put(name + ".max", percentile(v, 1.0));
+				}
+			}
+			return flat;
+		}
+
+		private static long percentile(long[] histogram, double fraction) {
+			long rank = (long) Math.ceil(histogram[0] * fraction);
+			long seen = 0;
+			for (int bucket = 0; bucket < histogram.length - 2; bucket++) {
+				seen += histogram[2 + bucket];
+				if (seen >= rank) return (bucket == 0) ? 0 : (1L << bucket) - 1;
+			}
+			return Long.MAX_VALUE;
+		}
+	}
+}
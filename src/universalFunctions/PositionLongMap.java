@@ -0,0 +1,191 @@
+package universalFunctions;
+
+import java.util.Arrays;
+
+import universalFunctions.CommonObjects.Position;
+
+/** Open-addressing hash map from packed positions (see Position.pack) to primitive longs. Same layout
+ *  as PositionSet, with the values in a parallel long[].
+ * 
+ */
+public class PositionLongMap {
+
+	private static final long EMPTY = Long.MIN_VALUE;
+
+	/** Callback for iterating over the entries of the map.
+	 * 
+	 */
+	@FunctionalInterface
+	public interface EntryConsumer {
+		void accept(long key, long value);
+	}
+
+	private long[] keys;
+	private long[] values;
+	private int mask;
+	private int size;
+	private boolean hasEmptyKey;
+	private long emptyKeyValue;
+
+	/** Constructor for an empty map.
+	 * 
+	 */
+	public PositionLongMap() {
+		this(16);
+	}
+
+	/** Constructor for an empty map, sized so it won't resize before holding the expected number of positions.
+	 * 
+	 * @param expectedSize Expected number of positions.
+	 */
+	public PositionLongMap(int expectedSize) {
+		int capacity = PositionSet.tableSize(expectedSize);
+		keys = new long[capacity];
+		values = new long[capacity];
+		Arrays.fill(keys, EMPTY);
+		mask = capacity - 1;
+	}
+
+	private int slotOf(long key) {
+		int slot = PositionSet.mix(key) & mask;
+		long current;
+		while ((current = keys[slot]) != EMPTY) {
+			if (current == key) return slot;
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	public long get(int r, int c, long defaultValue) {
+		return get(Position.pack(r, c), defaultValue);
+	}
+
+	/** Returns the value of a packed position.
+	 * 
+	 * @param key Packed position.
+	 * @param defaultValue Value to return if the position isn't in the map.
+	 * @return the value, or the default.
+	 */
+	public long get(long key, long defaultValue) {
+		if (key == EMPTY) return hasEmptyKey ? emptyKeyValue : defaultValue;
+		int slot = slotOf(key);
+		return (slot < 0) ? defaultValue : values[slot];
+	}
+
+	public boolean containsKey(long key) {
+		if (key == EMPTY) return hasEmptyKey;
+		return slotOf(key) >= 0;
+	}
+
+	public void put(int r, int c, long value) {
+		put(Position.pack(r, c), value);
+	}
+
+	/** Sets the value of a packed position.
+	 * 
+	 * @param key Packed position.
+	 * @param value Value to set.
+	 */
+	public void put(long key, long value) {
+		if (key == EMPTY) {
+			if (!hasEmptyKey) size++;
+			hasEmptyKey = true;
+			emptyKeyValue = value;
+			return;
+		}
+
+		int slot = PositionSet.mix(key) & mask;
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == key) {
+				values[slot] = value;
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		values[slot] = value;
+		if (++size * 2 > keys.length) rehash(keys.length * 2);
+	}
+
+	/** Adds to the value of a packed position, starting from zero if it isn't in the map yet.
+	 * 
+	 * @param key Packed position.
+	 * @param delta Amount to add.
+	 */
+	public void addTo(long key, long delta) {
+		if (key == EMPTY) {
+			put(key, get(key, 0) + delta);
+			return;
+		}
+
+		int slot = PositionSet.mix(key) & mask;
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == key) {
+				values[slot] += delta;
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		values[slot] = delta;
+		if (++size * 2 > keys.length) rehash(keys.length * 2);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/** Empties the map, keeping its tables.
+	 * 
+	 */
+	public void clear() {
+		Arrays.fill(keys, EMPTY);
+		hasEmptyKey = false;
+		size = 0;
+	}
+
+	/** Runs an action on every entry of the map, in no particular order.
+	 * 
+	 * @param action Action to run.
+	 */
+	public void forEach(EntryConsumer action) {
+		if (hasEmptyKey) action.accept(EMPTY, emptyKeyValue);
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != EMPTY) action.accept(keys[i], values[i]);
+		}
+	}
+
+	/** Returns every packed position in the map, in no particular order.
+	 * 
+	 * @return a long array of the keys.
+	 */
+	public long[] keys() {
+		long[] result = new long[size];
+		int n = 0;
+		if (hasEmptyKey) result[n++] = EMPTY;
+		for (long key: keys) {
+			if (key != EMPTY) result[n++] = key;
+		}
+		return result;
+	}
+
+	private void rehash(int capacity) {
+		long[] oldKeys = keys;
+		long[] oldValues = values;
+		keys = new long[capacity];
+		values = new long[capacity];
+		Arrays.fill(keys, EMPTY);
+		mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] == EMPTY) continue;
+			int slot = PositionSet.mix(oldKeys[i]) & mask;
+			while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+			keys[slot] = oldKeys[i];
+			values[slot] = oldValues[i];
+		}
+	}
+}
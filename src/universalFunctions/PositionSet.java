@@ -0,0 +1,206 @@
+package universalFunctions;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+import universalFunctions.CommonObjects.Position;
+
+/** Open-addressing hash set of packed positions (see Position.pack). Keys are kept in a single long[]
+ *  with linear probing, so nothing is boxed and no node objects are created.
+ * 
+ */
+public class PositionSet {
+
+	private static final long EMPTY = Long.MIN_VALUE;
+
+	private long[] keys;
+	private int mask;
+	private int size;
+	private boolean hasEmptyKey;
+
+	/** Constructor for an empty set.
+	 * 
+	 */
+	public PositionSet() {
+		this(16);
+	}
+
+	/** Constructor for an empty set, sized so it won't resize before holding the expected number of positions.
+	 * 
+	 * @param expectedSize Expected number of positions.
+	 */
+	public PositionSet(int expectedSize) {
+		int capacity = tableSize(expectedSize);
+		keys = new long[capacity];
+		Arrays.fill(keys, EMPTY);
+		mask = capacity - 1;
+	}
+
+	/** Mixes the bits of a key, so neighbouring positions spread across the table.
+	 * 
+	 * @param key Packed position.
+	 * @return hash of the key.
+	 */
+	static int mix(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	/** Returns a power of two table size that keeps the load factor at or below one half.
+	 * 
+	 * @param expectedSize Expected number of keys.
+	 * @return table size.
+	 */
+	static int tableSize(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(4, expectedSize) * 2 - 1) << 1;
+		if (capacity <= 0) throw new IllegalArgumentException("Too many positions: " + expectedSize);
+		return capacity;
+	}
+
+	public boolean add(int r, int c) {
+		return add(Position.pack(r, c));
+	}
+
+	/** Adds a packed position.
+	 * 
+	 * @param key Packed position.
+	 * @return true if the position wasn't in the set yet.
+	 */
+	public boolean add(long key) {
+		if (key == EMPTY) {
+			if (hasEmptyKey) return false;
+			hasEmptyKey = true;
+			size++;
+			return true;
+		}
+
+		int slot = mix(key) & mask;
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == key) return false;
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		if (++size * 2 > keys.length) rehash(keys.length * 2);
+		return true;
+	}
+
+	public boolean contains(int r, int c) {
+		return contains(Position.pack(r, c));
+	}
+
+	/** Checks if a packed position is in the set.
+	 * 
+	 * @param key Packed position.
+	 * @return Boolean value if the position is in the set.
+	 */
+	public boolean contains(long key) {
+		if (key == EMPTY) return hasEmptyKey;
+
+		int slot = mix(key) & mask;
+		long current;
+		while ((current = keys[slot]) != EMPTY) {
+			if (current == key) return true;
+			slot = (slot + 1) & mask;
+		}
+		return false;
+	}
+
+	/** Removes a packed position. Following keys are shifted back, so no tombstones are left behind.
+	 * 
+	 * @param key Packed position.
+	 * @return true if the position was in the set.
+	 */
+	public boolean remove(long key) {
+		if (key == EMPTY) {
+			if (!hasEmptyKey) return false;
+			hasEmptyKey = false;
+			size--;
+			return true;
+		}
+
+		int gap = mix(key) & mask;
+		while (keys[gap] != key) {
+			if (keys[gap] == EMPTY) return false;
+			gap = (gap + 1) & mask;
+		}
+
+		int slot = (gap + 1) & mask;
+		while (keys[slot] != EMPTY) {
+			int ideal = mix(keys[slot]) & mask;
+			if (((slot - ideal) & mask) >= ((slot - gap) & mask)) {
+				keys[gap] = keys[slot];
+				gap = slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[gap] = EMPTY;
+		size--;
+		return true;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/** Empties the set, keeping its table.
+	 * 
+	 */
+	public void clear() {
+		Arrays.fill(keys, EMPTY);
+		hasEmptyKey = false;
+		size = 0;
+	}
+
+	/** Runs an action on every packed position in the set, in no particular order.
+	 * 
+	 * @param action Action to run.
+	 */
+	public void forEach(LongConsumer action) {
+		if (hasEmptyKey) action.accept(EMPTY);
+		for (long key: keys) {
+			if (key != EMPTY) action.accept(key);
+		}
+	}
+
+	/** Returns every packed position in the set, in no particular order.
+	 * 
+	 * @return a long array of the packed positions.
+	 */
+	public long[] toArray() {
+		long[] result = new long[size];
+		int n = 0;
+		if (hasEmptyKey) result[n++] = EMPTY;
+		for (long key: keys) {
+			if (key != EMPTY) result[n++] = key;
+		}
+		return result;
+	}
+
+	private void rehash(int capacity) {
+		long[] oldKeys = keys;
+		keys = new long[capacity];
+		Arrays.fill(keys, EMPTY);
+		mask = capacity - 1;
+		for (long key: oldKeys) {
+			if (key == EMPTY) continue;
+			int slot = mix(key) & mask;
+			while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+			keys[slot] = key;
+		}
+	}
+
+	// Formatting purposes.
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("[");
+		forEach(key -> {
+			if (builder.length() > 1) builder.append(", ");
+			builder.append(String.format("(%d, %d)", Position.row(key), Position.column(key)));
+		});
+		return builder.append(']').toString();
+	}
+}
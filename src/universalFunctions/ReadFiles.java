@@ -1,14 +1,16 @@
 package universalFunctions;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+
+import universalFunctions.MappedInput.Section;
+import universalFunctions.MappedInput.View;
 
 public class ReadFiles {
 
@@ -18,17 +20,10 @@ public class ReadFiles {
 	 * @return List of Strings read line-by-line.
 	 */
 	public static List<String> readLineByLine(File puzzle) {
-		List<String> lines = new ArrayList<String>();
-		try {
-			FileReader convertedFile = new FileReader(puzzle);
-			BufferedReader reader = new BufferedReader(convertedFile);
-			String readLine;
-			while ((readLine = reader.readLine()) != null) {
-				lines.add(readLine);
-			}
-			reader.close();
-		} catch (IOException ioe) {
-			System.out.println(ioe.getMessage());
+		MappedInput input = MappedInput.map(puzzle);
+		List<String> lines = new ArrayList<String>(input.lineCount());
+		for (int i = 0; i < input.lineCount(); i++) {
+			lines.add(input.line(i).toString());
 		}
 		return lines;
 	}
@@ -49,8 +44,23 @@ public class ReadFiles {
 		return sections;
 	}
 	
+	/** Reads the puzzle input file and splits it into the blocks separated by blank lines.
+	 * 
+	 * @param puzzle File object of the puzzle input file path.
+	 * @return List of Strings of the blocks, with their lines joined by '\n'.
+	 */
 	public static List<String> readDoubleGap(File puzzle) {
-		return readCustomGap(puzzle, System.lineSeparator() + System.lineSeparator());
+		return readSections(puzzle).stream().map(Section::toString).toList();
+	}
+	
+	/** Reads the puzzle input file and splits it into the blocks separated by blank lines, in a single pass
+	 *  and whatever newlines the file uses. The Sections are views into the memory-mapped file.
+	 * 
+	 * @param puzzle File object of the puzzle input file path.
+	 * @return List of Sections, one per block.
+	 */
+	public static List<Section> readSections(File puzzle) {
+		return MappedInput.map(puzzle).sections();
 	}
 	
 	/** Reads a file and return a 2-dimensional ArrayList of Strings.
@@ -59,17 +69,10 @@ public class ReadFiles {
 	 * @return 2-dimensional ArrayList of Strings read from the file.
 	 */
 	public static List<List<String>> readIntoMatrix(File puzzle) {
-		List<List<String>> matrix = new ArrayList<>();
-		try {
-			FileReader convertedFile = new FileReader(puzzle);
-			BufferedReader reader = new BufferedReader(convertedFile);
-			String readLine;
-			while ((readLine = reader.readLine()) != null) {
-				matrix.add(Arrays.asList(readLine.split("")));
-			}
-			reader.close();
-		} catch (IOException ioe) {
-			System.out.println(ioe.getMessage());
+		MappedInput input = MappedInput.map(puzzle);
+		List<List<String>> matrix = new ArrayList<>(input.lineCount());
+		for (int i = 0; i < input.lineCount(); i++) {
+			matrix.add(Arrays.asList(input.line(i).toString().split("")));
 		}
 		return matrix;
 	}
@@ -82,7 +85,7 @@ public class ReadFiles {
 	public static List<List<String>> parseIntoMatrix(String grid) {
 		List<List<String>> matrix = new ArrayList<>();
 		
-		String[] rows = grid.split(System.lineSeparator());
+		String[] rows = grid.split("\\R");
 		for (String row: rows) {
 			String[] elements = row.split("");
 			matrix.add(Arrays.asList(elements));
@@ -91,6 +94,26 @@ public class ReadFiles {
 		return matrix;
 	}
 	
+	/** Reads a file into a Grid of characters.
+	 * 
+	 * @param puzzle File object of the puzzle input file path.
+	 * @return Grid read from the file.
+	 */
+	public static Grid readIntoGrid(File puzzle) {
+		MappedInput input = MappedInput.map(puzzle);
+		return Grid.fromLines(input, 0, input.lineCount());
+	}
+	
+	/** Parses a String representing a 2-dimensional grid into a Grid.
+	 * 
+	 * @param grid String grid to convert.
+	 * @return Grid of the String.
+	 */
+	public static Grid parseIntoGrid(String grid) {
+		MappedInput input = new MappedInput(ByteBuffer.wrap(grid.getBytes(StandardCharsets.ISO_8859_1)));
+		return Grid.fromLines(input, 0, input.lineCount());
+	}
+	
 	/** Prints a Matrix.
 	 * 
 	 * @param list 2D List of Strings.
@@ -113,6 +136,14 @@ public class ReadFiles {
 		}
 	}
 	
+	/** Prints a Matrix.
+	 * 
+	 * @param grid Grid of characters.
+	 */
+	public static void printMatrix(Grid grid) {
+		System.out.print(grid);
+	}
+	
 	/** Prints a Map (or Dictionary), line-by-line.
 	 * 
 	 * @param <K> Object type of the key.
@@ -131,12 +162,25 @@ public class ReadFiles {
 	 * @return A String containing the puzzle input itself.
 	 */
 	public static String readFileRaw(File puzzle) {
-		String result = "";
-		try {
-			result = Files.readString(puzzle.toPath());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-		return result;
+		return MappedInput.map(puzzle).toString();
+	}
+	
+	/** Opens a file to pull its lines one at a time, in constant memory.
+	 * 
+	 * @param puzzle File object of the puzzle input file path.
+	 * @return LineSource over the lines of the file.
+	 */
+	public static LineSource openLines(File puzzle) {
+		return LineSource.open(puzzle);
+	}
+	
+	/** Streams the lines of a file in constant memory. Every line is only valid while it's processed.
+	 * 
+	 * @param puzzle File object of the puzzle input file path.
+	 * @param parallel Boolean value if the file should be split at line boundaries and read in parallel.
+	 * @return Stream of the lines, to be closed after use.
+	 */
+	public static Stream<View> streamLines(File puzzle, boolean parallel) {
+		return LineSource.lines(puzzle, parallel);
 	}
 }
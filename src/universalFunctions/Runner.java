@@ -0,0 +1,340 @@
+package universalFunctions;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+import generators.Generators;
+import universalFunctions.SolverRegistry.Entry;
+
+/**
+ * Runs any selection of days in one JVM, and reports the time and memory allocated by every phase.
+ * With --parallel, the days run at the same time on a ForkJoinPool, each day as its own task.
+ * The allocated bytes of a phase count every thread of the JVM, so the work a day hands to the common
+ * pool is included. With --parallel, they only count the day's own thread, and are marked as partial.
+ * With --scale, the days run on generated inputs that many times the size of an official input.
+ * With --metrics, the counters, timers and histograms of the days' inner loops are reported for every phase.
+ * 
+ * Usage: Runner [--year YYYY] [--day N] [--part 1|2] [--format table|json] [--input folder] [--warmup N] [--parallel] [--scale N] [--seed S] [--metrics]
+ */
+public class Runner {
+
+	private static final String USAGE = "Usage: Runner [--year YYYY] [--day N] [--part 1|2] [--format table|json] [--input folder] [--warmup N] [--parallel] [--scale N] [--seed S] [--metrics]";
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+	/** Time, allocated memory, metrics and result of one phase of a day.
+	 * 
+	 * @param nanos Wall-clock time in nanoseconds.
+	 * @param allocatedBytes Bytes allocated during the phase, or -1 if the JVM can't measure it.
+	 * @param allThreads Boolean value if the bytes count every thread, and not only the day's own.
+	 * @param metrics Metrics of the day recorded during the phase, empty if they're off.
+	 * @param answer What the phase returned.
+	 */
+	public record Measurement(long nanos, long allocatedBytes, boolean allThreads, SortedMap<String, Long> metrics, Object answer) {}
+
+	/** Measurements of one day. Parts that were not selected are null.
+	 * 
+	 * @param entry The day that ran.
+	 * @param parse Measurement of parsing the input.
+	 * @param part1 Measurement of the first part.
+	 * @param part2 Measurement of the second part.
+	 * @param error Message of the exception that stopped the day, or null.
+	 */
+	public record Result(Entry entry, Measurement parse, Measurement part1, Measurement part2, String error) {}
+
+	public static void main(String[] args) {
+		int year = 0;
+		int day = 0;
+		int part = 0;
+		int warmup = 0;
+		int scale = 0;
+		long seed = 0;
+		boolean parallel = false;
+		String format = "table";
+		File inputFolder = new File("input");
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+				case "--year" -> year = Integer.parseInt(args[++i]);
+				case "--day" -> day = Integer.parseInt(args[++i]);
+				case "--part" -> part = Integer.parseInt(args[++i]);
+				case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+				case "--format" -> format = args[++i];
+				case "--input" -> inputFolder = new File(args[++i]);
+				case "--parallel" -> parallel = true;
+				case "--scale" -> scale = Integer.parseInt(args[++i]);
+				case "--seed" -> seed = Long.parseLong(args[++i]);
+				case "--metrics" -> Metrics.enable(true);
+				default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+				}
+			}
+			if (scale < 0) throw new IllegalArgumentException("Scale can't be negative");
+			if (part < 0 || part > 2) throw new IllegalArgumentException("Part must be 1 or 2");
+			if (!format.equals("table") && !format.equals("json")) throw new IllegalArgumentException("Format must be table or json");
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			System.out.println(e.getMessage());
+			System.out.println(USAGE);
+			return;
+		}
+
+		List<Entry> entries = SolverRegistry.select(year, day);
+		if (entries.isEmpty()) {
+			System.out.println("No days found for the selection.");
+			return;
+		}
+		if (scale > 0) {
+			inputFolder = Generators.writeTemporaryInputs(entries, scale, seed);
+			if (inputFolder == null) return;
+		}
+
+		for (int n = 0; n < warmup; n++) runAll(entries, inputFolder, part, parallel);
+		List<Result> results = runAll(entries, inputFolder, part, parallel);
+
+		System.out.print(format.equals("json") ? toJson(results) : toTable(results));
+	}
+
+	/** Runs every day, one after the other or in parallel.
+	 * 
+	 * The days are independent of each other, as every day keeps its state in its parsed input or in
+	 * objects made for a single call, and its static fields only hold constants, so each one can be a
+	 * separate ForkJoinPool task. A day's phases still run in order on one thread. Days that run in
+	 * parallel share the pool's threads, so their allocated bytes can't be told apart, and only the
+	 * bytes of a day's own thread are counted. Anything a day hands to the pool is left out.
+	 * 
+	 * @param entries Days to run.
+	 * @param inputFolder Folder holding one folder of puzzle inputs per year.
+	 * @param part Part to run, or 0 for both.
+	 * @param parallel Boolean value if the days should run in parallel.
+	 * @return a List of the Results, in the same order as the days.
+	 */
+	public static List<Result> runAll(List<Entry> entries, File inputFolder, int part, boolean parallel) {
+		List<Result> results = new ArrayList<>();
+		if (!parallel) {
+			for (Entry entry: entries) results.add(run(entry, inputFolder, part, true));
+			return results;
+		}
+
+		List<ForkJoinTask<Result>> tasks = new ArrayList<>();
+		for (Entry entry: entries) {
+			tasks.add(ForkJoinPool.commonPool().submit(() -> run(entry, inputFolder, part, false)));
+		}
+		for (ForkJoinTask<Result> task: tasks) results.add(task.join());
+
+		return results;
+	}
+
+	/** Runs a day, measuring every phase separately.
+	 * 
+	 * @param entry Day to run.
+	 * @param inputFolder Folder holding one folder of puzzle inputs per year.
+	 * @param part Part to run, or 0 for both.
+	 * @param allThreads Boolean value if the allocated bytes should count every thread, which is only
+	 *  right when no other day runs at the same time.
+	 * @return the Result of the day.
+	 */
+	public static Result run(Entry entry, File inputFolder, int part, boolean allThreads) {
+		return run(entry, entry.solver(), entry.puzzleFile(inputFolder), part, allThreads);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Result run(Entry entry, Solver<T> solver, File puzzleFile, int part, boolean allThreads) {
+		Measurement parse = null;
+		Measurement part1 = null;
+		Measurement part2 = null;
+
+		String metricsPrefix = solver.getClass().getName() + ".";
+
+		try {
+			parse = measure(() -> solver.parse(puzzleFile), metricsPrefix, allThreads);
+			T puzzle = (T) parse.answer();
+			if (part != 2) part1 = measure(() -> solver.part1(puzzle), metricsPrefix, allThreads);
+			if (part != 1) part2 = measure(() -> solver.part2(puzzle), metricsPrefix, allThreads);
+		} catch (RuntimeException e) {
+			return new Result(entry, parse, part1, part2, e.toString());
+		}
+
+		return new Result(entry, parse, part1, part2, null);
+	}
+
+	/** Runs a task on the current thread, measuring its wall-clock time, allocated bytes and metrics.
+	 *  The metrics are the difference of two snapshots of the day's own metrics, so other days running
+	 *  in parallel don't show up in them.
+	 * 
+	 * @param task Task to measure.
+	 * @param metricsPrefix Start of the names of the day's metrics.
+	 * @param allThreads Boolean value if the allocated bytes should count every thread.
+	 * @return a Measurement of the task.
+	 */
+	private static Measurement measure(Supplier<Object> task, String metricsPrefix, boolean allThreads) {
+		Metrics.Snapshot metricsBefore = Metrics.isEnabled() ? Metrics.snapshot(metricsPrefix) : null;
+		long bytesBefore = allThreads ? totalAllocatedBytes() : allocatedBytes();
+		long start = System.nanoTime();
+		Object answer = task.get();
+		long nanos = System.nanoTime() - start;
+		long bytesAfter = allThreads ? totalAllocatedBytes() : allocatedBytes();
+
+		long allocated = (bytesBefore < 0 || bytesAfter < 0) ? -1 : bytesAfter - bytesBefore;
+		SortedMap<String, Long> metrics = (metricsBefore == null) ? new TreeMap<>()
+				: Metrics.snapshot(metricsPrefix).since(metricsBefore).toMap();
+		return new Measurement(nanos, allocated, allThreads, metrics, answer);
+	}
+
+	/** Returns the bytes allocated by the current thread so far.
+	 * 
+	 * @return Allocated bytes, or -1 if the JVM can't measure it.
+	 */
+	public static long allocatedBytes() {
+		if (THREADS instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemorySupported()) {
+			return threads.getCurrentThreadAllocatedBytes();
+		}
+		return -1;
+	}
+
+	/** Returns the bytes allocated by every thread of the JVM so far, including threads that have
+	 *  ended. Other threads of the JVM allocate a little too, so it's an approximation.
+	 * 
+	 * @return Allocated bytes, or -1 if the JVM can't measure it.
+	 */
+	public static long totalAllocatedBytes() {
+		if (THREADS instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemorySupported()
+				&& threads.isThreadAllocatedMemoryEnabled()) {
+			return threads.getTotalThreadAllocatedBytes();
+		}
+		return -1;
+	}
+
+	/** Formats the results as a table, one row per day. Allocated bytes that only count the day's own
+	 *  thread end in a '*', with a note under the table.
+	 * 
+	 * @param results List of Results.
+	 * @return the table as a String.
+	 */
+	public static String toTable(List<Result> results) {
+		StringBuilder builder = new StringBuilder();
+		String format = "%-4s %3s %14s %14s %14s %14s %14s %14s  %s%n";
+
+		builder.append(String.format(format, "Year", "Day", "Parse ns", "Parse B", "Part 1 ns", "Part 1 B",
+				"Part 2 ns", "Part 2 B", "Answers"));
+		for (Result result: results) {
+			String answers = (result.error() != null) ? result.error()
+					: answer(result.part1()) + " | " + answer(result.part2());
+			builder.append(String.format(format, result.entry().year(), result.entry().day(),
+					nanos(result.parse()), bytes(result.parse()),
+					nanos(result.part1()), bytes(result.part1()),
+					nanos(result.part2()), bytes(result.part2()), answers));
+			appendMetrics(builder, "parse", result.parse());
+			appendMetrics(builder, "part1", result.part1());
+			appendMetrics(builder, "part2", result.part2());
+		}
+		if (results.stream().anyMatch(Runner::isPartial)) {
+			builder.append("* Allocated bytes of the day's own thread only, as the days ran in parallel.\n");
+		}
+
+		return builder.toString();
+	}
+
+	private static void appendMetrics(StringBuilder builder, String phase, Measurement measurement) {
+		if (measurement == null) return;
+		for (Map.Entry<String, Long> metric: measurement.metrics().entrySet()) {
+			builder.append(String.format("%8s  %s %s = %d%n", "", phase, metric.getKey(), metric.getValue()));
+		}
+	}
+
+	/** Formats the results as a JSON array, one object per day.
+	 * 
+	 * @param results List of Results.
+	 * @return the JSON array as a String.
+	 */
+	public static String toJson(List<Result> results) {
+		StringBuilder builder = new StringBuilder("[\n");
+
+		for (int i = 0; i < results.size(); i++) {
+			Result result = results.get(i);
+			builder.append("  {\"year\": ").append(result.entry().year())
+					.append(", \"day\": ").append(result.entry().day())
+					.append(", \"parse\": ").append(toJson(result.parse(), false))
+					.append(", \"part1\": ").append(toJson(result.part1(), true))
+					.append(", \"part2\": ").append(toJson(result.part2(), true))
+					.append(", \"error\": ").append(quote(result.error()))
+					.append('}');
+			builder.append(i < results.size() - 1 ? ",\n" : "\n");
+		}
+
+		return builder.append("]\n").toString();
+	}
+
+	private static String toJson(Measurement measurement, boolean withAnswer) {
+		if (measurement == null) return "null";
+
+		StringBuilder builder = new StringBuilder();
+		builder.append("{\"nanos\": ").append(measurement.nanos())
+				.append(", \"allocatedBytes\": ").append(measurement.allocatedBytes())
+				.append(", \"allocatedBytesAllThreads\": ").append(measurement.allThreads());
+		if (!measurement.metrics().isEmpty()) {
+			builder.append(", \"metrics\": {");
+			String separator = "";
+			for (Map.Entry<String, Long> metric: measurement.metrics().entrySet()) {
+				builder.append(separator).append(quote(metric.getKey())).append(": ").append(metric.getValue());
+				separator = ", ";
+			}
+			builder.append('}');
+		}
+		if (withAnswer) builder.append(", \"answer\": ").append(quote(String.valueOf(measurement.answer())));
+		return builder.append('}').toString();
+	}
+
+	/** Quotes and escapes a String for JSON.
+	 * 
+	 * @param s String to quote, or null.
+	 * @return the JSON String literal, or null.
+	 */
+	public static String quote(String s) {
+		if (s == null) return "null";
+
+		StringBuilder builder = new StringBuilder("\"");
+		for (char ch: s.toCharArray()) {
+			switch (ch) {
+			case '"' -> builder.append("\\\"");
+			case '\\' -> builder.append("\\\\");
+			case '\n' -> builder.append("\\n");
+			case '\r' -> builder.append("\\r");
+			case '\t' -> builder.append("\\t");
+			default -> {
+				if (ch < 0x20) builder.append(String.format("\\u%04x", (int) ch));
+				else builder.append(ch);
+			}
+			}
+		}
+		return builder.append('"').toString();
+	}
+
+	private static String nanos(Measurement measurement) {
+		return (measurement == null) ? "-" : String.valueOf(measurement.nanos());
+	}
+
+	private static String bytes(Measurement measurement) {
+		if (measurement == null) return "-";
+		if (measurement.allocatedBytes() < 0) return "n/a";
+		return measurement.allocatedBytes() + (measurement.allThreads() ? "" : "*");
+	}
+
+	private static boolean isPartial(Result result) {
+		for (Measurement measurement: new Measurement[] { result.parse(), result.part1(), result.part2() }) {
+			if (measurement != null && !measurement.allThreads()) return true;
+		}
+		return false;
+	}
+
+	private static String answer(Measurement measurement) {
+		return (measurement == null) ? "-" : String.valueOf(measurement.answer());
+	}
+}
@@ -0,0 +1,53 @@
+package universalFunctions;
+
+import java.io.File;
+
+/** A single day of Advent of Code. The puzzle input is parsed once, and both parts are solved from
+ *  the parsed input. Answers are returned instead of printed, so that days can be run and timed
+ *  from the Runner.
+ * 
+ * @param <T> Type of the parsed puzzle input.
+ */
+public interface Solver<T> {
+
+	/** Reads and parses the puzzle input.
+	 * 
+	 * @param puzzleFile File object of the puzzle input file path.
+	 * @return the parsed puzzle input.
+	 */
+	T parse(File puzzleFile);
+
+	/** Solves the first part of the puzzle.
+	 * 
+	 * @param puzzle Parsed puzzle input.
+	 * @return the answer to the first part.
+	 */
+	Object part1(T puzzle);
+
+	/** Solves the second part of the puzzle.
+	 * 
+	 * @param puzzle Parsed puzzle input.
+	 * @return the answer to the second part.
+	 */
+	Object part2(T puzzle);
+
+	/** Returns the file name of the puzzle input, inside the folder of its year.
+	 * 
+	 * @return File name of the puzzle input.
+	 */
+	default String inputName() {
+		return getClass().getSimpleName() + ".txt";
+	}
+
+	/** Parses the puzzle input and prints the answers of both parts.
+	 * 
+	 * @param <T> Type of the parsed puzzle input.
+	 * @param solver Solver of the day.
+	 * @param puzzleFile File object of the puzzle input file path.
+	 */
+	static <T> void printAnswers(Solver<T> solver, File puzzleFile) {
+		T puzzle = solver.parse(puzzleFile);
+		System.out.println("Part 1: " + solver.part1(puzzle));
+		System.out.println("Part 2: " + solver.part2(puzzle));
+	}
+}
@@ -0,0 +1,83 @@
+package universalFunctions;
+
+import java.io.File;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SolverRegistry {
+
+	private static final int FIRST_YEAR = 2015;
+	private static final int LAST_DAY = 25;
+
+	/** A discovered day, together with its solver.
+	 * 
+	 * @param year Year of the puzzle.
+	 * @param day Day of the puzzle.
+	 * @param solver Solver of the puzzle.
+	 */
+	public record Entry(int year, int day, Solver<?> solver) {
+
+		/** Returns the puzzle input file of this day.
+		 * 
+		 * @param inputFolder Folder holding one folder of puzzle inputs per year.
+		 * @return File object of the puzzle input file path.
+		 */
+		public File puzzleFile(File inputFolder) {
+			return new File(new File(inputFolder, String.valueOf(year)), solver.inputName());
+		}
+	}
+
+	/** Finds every day that implements Solver. Days live in the class yearYYYY.DayN, so every possible
+	 *  class name is looked up instead of scanning the classpath.
+	 * 
+	 * @return a List of every day, ordered by year and then day.
+	 */
+	public static List<Entry> discover() {
+		List<Entry> entries = new ArrayList<>();
+
+		for (int year = FIRST_YEAR; year <= Year.now().getValue(); year++) {
+			for (int day = 1; day <= LAST_DAY; day++) {
+				Solver<?> solver = load("year" + year + ".Day" + day);
+				if (solver != null) entries.add(new Entry(year, day, solver));
+			}
+		}
+
+		return entries;
+	}
+
+	/** Finds every day matching a year and a day.
+	 * 
+	 * @param year Year to select, or 0 for every year.
+	 * @param day Day to select, or 0 for every day.
+	 * @return a List of the selected days, ordered by year and then day.
+	 */
+	public static List<Entry> select(int year, int day) {
+		List<Entry> selected = new ArrayList<>();
+
+		for (Entry entry: discover()) {
+			if (year != 0 && entry.year() != year) continue;
+			if (day != 0 && entry.day() != day) continue;
+			selected.add(entry);
+		}
+
+		return selected;
+	}
+
+	/** Creates the solver of a day.
+	 * 
+	 * @param className Fully qualified class name of the day.
+	 * @return the Solver, or null if there's no such class or it isn't a Solver.
+	 */
+	private static Solver<?> load(String className) {
+		try {
+			Class<?> dayClass = Class.forName(className);
+			if (!Solver.class.isAssignableFrom(dayClass)) return null;
+			return (Solver<?>) dayClass.getDeclaredConstructor().newInstance();
+		} catch (ClassNotFoundException cnfe) {
+			return null;
+		} catch (ReflectiveOperationException roe) {
+			throw new IllegalStateException("Could not create the solver of " + className, roe);
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package universalFunctions;
+
+/** Disjoint sets over the integers 0 to n - 1, usually the flat indices of a Grid. Sets are merged by
+ *  size and paths are halved on every find, so both operations take nearly constant time.
+ * 
+ */
+public class UnionFind {
+
+	private final int[] parent;
+	private final int[] size;
+	private int components;
+
+	/** Constructor, with every element in a set of its own.
+	 * 
+	 * @param n Number of elements.
+	 */
+	public UnionFind(int n) {
+		this.parent = new int[n];
+		this.size = new int[n];
+		for (int i = 0; i < n; i++) {
+			parent[i] = i;
+			size[i] = 1;
+		}
+		this.components = n;
+	}
+
+	/** Finds the representative of the set holding an element.
+	 * 
+	 * @param x Element to look up.
+	 * @return the representative of its set.
+	 */
+	public int find(int x) {
+		while (parent[x] != x) {
+			parent[x] = parent[parent[x]];
+			x = parent[x];
+		}
+		return x;
+	}
+
+	/** Merges the sets holding two elements.
+	 * 
+	 * @param a First element.
+	 * @param b Second element.
+	 * @return true if they were in different sets.
+	 */
+	public boolean union(int a, int b) {
+		int rootA = find(a);
+		int rootB = find(b);
+		if (rootA == rootB) return false;
+
+		if (size[rootA] < size[rootB]) {
+			int swap = rootA;
+			rootA = rootB;
+			rootB = swap;
+		}
+		parent[rootB] = rootA;
+		size[rootA] += size[rootB];
+		components--;
+		return true;
+	}
+
+	public boolean connected(int a, int b) {
+		return find(a) == find(b);
+	}
+
+	/** Returns the size of the set holding an element.
+	 * 
+	 * @param x Element to look up.
+	 * @return the number of elements in its set.
+	 */
+	public int size(int x) {
+		return size[find(x)];
+	}
+
+	public int components() {
+		return components;
+	}
+}
@@ -3,11 +3,12 @@ package year2023;
 import static java.util.Map.entry;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
+import universalFunctions.MappedInput.View;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -15,13 +16,35 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day1 {
+public class Day1 implements Solver<File> {
 
 	public static void main(String[] args) {
-		File puzzle = new File("input/2023/dayOne.txt");
-		List<String> puzzleLines = ReadFiles.readLineByLine(puzzle);
-		Day1_1.part(puzzleLines);
-		Day1_2.part(puzzleLines);
+		Solver.printAnswers(new Day1(), new File("input/2023/dayOne.txt"));
+	}
+
+	// Every line holds its own calibration value, so the lines are streamed straight from the file.
+	@Override
+	public File parse(File puzzleFile) {
+		return puzzleFile;
+	}
+
+	@Override
+	public Object part1(File puzzleFile) {
+		try (Stream<View> puzzleLines = ReadFiles.streamLines(puzzleFile, true)) {
+			return Day1_1.part(puzzleLines);
+		}
+	}
+
+	@Override
+	public Object part2(File puzzleFile) {
+		try (Stream<View> puzzleLines = ReadFiles.streamLines(puzzleFile, true)) {
+			return Day1_2.part(puzzleLines);
+		}
+	}
+
+	@Override
+	public String inputName() {
+		return "dayOne.txt";
 	}
 }
 
@@ -36,18 +59,11 @@ class Day1_1 {
 	/**
 	 * Solves Advent of Code 2023 Day 1-1.
 	 * 
-	 * @param puzzleLines List of Strings read from the file line-by-line.
+	 * @param puzzleLines Stream of the lines of the file.
+	 * @return The answer to the first part.
 	 */
-	public static void part(List<String> puzzleLines) {
-		List<Integer> results = new ArrayList<>();
-
-		for (String s : puzzleLines) {
-			String numString = getFirstAndLastNumber(s);
-			int result = Integer.valueOf(numString);
-			results.add(result);
-		}
-
-		System.out.println("Part 1: " + results.stream().mapToInt(Integer::intValue).sum());
+	public static int part(Stream<View> puzzleLines) {
+		return puzzleLines.mapToInt(s -> Integer.valueOf(getFirstAndLastNumber(s.toString()))).sum();
 	}
 
 	/**
@@ -95,18 +111,11 @@ class Day1_2 {
 	/**
 	 * Solves Advent of Code Day 1-2.
 	 * 
-	 * @param puzzleLines List of Strings read from a file line-by-line.
+	 * @param puzzleLines Stream of the lines of the file.
+	 * @return The answer to the second part.
 	 */
-	public static void part(List<String> puzzleLines) {
-		List<Integer> results = new ArrayList<>();
-
-		for (String s : puzzleLines) {
-			String numString = getFirstAndLastNumber(s);
-			int result = Integer.valueOf(numString);
-			results.add(result);
-		}
-
-		System.out.println("Part 2: " + results.stream().mapToInt(Integer::intValue).sum());
+	public static int part(Stream<View> puzzleLines) {
+		return puzzleLines.mapToInt(s -> Integer.valueOf(getFirstAndLastNumber(s.toString()))).sum();
 	}
 
 	/**
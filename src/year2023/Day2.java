@@ -6,8 +6,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import universalFunctions.MappedInput.View;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -15,13 +18,35 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day2 {
-	// Runner code
+public class Day2 implements Solver<File> {
+
 	public static void main(String[] args) {
-		File puzzle = new File("input/2023/dayTwo.txt");
-		List<String> puzzleLines = ReadFiles.readLineByLine(puzzle);
-		Day2_1.part(puzzleLines);
-		Day2_2.part(puzzleLines);
+		Solver.printAnswers(new Day2(), new File("input/2023/dayTwo.txt"));
+	}
+
+	// Every game is checked on its own, so the games are streamed straight from the file.
+	@Override
+	public File parse(File puzzleFile) {
+		return puzzleFile;
+	}
+
+	@Override
+	public Object part1(File puzzleFile) {
+		try (Stream<View> puzzleLines = ReadFiles.streamLines(puzzleFile, true)) {
+			return Day2_1.part(puzzleLines);
+		}
+	}
+
+	@Override
+	public Object part2(File puzzleFile) {
+		try (Stream<View> puzzleLines = ReadFiles.streamLines(puzzleFile, true)) {
+			return Day2_2.part(puzzleLines);
+		}
+	}
+
+	@Override
+	public String inputName() {
+		return "dayTwo.txt";
 	}
 }
 
@@ -45,19 +70,14 @@ class Day2_1 {
 	/**
 	 * Solves Advent of Code Day 2-1.
 	 * 
-	 * @param puzzleInput Map mapping integers to lists of maps containing string
-	 *                    keys and integer values.
+	 * @param puzzleLines Stream of the lines of the file, one game each.
+	 * @return The answer to the first part.
 	 */
-	public static void part(List<String> puzzleLines) {
-		Map<Integer, List<Map<String, Integer>>> puzzleInput = parseString(puzzleLines);
-		int results = 0;
-
-		for (Map.Entry<Integer, List<Map<String, Integer>>> entry : puzzleInput.entrySet()) {
-			if (isPossible(entry.getValue()))
-				results += entry.getKey();
-		}
-
-		System.out.println("Part 1: " + results);
+	public static int part(Stream<View> puzzleLines) {
+		return puzzleLines.filter(line -> !line.isEmpty()).mapToInt(line -> {
+			String game = line.toString();
+			return isPossible(parseGame(game)) ? getGameNumber(game) : 0;
+		}).sum();
 	}
 
 	/**
@@ -82,32 +102,35 @@ class Day2_1 {
 	}
 
 	/**
-	 * Parses the input into the necessary data structure.
+	 * Returns the number of a game.
+	 * 
+	 * @param line String line of the game.
+	 * @return the Integer game number.
+	 */
+	public static int getGameNumber(String line) {
+		return Integer.valueOf(line.substring(line.indexOf(" ") + 1, line.indexOf(":")));
+	}
+
+	/**
+	 * Parses a game into the necessary data structure.
 	 * 
-	 * @param input String input read line-by-line
-	 * @return a Map of the Integer game number as keys and a list of maps
-	 *         containing the colour and number of cubes shown at an instance.
+	 * @param line String line of the game.
+	 * @return a list of maps containing the colour and number of cubes shown at an
+	 *         instance.
 	 */
-	public static Map<Integer, List<Map<String, Integer>>> parseString(List<String> input) {
-		Map<Integer, List<Map<String, Integer>>> result = new HashMap<>();
-
-		int i = 1;
-		for (String line : input) {
-			String newLine = line.substring(line.indexOf(":") + 2);
-			List<Map<String, Integer>> shownRes = new ArrayList<>();
-			for (String shown : newLine.split(";")) {
-				Map<String, Integer> mapResult = new HashMap<>();
-				for (String entry : shown.split(",")) {
-					String[] numberAndColour = entry.trim().split(" ");
-					mapResult.put(numberAndColour[1], Integer.valueOf(numberAndColour[0]));
-				}
-				shownRes.add(mapResult);
+	public static List<Map<String, Integer>> parseGame(String line) {
+		String newLine = line.substring(line.indexOf(":") + 2);
+		List<Map<String, Integer>> shownRes = new ArrayList<>();
+		for (String shown : newLine.split(";")) {
+			Map<String, Integer> mapResult = new HashMap<>();
+			for (String entry : shown.split(",")) {
+				String[] numberAndColour = entry.trim().split(" ");
+				mapResult.put(numberAndColour[1], Integer.valueOf(numberAndColour[0]));
 			}
-			result.put(i, shownRes);
-			i++;
+			shownRes.add(mapResult);
 		}
 
-		return result;
+		return shownRes;
 	}
 }
 
@@ -122,22 +145,17 @@ class Day2_2 {
 	/**
 	 * Solves Advent of Code Day 2-2.
 	 * 
-	 * @param puzzleInput Map mapping integers to lists of maps containing string
-	 *                    keys and integer values.
+	 * @param puzzleLines Stream of the lines of the file, one game each.
+	 * @return The answer to the second part.
 	 */
-	public static void part(List<String> puzzleLines) {
-		Map<Integer, List<Map<String, Integer>>> puzzleInput = parseString(puzzleLines);
-		int results = 0;
-
-		for (List<Map<String, Integer>> values : puzzleInput.values()) {
+	public static int part(Stream<View> puzzleLines) {
+		return puzzleLines.filter(line -> !line.isEmpty()).mapToInt(line -> {
 			int product = 1;
-			Map<String, Integer> fewestElements = getFewestElements(values);
+			Map<String, Integer> fewestElements = getFewestElements(Day2_1.parseGame(line.toString()));
 			for (int i : fewestElements.values())
 				product *= i;
-			results += product;
-		}
-
-		System.out.println("Part 2: " + results);
+			return product;
+		}).sum();
 	}
 
 	/**
@@ -164,33 +182,4 @@ class Day2_2 {
 
 		return fewestElements;
 	}
-
-	/**
-	 * Parses the input into the necessary data structure.
-	 * 
-	 * @param input String input read line-by-line
-	 * @return a Map of the Integer game number as keys and a list of maps
-	 *         containing the colour and number of cubes shown at an instance.
-	 */
-	public static Map<Integer, List<Map<String, Integer>>> parseString(List<String> input) {
-		Map<Integer, List<Map<String, Integer>>> result = new HashMap<>();
-
-		int i = 1;
-		for (String line : input) {
-			String newLine = line.substring(line.indexOf(":") + 2);
-			List<Map<String, Integer>> shownRes = new ArrayList<>();
-			for (String shown : newLine.split(";")) {
-				Map<String, Integer> mapResult = new HashMap<>();
-				for (String entry : shown.split(",")) {
-					String[] numberAndColour = entry.trim().split(" ");
-					mapResult.put(numberAndColour[1], Integer.valueOf(numberAndColour[0]));
-				}
-				shownRes.add(mapResult);
-			}
-			result.put(i, shownRes);
-			i++;
-		}
-
-		return result;
-	}
 }
@@ -6,7 +6,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import universalFunctions.Grid;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -14,14 +16,30 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day3 {
+public class Day3 implements Solver<Grid> {
 
 	public static void main(String[] args) {
-		File puzzle = new File("input/2023/day3.txt");
-		List<List<String>> puzzleLines = ReadFiles.readIntoMatrix(puzzle);
-		ReadFiles.printMatrix(puzzleLines);
-		Day3_1.part(puzzleLines);
-		Day3_2.part(puzzleLines);
+		Solver.printAnswers(new Day3(), new File("input/2023/day3.txt"));
+	}
+
+	@Override
+	public Grid parse(File puzzleFile) {
+		return ReadFiles.readIntoGrid(puzzleFile);
+	}
+
+	@Override
+	public Object part1(Grid puzzleLines) {
+		return Day3_1.part(puzzleLines);
+	}
+
+	@Override
+	public Object part2(Grid puzzleLines) {
+		return Day3_2.part(puzzleLines);
+	}
+
+	@Override
+	public String inputName() {
+		return "day3.txt";
 	}
 }
 
@@ -36,30 +54,30 @@ class Day3_1 {
 	/**
 	 * Solves Advent of Code 2023 Day 3-1.
 	 * 
-	 * @param puzzleLines List of list of Strings read from the file line-by-line.
+	 * @param puzzleLines Grid read from the file.
+	 * @return The answer to the first part.
 	 */
-	public static void part(List<List<String>> puzzleLines) {
+	public static int part(Grid puzzleLines) {
 		List<Integer> result = validNumbers(puzzleLines);
 
-		System.out.println("Part 1: " + result.stream().mapToInt(Integer::intValue).sum());
+		return result.stream().mapToInt(Integer::intValue).sum();
 	}
 
 	/**
 	 * Returns a list of Integers that has a special, non-dot character surrounding
 	 * it.
 	 * 
-	 * @param lines List of list of strings from the puzzle input file.
+	 * @param lines Grid from the puzzle input file.
 	 * @return A list of Integers that has adjacency with a special character.
 	 */
-	public static List<Integer> validNumbers(List<List<String>> lines) {
+	public static List<Integer> validNumbers(Grid lines) {
 		List<Integer> result = new ArrayList<>();
 
-		for (int i = 0; i < lines.size(); i++) {
+		for (int i = 0; i < lines.getHeight(); i++) {
 			String currentNumber = "";
 			boolean hasAnySpecials = false;
-			List<String> listOfCharacters = lines.get(i);
-			for (int j = 0; j < listOfCharacters.size(); j++) {
-				String current = listOfCharacters.get(j);
+			for (int j = 0; j < lines.getWidth(); j++) {
+				char current = lines.get(i, j);
 				if (!checkDigit(current)) {
 					if (hasAnySpecials)
 						result.add(Integer.valueOf(currentNumber));
@@ -78,35 +96,31 @@ class Day3_1 {
 	}
 
 	/**
-	 * Checks if the single length String is a digit.
+	 * Checks if the character is a digit.
 	 * 
-	 * @param s single length String to check.
-	 * @return Boolean value if the String is a digit.
+	 * @param s character to check.
+	 * @return Boolean value if the character is a digit.
 	 */
-	public static boolean checkDigit(String s) {
-		return Character.isDigit(s.charAt(0));
+	public static boolean checkDigit(char s) {
+		return Character.isDigit(s);
 	}
 
 	/**
 	 * Checks the surroundings of a tile and returns a boolean value based on
 	 * whether or not the search found a special character.
 	 * 
-	 * @param board  Board state as list of list of singly length Strings.
+	 * @param board  Board state as a Grid.
 	 * @param iindex vertical Integer index
 	 * @param jindex horizontal Integer index
 	 * @return Boolean value of whether its neighbors are anything special.
 	 */
-	public static boolean checkSurroundings(List<List<String>> board, int iindex, int jindex) {
+	public static boolean checkSurroundings(Grid board, int iindex, int jindex) {
 		final int[][] DIRECTIONS = { { -1, 1 }, { 0, 1 }, { 1, 1 }, { -1, 0 }, { 0, 0 }, { 1, 0 }, { -1, -1 },
 				{ 0, -1 }, { 1, -1 } };
 		for (int[] direction : DIRECTIONS) {
-			try {
-				String adjacentCharacter = board.get(iindex + direction[1]).get(jindex + direction[0]);
-				if (!(checkDigit(adjacentCharacter) || adjacentCharacter.contains(".")))
-					return true;
-			} catch (IndexOutOfBoundsException ioobe) {
-				continue;
-			}
+			char adjacentCharacter = board.getOrDefault(iindex + direction[1], jindex + direction[0], '.');
+			if (!(checkDigit(adjacentCharacter) || adjacentCharacter == '.'))
+				return true;
 		}
 		return false;
 	}
@@ -123,9 +137,10 @@ class Day3_2 {
 	/**
 	 * Solves Advent of Code 2023 Day 3-2.
 	 * 
-	 * @param puzzleLines List of list of Strings read from the file line-by-line.
+	 * @param puzzleLines Grid read from the file.
+	 * @return The answer to the second part.
 	 */
-	public static void part(List<List<String>> puzzleLines) {
+	public static int part(Grid puzzleLines) {
 		Map<List<Integer>, List<Integer>> result = validNumbers(puzzleLines);
 		int finalResult = 0;
 		for (List<Integer> numsList : result.values()) {
@@ -134,25 +149,24 @@ class Day3_2 {
 			}
 		}
 
-		System.out.println("Part 2: " + finalResult);
+		return finalResult;
 	}
 
 	/**
 	 * Returns a list of Integers that has a special, non-dot character surrounding
 	 * it.
 	 * 
-	 * @param lines List of list of strings from the puzzle input file.
+	 * @param lines Grid from the puzzle input file.
 	 * @return A list of Integers that has adjacency with a special character.
 	 */
-	public static Map<List<Integer>, List<Integer>> validNumbers(List<List<String>> lines) {
+	public static Map<List<Integer>, List<Integer>> validNumbers(Grid lines) {
 		Map<List<Integer>, List<Integer>> result = new HashMap<>();
 
-		for (int i = 0; i < lines.size(); i++) {
+		for (int i = 0; i < lines.getHeight(); i++) {
 			String currentNumber = "";
 			List<Integer> coords = new ArrayList<>();
-			List<String> listOfCharacters = lines.get(i);
-			for (int j = 0; j < listOfCharacters.size(); j++) {
-				String current = listOfCharacters.get(j);
+			for (int j = 0; j < lines.getWidth(); j++) {
+				char current = lines.get(i, j);
 				if (!checkDigit(current)) {
 					if (coords != null && !coords.isEmpty()) {
 						if (result.keySet().contains(coords))
@@ -186,13 +200,13 @@ class Day3_2 {
 	}
 
 	/**
-	 * Checks if the single length String is a digit.
+	 * Checks if the character is a digit.
 	 * 
-	 * @param s single length String to check.
-	 * @return Boolean value if the String is a digit.
+	 * @param s character to check.
+	 * @return Boolean value if the character is a digit.
 	 */
-	public static boolean checkDigit(String s) {
-		return Character.isDigit(s.charAt(0));
+	public static boolean checkDigit(char s) {
+		return Character.isDigit(s);
 	}
 
 	/**
@@ -200,26 +214,21 @@ class Day3_2 {
 	 * coordinates for the gear symbol. Returns null if the search doesn't come up
 	 * with any gear icons.
 	 * 
-	 * @param board  Board state as list of list of singly length Strings.
+	 * @param board  Board state as a Grid.
 	 * @param iindex vertical Integer index
 	 * @param jindex horizontal Integer index
 	 * @return Integer Array of Size 2 containing the coordinates of the gear icon.
 	 */
-	public static List<Integer> checkSurroundings(List<List<String>> board, int iindex, int jindex) {
+	public static List<Integer> checkSurroundings(Grid board, int iindex, int jindex) {
 		final int[][] DIRECTIONS = { { -1, 1 }, { 0, 1 }, { 1, 1 }, { -1, 0 }, { 0, 0 }, { 1, 0 }, { -1, -1 },
 				{ 0, -1 }, { 1, -1 } };
 		for (int[] direction : DIRECTIONS) {
-			try {
-				String adjacentCharacter = board.get(iindex + direction[1]).get(jindex + direction[0]);
-				if (!checkDigit(adjacentCharacter) && adjacentCharacter.contains("*")) {
-					List<Integer> results = new ArrayList<Integer>();
-					results.add(iindex + direction[1]);
-					results.add(jindex + direction[0]);
-					return results;
-				}
-				;
-			} catch (IndexOutOfBoundsException ioobe) {
-				continue;
+			char adjacentCharacter = board.getOrDefault(iindex + direction[1], jindex + direction[0], '.');
+			if (adjacentCharacter == '*') {
+				List<Integer> results = new ArrayList<Integer>();
+				results.add(iindex + direction[1]);
+				results.add(jindex + direction[0]);
+				return results;
 			}
 		}
 		return null;
@@ -3,13 +3,15 @@ package year2023;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
+import universalFunctions.LineSource;
+import universalFunctions.MappedInput.View;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -17,13 +19,30 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day4 {
+public class Day4 implements Solver<File> {
 
 	public static void main(String[] args) {
-		File puzzle = new File("input/2023/Day4.txt");
-		List<String> puzzleLines = ReadFiles.readLineByLine(puzzle);
-		Part1.part(puzzleLines);
-		Part2.part(puzzleLines);
+		Solver.printAnswers(new Day4(), new File("input/2023/Day4.txt"));
+	}
+
+	// The cards are scored one at a time, so they're streamed straight from the file.
+	@Override
+	public File parse(File puzzleFile) {
+		return puzzleFile;
+	}
+
+	@Override
+	public Object part1(File puzzleFile) {
+		try (Stream<View> cards = ReadFiles.streamLines(puzzleFile, true)) {
+			return Part1.part(cards);
+		}
+	}
+
+	@Override
+	public Object part2(File puzzleFile) {
+		try (LineSource cards = ReadFiles.openLines(puzzleFile)) {
+			return Part2.part(cards);
+		}
 	}
 
 	/**
@@ -37,17 +56,11 @@ public class Day4 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param cards Stream of the lines of the file, one card each.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<String> puzzleLines) {
-			int totalScore = 0;
-
-			for (String card : puzzleLines) {
-				int pointsAchieved = getPointsFromCard(card);
-				totalScore += pointsAchieved;
-			}
-
-			System.out.println("Part 1: " + totalScore);
+		public static int part(Stream<View> cards) {
+			return cards.mapToInt(card -> getPointsFromCard(card.toString())).sum();
 		}
 
 		/**
@@ -90,25 +103,30 @@ public class Day4 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * Copies only ever go to the next few cards, so only the copies won for the cards
+		 * still ahead are kept, as the cards are pulled in order.
+		 * 
+		 * @param cards LineSource over the lines of the file, one card each.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<String> puzzleLines) {
-			Map<Integer, Integer> numberOfCards = new HashMap<>();
-			for (int i = 0; i < puzzleLines.size(); i++) {
-				numberOfCards.put(i + 1, 1);
-			}
+		public static int part(LineSource cards) {
+			List<Integer> wonCopies = new ArrayList<>();
+			int totalCards = 0;
+
+			while (cards.next()) {
+				if (cards.line().isEmpty()) continue;
+
+				int currentNumberOfCards = 1 + (wonCopies.isEmpty() ? 0 : wonCopies.remove(0));
+				totalCards += currentNumberOfCards;
 
-			int index = 1;
-			for (String card : puzzleLines) {
-				final int currentNumberOfCards = numberOfCards.get(index);
-				int numberOfWinningNumbers = getNumberOfWinnings(card);
+				int numberOfWinningNumbers = getNumberOfWinnings(cards.line().toString());
 				for (int i = 0; i < numberOfWinningNumbers; i++) {
-					numberOfCards.computeIfPresent(index + (i + 1), (k, v) -> v + currentNumberOfCards);
+					if (i < wonCopies.size()) wonCopies.set(i, wonCopies.get(i) + currentNumberOfCards);
+					else wonCopies.add(currentNumberOfCards);
 				}
-				index++;
 			}
 
-			System.out.println("Part 2: " + numberOfCards.values().stream().mapToInt(Integer::valueOf).sum());
+			return totalCards;
 		}
 
 		/**
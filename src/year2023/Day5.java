@@ -5,11 +5,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import universalFunctions.MappedInput.NumberScanner;
+import universalFunctions.MappedInput.Section;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -17,36 +18,44 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day5 {
+public class Day5 implements Solver<Day5.Almanac> {
+
+	record Almanac(List<Long> seeds, List<List<String>> mapStrings) {}
 
 	public static void main(String[] args) {
-		File puzzle = new File("input/2023/Day5.txt");
-		String puzzleContent = ReadFiles.readFileRaw(puzzle);
-		List<String> seeds = new ArrayList<>();
+		Solver.printAnswers(new Day5(), new File("input/2023/Day5.txt"));
+	}
+
+	@Override
+	public Almanac parse(File puzzleFile) {
+		List<Section> sections = ReadFiles.readSections(puzzleFile);
+		List<Long> intSeeds = new ArrayList<>();
 		List<List<String>> mapStrings = new ArrayList<>();
 
-		Pattern pattern = Pattern.compile(
-				"seeds: (.+)(?:\\r|\\n|\\r\\n){2}" + "seed-to-soil map:(?:\\r|\\n|\\r\\n)(.+)(?:\\r|\\n|\\r\\n){2}"
-						+ "soil-to-fertilizer map:(?:\\r|\\n|\\r\\n)(.+)(?:\\r|\\n|\\r\\n){2}"
-						+ "fertilizer-to-water map:(?:\\r|\\n|\\r\\n)(.+)(?:\\r|\\n|\\r\\n){2}"
-						+ "water-to-light map:(?:\\r|\\n|\\r\\n)(.+)(?:\\r|\\n|\\r\\n){2}"
-						+ "light-to-temperature map:(?:\\r|\\n|\\r\\n)\\n(.+)(?:\\r|\\n|\\r\\n){2}"
-						+ "temperature-to-humidity map:(?:\\r|\\n|\\r\\n)(.+)(?:\\r|\\n|\\r\\n){2}"
-						+ "humidity-to-location map:(?:\\r|\\n|\\r\\n)(.+)",
-				Pattern.DOTALL);
-		Matcher matcher = pattern.matcher(puzzleContent);
-		if (matcher.find()) {
-			seeds = Arrays.asList(matcher.group(1).strip().split(" "));
-			for (int i = 2; i < 9; i++) {
-				List<String> conversionMap = new ArrayList<>();
-				conversionMap = Arrays.asList(matcher.group(i).strip().split("\\r\\n"));
-				mapStrings.add(conversionMap);
+		NumberScanner seeds = sections.get(0).numbers();
+		while (seeds.hasNext()) {
+			intSeeds.add(seeds.nextLong());
+		}
+		// Every map is a section, its title line followed by one conversion per line.
+		for (Section map : sections.subList(1, sections.size())) {
+			List<String> conversionMap = new ArrayList<>();
+			for (int i = 1; i < map.lineCount(); i++) {
+				conversionMap.add(map.line(i).toString());
 			}
+			mapStrings.add(conversionMap);
 		}
-		List<Long> intSeeds = seeds.stream().map(Long::valueOf).collect(Collectors.toList());
 
-		Part1.part(intSeeds, mapStrings);
-		Part2.part(intSeeds, mapStrings);
+		return new Almanac(intSeeds, mapStrings);
+	}
+
+	@Override
+	public Object part1(Almanac almanac) {
+		return Part1.part(almanac.seeds(), almanac.mapStrings());
+	}
+
+	@Override
+	public Object part2(Almanac almanac) {
+		return Part2.part(almanac.seeds(), almanac.mapStrings());
 	}
 
 	/**
@@ -61,12 +70,12 @@ public class Day5 {
 		 * Solves the first part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<Long> seeds, List<List<String>> mapStrings) {
+		public static long part(List<Long> seeds, List<List<String>> mapStrings) {
 			List<List<Long>> seedHistory = new ArrayList<>();
 
 			seedHistory.add(seeds);
-			System.out.println(seeds);
 			for (List<String> conversionMap : mapStrings) {
 				Long[] newSeeds = new Long[seeds.size()];
 				for (String information : conversionMap) {
@@ -90,7 +99,7 @@ public class Day5 {
 			}
 
 			Collections.sort(seeds);
-			System.out.println("Part 1: " + seeds.getFirst());
+			return seeds.getFirst();
 		}
 
 	}
@@ -107,8 +116,9 @@ public class Day5 {
 		 * Solves the second part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<Long> seeds, List<List<String>> mapStrings) {
+		public static long part(List<Long> seeds, List<List<String>> mapStrings) {
 			List<List<List<Long>>> seedHistory = new ArrayList<>();
 			List<List<Long>> seedRanges = new ArrayList<>();
 			for (int i = 0; i < seeds.size(); i += 2) {
@@ -158,7 +168,7 @@ public class Day5 {
 			List<Long> flatSeeds = seedRanges.stream().flatMap(listItem -> listItem.stream())
 					.collect(Collectors.toList());
 			Collections.sort(flatSeeds);
-			System.out.println("Part 2: " + flatSeeds.getFirst());
+			return flatSeeds.getFirst();
 		}
 	}
 }
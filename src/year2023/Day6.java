@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -12,14 +13,25 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day6 {
+public class Day6 implements Solver<List<String>> {
 
 	public static void main(String[] args) {
-		File puzzle = new File("input/2023/Day6.txt");
-		List<String> puzzleLines = ReadFiles.readLineByLine(puzzle);
+		Solver.printAnswers(new Day6(), new File("input/2023/Day6.txt"));
+	}
+
+	@Override
+	public List<String> parse(File puzzleFile) {
+		return ReadFiles.readLineByLine(puzzleFile);
+	}
+
+	@Override
+	public Object part1(List<String> puzzleLines) {
+		return Part1.part(puzzleLines);
+	}
 
-		Part1.part(puzzleLines);
-		Part2.part(puzzleLines);
+	@Override
+	public Object part2(List<String> puzzleLines) {
+		return Part2.part(puzzleLines);
 	}
 
 	/**
@@ -34,8 +46,9 @@ public class Day6 {
 		 * Solves the first part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<String> puzzleLines) {
+		public static int part(List<String> puzzleLines) {
 			List<Integer> timeAllowed = new ArrayList<>();
 			List<Integer> minimumDistance = new ArrayList<>();
 
@@ -61,7 +74,7 @@ public class Day6 {
 				result.add(passingTimes);
 			}
 
-			System.out.println("Part 1: " + result.stream().reduce(1, (a, b) -> a * b));
+			return result.stream().reduce(1, (a, b) -> a * b);
 		}
 	}
 
@@ -77,8 +90,9 @@ public class Day6 {
 		 * Solves the second part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<String> puzzleLines) {
+		public static long part(List<String> puzzleLines) {
 			String timeAllowedString = "";
 			String minimumDistanceString = "";
 
@@ -98,7 +112,7 @@ public class Day6 {
 					result++;
 			}
 
-			System.out.println("Part 2: " + result);
+			return result;
 		}
 	}
 }
@@ -12,6 +12,7 @@ import java.util.Map;
 import static java.util.Map.entry;
 
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -19,7 +20,7 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day7 {
+public class Day7 implements Solver<List<List<String>>> {
 	
 	static class Hand {
 		public int[] hand;
@@ -136,12 +137,23 @@ public class Day7 {
 		);
 
 	public static void main(String[] args) {
-		File puzzle = new File("input/2023/Day7.txt");
-		List<String> puzzleLines = ReadFiles.readLineByLine(puzzle);
-		List<List<String>> handsAndBids = puzzleLines.stream().map(s -> Arrays.asList(s.split(" "))).toList();
+		Solver.printAnswers(new Day7(), new File("input/2023/Day7.txt"));
+	}
+
+	@Override
+	public List<List<String>> parse(File puzzleFile) {
+		List<String> puzzleLines = ReadFiles.readLineByLine(puzzleFile);
+		return puzzleLines.stream().map(s -> Arrays.asList(s.split(" "))).toList();
+	}
+
+	@Override
+	public Object part1(List<List<String>> handsAndBids) {
+		return Part1.part(handsAndBids);
+	}
 
-		Part1.part(handsAndBids);
-		Part2.part(handsAndBids);
+	@Override
+	public Object part2(List<List<String>> handsAndBids) {
+		return Part2.part(handsAndBids);
 	}
 	
 	private static List<Hand> parseToHands(List<List<String>> handsAndBids, Map<String, Integer> values) {
@@ -177,8 +189,9 @@ public class Day7 {
 		 * Solves the first part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<List<String>> handsAndBids) {
+		public static long part(List<List<String>> handsAndBids) {
 			List<Hand> listOfHands = parseToHands(handsAndBids, cardValues);
 			Collections.sort(listOfHands, new HandComparator());
 			
@@ -187,7 +200,7 @@ public class Day7 {
 				result += ((i+1) * listOfHands.get(i).bid);
 			}
 
-			System.out.println("Part 1: " + result);
+			return result;
 		}
 	}
 
@@ -203,8 +216,9 @@ public class Day7 {
 		 * Solves the second part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<List<String>> handsAndBids) {
+		public static long part(List<List<String>> handsAndBids) {
 			List<Hand> listOfHands = parseToHands(handsAndBids, jokerValues);
 			Collections.sort(listOfHands, new JokerComparator());
 			
@@ -213,7 +227,7 @@ public class Day7 {
 				result += ((i+1) * listOfHands.get(i).bid);
 			}
 
-			System.out.println("Part 2: " + result);
+			return result;
 		}
 	}
 }
@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.List;
 
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -13,11 +14,15 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day1 {
+public class Day1 implements Solver<List<List<String>>> {
 
 	public static void main(String[] args) {
-		File puzzle = new File("input/2024/Day1.txt");
-		List<String> puzzleLines = ReadFiles.readLineByLine(puzzle);
+		Solver.printAnswers(new Day1(), new File("input/2024/Day1.txt"));
+	}
+
+	@Override
+	public List<List<String>> parse(File puzzleFile) {
+		List<String> puzzleLines = ReadFiles.readLineByLine(puzzleFile);
 		List<String> leftList = new ArrayList<>();
 		List<String> rightList = new ArrayList<>();
 
@@ -27,8 +32,17 @@ public class Day1 {
 			rightList.add(leftRightElements[1]);
 		}
 
-		Part1.part(leftList, rightList);
-		Part2.part(leftList, rightList);
+		return List.of(leftList, rightList);
+	}
+
+	@Override
+	public Object part1(List<List<String>> lists) {
+		return Part1.part(lists.get(0), lists.get(1));
+	}
+
+	@Override
+	public Object part2(List<List<String>> lists) {
+		return Part2.part(lists.get(0), lists.get(1));
 	}
 
 	/**
@@ -43,8 +57,9 @@ public class Day1 {
 		 * Solves the first part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<String> leftSide, List<String> rightSide) {
+		public static int part(List<String> leftSide, List<String> rightSide) {
 			Collections.sort(leftSide);
 			Collections.sort(rightSide);
 			List<Integer> distances = new ArrayList<>();
@@ -53,7 +68,7 @@ public class Day1 {
 				distances.add(Math.abs(Integer.valueOf(leftSide.get(i)) - Integer.valueOf(rightSide.get(i))));
 			}
 
-			System.out.println("Part 1: " + distances.stream().mapToInt(Integer::valueOf).sum());
+			return distances.stream().mapToInt(Integer::valueOf).sum();
 		}
 	}
 
@@ -69,8 +84,9 @@ public class Day1 {
 		 * Solves the second part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<String> leftSide, List<String> rightSide) {
+		public static int part(List<String> leftSide, List<String> rightSide) {
 			List<Integer> similarityScores = new ArrayList<>();
 
 			for (String leftSideElement : leftSide) {
@@ -78,7 +94,7 @@ public class Day1 {
 				similarityScores.add(Integer.valueOf(leftSideElement) * occurences);
 			}
 
-			System.out.println("Part 2: " + similarityScores.stream().mapToInt(Integer::valueOf).sum());
+			return similarityScores.stream().mapToInt(Integer::valueOf).sum();
 		}
 	}
 }
@@ -1,19 +1,12 @@
 package year2024;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Queue;
-import java.util.Set;
 
+import universalFunctions.Grid;
+import universalFunctions.Metrics;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -21,148 +14,129 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day10 {
+public class Day10 implements Solver<Day10.Trails> {
 	
-	/** Class for Location
+	private static final Metrics.Counter CELLS_SCORED = Metrics.counter(Day10.class, "cellsScored");
+	private static final Metrics.Histogram SUMMITS_PER_CELL = Metrics.histogram(Day10.class, "summitsPerCell");
+	
+	private static final int SUMMIT = 9;
+	private static final int[] NO_SUMMITS = new int[0];
+	
+	/** Score and rating of every trailhead of the map, added up.
 	 * 
+	 * @param score Sum of the number of summits every trailhead reaches.
+	 * @param rating Sum of the number of distinct trails from every trailhead.
 	 */
-	static class Location {
-		
-		private int row;
-		private int column;
-		private int height;
-		
-		/** Initialize based on row and column index and the height.
-		 * 
-		 * @param row Row index
-		 * @param column Column index
-		 * @param height Height of the tile.
-		 */
-		public Location(int row, int column, int height) {
-			this.row = row;
-			this.column = column;
-			this.height = height;
-		}
-		
-		/** Initialize based on another location, shifted a certain amount with some height.
-		 * 
-		 * @param currentLocation Reference location.
-		 * @param rowShift Row index shift.
-		 * @param columnShift Column index shift.
-		 * @param height Height of the tile.
-		 */
-		public Location(Location currentLocation, int rowShift, int columnShift, int height) {
-			this.row = currentLocation.row + rowShift;
-			this.column = currentLocation.column + columnShift;
-			this.height = height;
-		}
-		
-		/** For equality checking and HashSets.
-		 * 
-		 */
-		@Override
-		public int hashCode() {
-			return Objects.hash(column, height, row);
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj)
-				return true;
-			if (obj == null)
-				return false;
-			if (getClass() != obj.getClass())
-				return false;
-			Location other = (Location) obj;
-			return column == other.column && height == other.height && row == other.row;
-		}
-
-		/** Visualizing purposes.
-		 * 
-		 */
-		@Override
-		public String toString() {
-			return String.format("(%d, %d, %d)", this.row, this.column, this.height);
-		}
-	}
-	
-	private static List<List<String>> map = new ArrayList<>();
-	private static final int[][] CARDINAL_DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-	private static Map<Location, Set<Location>> startEndLocations = new HashMap<>();
+	record Trails(long score, long rating) {}
 	
 	// Runner Code
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day10.txt");
-		map = ReadFiles.readIntoMatrix(puzzleFile);
-		
-		Set<Location> startingPosition = getLocationAtHeight(0);
-		for (Location startPosition: startingPosition) {
-			startEndLocations.put(startPosition, new HashSet<>(Arrays.asList(startPosition)));
-		}
-		
-		Part1.part();
-		Part2.part();
+		Solver.printAnswers(new Day10(), new File("input/2024/Day10.txt"));
+	}
+
+	@Override
+	public Trails parse(File puzzleFile) {
+		return scoreTrails(ReadFiles.readIntoGrid(puzzleFile));
+	}
+
+	@Override
+	public Object part1(Trails trails) {
+		return Part1.part(trails);
+	}
+
+	@Override
+	public Object part2(Trails trails) {
+		return Part2.part(trails);
 	}
 	
-	/** Retrieves a Set of locations on the map based on height.
+	/** Scores every trailhead in one pass over the map, one height at a time from the summits down.
+	 * 
+	 *  Every cell of height h gets the number of trails from it up to a summit, the sum of its
+	 *  neighbours' at height h + 1, and the set of summits it reaches, the union of theirs. A cell can
+	 *  only reach summits at most nine steps away, so the sets stay small, and are kept as sorted arrays
+	 *  of summit indices, the array containers of a roaring bitmap. Only the sets of the height above
+	 *  are kept around.
 	 * 
-	 * @param targetHeight Specified height to search for.
-	 * @return List of Locations with the specified height.
+	 * @param map Topographic map.
+	 * @return the Trails of the map.
 	 */
-	public static Set<Location> getLocationAtHeight(int targetHeight) {
-		Set<Location> startPos = new HashSet<>();
+	static Trails scoreTrails(Grid map) {
+		int size = map.size();
+		int[] heights = new int[size];
+		int[] layerStarts = new int[SUMMIT + 2];
+		for (int cell = 0; cell < size; cell++) {
+			char element = map.get(cell);
+			heights[cell] = (element >= '0' && element <= '9') ? element - '0' : -1;
+			if (heights[cell] >= 0) layerStarts[heights[cell] + 1]++;
+		}
+		for (int h = 0; h <= SUMMIT; h++) layerStarts[h + 1] += layerStarts[h];
 		
-		for (int r = 0; r < map.size(); r++) {
-			List<String> row = map.get(r);
-			for (int c = 0; c < row.size(); c++) {
-				int height;
-				if (row.get(c).equals(".")) height = -1;
-				else height = Integer.valueOf(row.get(c));
-				if (height == targetHeight) startPos.add(new Location(r, c, Integer.valueOf(row.get(c))));
-			}
+		// Cells sorted by height, with the cells of height h from layerStarts[h] up to layerStarts[h + 1].
+		int[] layers = new int[layerStarts[SUMMIT + 1]];
+		int[] filled = Arrays.copyOf(layerStarts, SUMMIT + 1);
+		for (int cell = 0; cell < size; cell++) {
+			if (heights[cell] >= 0) layers[filled[heights[cell]]++] = cell;
 		}
 		
-		return startPos;
-	}
-	
-	/** Returns the next possible location based on a List of current locations.
-	 * 
-	 * @param currentLocations List of current Locations.
-	 * @param nextStep next height to go from current height.
-	 * @return A List of Locations that are adjacent to some current location and can be reached to next height from said location.
-	 */
-	private static List<Location> getNextLocations(List<Location> currentLocations, int nextStep) {
-		List<Location> nextLocations = new ArrayList<>();
-		Set<Location> possibleLocations = getLocationAtHeight(nextStep);
+		long[] paths = new long[size];
+		int[][] summits = new int[size][];
+		for (int i = layerStarts[SUMMIT]; i < layerStarts[SUMMIT + 1]; i++) {
+			paths[layers[i]] = 1;
+			summits[layers[i]] = new int[] {layers[i]};
+		}
 		
-		for (Location location: currentLocations) {
-			List<Location> neighboringLocations = new ArrayList<>();
-			for (int[] direction: CARDINAL_DIRECTIONS) {
-				neighboringLocations.add(new Location(location, direction[0], direction[1], nextStep));
+		for (int h = SUMMIT - 1; h >= 0; h--) {
+			for (int i = layerStarts[h]; i < layerStarts[h + 1]; i++) {
+				int cell = layers[i];
+				int[] reached = NO_SUMMITS;
+				for (int direction = 0; direction < Grid.CARDINAL_DIRECTIONS.length; direction++) {
+					int neighbor = map.neighbor(cell, direction);
+					if (neighbor < 0 || heights[neighbor] != h + 1) continue;
+					paths[cell] += paths[neighbor];
+					reached = union(reached, summits[neighbor]);
+				}
+				summits[cell] = reached;
+				CELLS_SCORED.increment();
+				SUMMITS_PER_CELL.record(reached.length);
 			}
-			
-			nextLocations.addAll(neighboringLocations.stream().filter(neighborLocation -> possibleLocations.contains(neighborLocation)).toList());
+			for (int i = layerStarts[h + 1]; i < layerStarts[h + 2]; i++) summits[layers[i]] = null;
 		}
 		
-		return nextLocations;
+		long score = 0;
+		long rating = 0;
+		for (int i = layerStarts[0]; i < layerStarts[1]; i++) {
+			score += summits[layers[i]].length;
+			rating += paths[layers[i]];
+		}
+		return new Trails(score, rating);
 	}
 	
-	/** Moves a location from one height to a higher-by-one height.
+	/** Merges two sorted arrays of distinct summits.
 	 * 
-	 * @param currentLocation Current location.
-	 * @return List of possible Locations to move to.
+	 * @param a Sorted array of summit indices.
+	 * @param b Sorted array of summit indices.
+	 * @return a sorted array of the summits in either, which may be one of the two.
 	 */
-	private static List<Location> move(Location currentLocation) {
-		int nextStep = currentLocation.height + 1;
-		List<Location> nextLocations = new ArrayList<>();
-		Set<Location> possibleLocations = getLocationAtHeight(nextStep);
+	private static int[] union(int[] a, int[] b) {
+		if (a.length == 0) return b;
+		if (b.length == 0) return a;
 		
-		for (int[] direction: CARDINAL_DIRECTIONS) {
-			Location neighborLocation = new Location(currentLocation, direction[0], direction[1], nextStep);
-			if (possibleLocations.contains(neighborLocation)) nextLocations.add(neighborLocation);
+		int[] merged = new int[a.length + b.length];
+		int i = 0;
+		int j = 0;
+		int n = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j]) merged[n++] = a[i++];
+			else if (a[i] > b[j]) merged[n++] = b[j++];
+			else {
+				merged[n++] = a[i++];
+				j++;
+			}
 		}
+		while (i < a.length) merged[n++] = a[i++];
+		while (j < b.length) merged[n++] = b[j++];
 		
-		return nextLocations;
+		return (n == merged.length) ? merged : Arrays.copyOf(merged, n);
 	}
 	
 	/**
@@ -176,20 +150,11 @@ public class Day10 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param trails Score and rating of the trailheads, from the one pass over the map.
+		 * @return The answer to the first part.
 		 */
-		public static void part() {
-			Map<Location, Set<Location>> finalLocations = new HashMap<>();
-			
-			for (Map.Entry<Location, Set<Location>> entry: startEndLocations.entrySet()) {
-				Set<Location> locationsToCheck = entry.getValue();
-				for (int i = 1; i < 10; i++) {
-					locationsToCheck = new HashSet<>(getNextLocations(new ArrayList<>(locationsToCheck), i));
-				}
-				finalLocations.put(entry.getKey(), locationsToCheck);
-			}
-			
-			System.out.println("Part 1: " + finalLocations.values().stream().mapToInt(Set::size).sum());
+		public static long part(Trails trails) {
+			return trails.score();
 		}
 	}
 	
@@ -204,41 +169,11 @@ public class Day10 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param trails Score and rating of the trailheads, from the one pass over the map.
+		 * @return The answer to the second part.
 		 */
-		public static void part() {
-			Map<Location, Integer> finalRoutes = new HashMap<>();
-			
-			for (Map.Entry<Location, Set<Location>> entry: startEndLocations.entrySet()) {
-				Set<List<Location>> paths = new LinkedHashSet<>();
-				Queue<List<Location>> toVisit = new LinkedList<>();
-				List<Location> path = new LinkedList<>();
-				path.add(entry.getKey());
-				toVisit.add(path);
-				
-				while (!toVisit.isEmpty()) {
-					path = toVisit.poll();
-					Location currentLocation = path.getLast();
-					
-					if (currentLocation.height >= 9) {
-						paths.add(path);
-						continue;
-					}
-					
-					List<Location> nextLocations = move(currentLocation);
-					for (Location nextLocation: nextLocations) {
-						List<Location> newPath = new LinkedList<>(path);
-						newPath.add(nextLocation);
-						toVisit.offer(newPath);
-					}
-				} 
-				
-				finalRoutes.put(entry.getKey(), paths.size());
-			}
-	
-			System.out.println("Part 2: " + finalRoutes.values().stream().mapToInt(Integer::valueOf).sum());
+		public static long part(Trails trails) {
+			return trails.rating();
 		}
 	}
 }
-
-
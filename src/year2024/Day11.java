@@ -1,15 +1,14 @@
 package year2024;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import universalFunctions.ReadFiles;
+import universalFunctions.LongLongMap;
+import universalFunctions.MappedInput;
+import universalFunctions.MappedInput.NumberScanner;
+import universalFunctions.Metrics;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -17,57 +16,221 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day11 {
+public class Day11 implements Solver<LongLongMap> {
 	
-	// Runner Code
-	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day11.txt");
-		String puzzle = ReadFiles.readFileRaw(puzzleFile);
-		
-		List<Long> stones = Arrays.asList(puzzle.strip().split(" ")).stream().mapToLong(Long::valueOf).boxed().toList();
-		Map<Long, Long> stonesFrequency = stones.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.summingLong(e -> 1)));
-		Part1.part(stonesFrequency);
-		Part2.part(stonesFrequency);
+	private static final Metrics.Counter BLINKS = Metrics.counter(Day11.class, "blinks");
+	private static final Metrics.Counter MAP_ENTRIES = Metrics.counter(Day11.class, "mapEntries");
+	private static final Metrics.Histogram DISTINCT_STONES = Metrics.histogram(Day11.class, "distinctStones");
+	
+	// Number of shards the parts split the stones into, one for every core.
+	private static final int SHARDS = Runtime.getRuntime().availableProcessors();
+	
+	// Fewest distinct stones a sharded blink spreads across the cores, below which one Map is blinked instead.
+	private static final int PARALLEL_THRESHOLD = 1 << 14;
+	
+	// POWERS_OF_TEN[n] is 10^n, up to the largest power that fits in a long.
+	private static final long[] POWERS_OF_TEN = new long[19];
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int n = 1; n < POWERS_OF_TEN.length; n++) POWERS_OF_TEN[n] = POWERS_OF_TEN[n - 1] * 10;
 	}
 	
-	/** Computes a blink.
+	/** Counts the stones the puzzle's stones turn into, after any number of blinks.
+	 * 
+	 *  The puzzle's stones are blinked as one frequency Map, and the expander keeps the Map of the
+	 *  deepest blink so far, so a deeper query carries on from there instead of starting over. Once
+	 *  there are enough distinct stones, the Map is split into shards by the hash of the stones, so the
+	 *  blinks run across the cores.
 	 * 
-	 * @param stones frequency Map of the stones.
-	 * @return new stone frequency Map after a blink.
 	 */
-	private static Map<Long, Long> blink(Map<Long, Long> stones) {
-		Map<Long, Long> newFrequencyMap = new HashMap<>();
+	static class StoneExpander {
+		private final int shards;
+		private LongLongMap[] current;
+		private LongLongMap[] next;
+		// outboxes[s][d] holds the stones blinked out of shard s that belong in shard d, once sharded.
+		private LongLongMap[][] outboxes;
+		private long[] totals = new long[16];
+		private int deepest = 0;
+		// Whether the stones are split into the shards yet, or all kept in the first Map.
+		private boolean sharded = false;
 		
-		for (Long stone: stones.keySet()) {
-			if (stone == 0) {
-				newFrequencyMap.put((long) 1, stones.get(stone));
+		/** Constructor.
+		 * 
+		 * @param stones frequency Map of the puzzle's stones, left unchanged.
+		 * @param shards Number of shards to split the stones into, 1 to blink on a single thread.
+		 */
+		public StoneExpander(LongLongMap stones, int shards) {
+			this.shards = shards;
+			this.current = new LongLongMap[shards];
+			this.next = new LongLongMap[shards];
+			for (int s = 0; s < shards; s++) {
+				current[s] = new LongLongMap();
+				next[s] = new LongLongMap();
 			}
-			else if (Math.ceil(Math.log10(stone + 1)) % 2 == 0) {
-				List<Long> newKeys = splitNumber(stone);
-				for (Long newKey: newKeys) {
-					newFrequencyMap.computeIfPresent(newKey, (key, num) -> num + stones.get(stone));
-					newFrequencyMap.putIfAbsent(newKey, stones.get(stone));
-				}
+			stones.forEach(current[0]::addTo);
+			this.totals[0] = stones.sum();
+		}
+		
+		/** Counts the puzzle's stones after a number of blinks.
+		 * 
+		 * @param depth Number of blinks.
+		 * @return the number of stones.
+		 */
+		public long count(int depth) {
+			return counts(depth)[0];
+		}
+		
+		/** Counts the puzzle's stones at several depths in one pass, blinking only past the deepest
+		 *  depth asked for so far. A pass keeps no more than two frequency Maps and doesn't recurse,
+		 *  so thousands of blinks are no problem. Counts that don't fit in a long wrap around, like any
+		 *  other long arithmetic.
+		 * 
+		 * @param depths Numbers of blinks, in any order.
+		 * @return the number of stones at every depth, in the same order as the depths.
+		 */
+		public long[] counts(int... depths) {
+			int target = 0;
+			for (int depth: depths) target = Math.max(target, depth);
+			if (target >= totals.length) totals = Arrays.copyOf(totals, Math.max(target + 1, totals.length * 2));
+			
+			while (deepest < target) {
+				if (!sharded && shards > 1 && current[0].size() >= PARALLEL_THRESHOLD) spread();
+				if (!sharded) blink(current[0], next[0]);
+				else blinkSharded();
+				LongLongMap[] blinked = next;
+				next = current;
+				current = blinked;
+				
+				long total = 0;
+				for (LongLongMap shard: current) total += shard.sum();
+				totals[++deepest] = total;
+			}
+			
+			long[] result = new long[depths.length];
+			for (int i = 0; i < depths.length; i++) result[i] = totals[depths[i]];
+			return result;
+		}
+		
+		/** Splits the stones of the first Map into the shards, once there are enough distinct stones for
+		 *  the shards to pay off. Until then, every blink is a plain blink of one Map into another.
+		 * 
+		 */
+		private void spread() {
+			outboxes = new LongLongMap[shards][shards];
+			for (int s = 0; s < shards; s++) {
+				for (int d = 0; d < shards; d++) outboxes[s][d] = new LongLongMap();
 			}
-			else newFrequencyMap.put(stone * 2024, stones.get(stone));
+			next[0].clear();
+			current[0].forEach((stone, count) -> next[LongLongMap.shardOf(stone, shards)].addTo(stone, count));
+			LongLongMap[] spread = next;
+			next = current;
+			current = spread;
+			sharded = true;
+		}
+		
+		/** Blinks every shard. First every shard blinks its own stones into its own outboxes, one for
+		 *  each shard the new stones belong in. Then every shard adds up what the others sent it. Each
+		 *  phase only writes to Maps of its own shard, so the shards run in parallel without locks, and
+		 *  the result is the same whatever order they run in.
+		 * 
+		 */
+		private void blinkSharded() {
+			int size = 0;
+			for (LongLongMap shard: current) size += shard.size();
+			boolean parallel = size >= PARALLEL_THRESHOLD;
+			
+			shardStream(parallel).forEach(s -> {
+				LongLongMap[] outbox = outboxes[s];
+				for (LongLongMap destination: outbox) destination.clear();
+				LongLongMap.EntryConsumer route = (stone, count) -> outbox[LongLongMap.shardOf(stone, shards)].addTo(stone, count);
+				current[s].forEach((stone, count) -> blink(stone, count, route));
+			});
+			shardStream(parallel).forEach(d -> {
+				next[d].clear();
+				for (LongLongMap[] outbox: outboxes) outbox[d].forEach(next[d]::addTo);
+			});
+			
+			int blinkedSize = 0;
+			for (LongLongMap shard: next) blinkedSize += shard.size();
+			recordBlink(blinkedSize);
 		}
 		
-		return newFrequencyMap;
+		private IntStream shardStream(boolean parallel) {
+			IntStream stream = IntStream.range(0, shards);
+			return parallel ? stream.parallel() : stream;
+		}
 	}
 	
-	/** Mathematically split a number into 2 numbers, based on length.
+	// Runner Code
+	public static void main(String[] args) {
+		Solver.printAnswers(new Day11(), new File("input/2024/Day11.txt"));
+	}
+
+	@Override
+	public LongLongMap parse(File puzzleFile) {
+		LongLongMap stones = new LongLongMap();
+		NumberScanner numbers = MappedInput.map(puzzleFile).numbers();
+		while (numbers.hasNext()) stones.addTo(numbers.nextLong(), 1);
+		return stones;
+	}
+
+	@Override
+	public Object part1(LongLongMap stones) {
+		return Part1.part(stones);
+	}
+
+	@Override
+	public Object part2(LongLongMap stones) {
+		return Part2.part(stones);
+	}
+	
+	/** Computes a blink.
 	 * 
-	 * @param number Long number to split.
-	 * @return 2-length List of Longs, splitting the original number into 2 smaller numbers. 
+	 * @param stones frequency Map of the stones.
+	 * @param result frequency Map to clear and fill with the stones after a blink.
 	 */
-	private static List<Long> splitNumber(long number) {
-		int halfLength = (int) Math.ceil(Math.log10(number + 1)) / 2;
-		List<Long> splitNum = new ArrayList<>();
-		
-		splitNum.add((long) (Double.valueOf(number) / Math.pow(10, halfLength)));
-		splitNum.add((long) (number % Math.pow(10, halfLength)));
-		
-		return splitNum;
+	private static void blink(LongLongMap stones, LongLongMap result) {
+		result.clear();
+		LongLongMap.EntryConsumer add = result::addTo;
+		stones.forEach((stone, count) -> blink(stone, count, add));
+		recordBlink(result.size());
+	}
+	
+	/** Blinks the copies of one stone.
+	 * 
+	 * @param stone Number engraved on the stone.
+	 * @param count Number of copies of the stone.
+	 * @param result Receives the new stones, and how many copies of each there are.
+	 */
+	private static void blink(long stone, long count, LongLongMap.EntryConsumer result) {
+		if (stone == 0) {
+			result.accept(1, count);
+			return;
+		}
+		int digits = digitCount(stone);
+		if (digits % 2 == 0) {
+			long half = POWERS_OF_TEN[digits / 2];
+			result.accept(stone / half, count);
+			result.accept(stone % half, count);
+		}
+		else result.accept(stone * 2024, count);
+	}
+	
+	private static void recordBlink(int distinctStones) {
+		BLINKS.increment();
+		MAP_ENTRIES.add(distinctStones);
+		DISTINCT_STONES.record(distinctStones);
+	}
+	
+	/** Counts the digits of a number, by comparing it with the powers of ten.
+	 * 
+	 * @param number Non-negative long number.
+	 * @return the number of digits in the number.
+	 */
+	private static int digitCount(long number) {
+		int digits = 1;
+		while (digits < POWERS_OF_TEN.length && number >= POWERS_OF_TEN[digits]) digits++;
+		return digits;
 	}
 	
 	/**
@@ -81,17 +244,11 @@ public class Day11 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param stones frequency Map of the puzzle's stones.
+		 * @return The answer to the first part.
 		 */
-		public static void part(Map<Long, Long> stones) {
-			Map<Long, Long> partOneStones = new HashMap<>();
-			partOneStones.putAll(stones);
-			
-			for (int n = 0; n < 25; n++) {
-				partOneStones = blink(partOneStones);
-			}
-			
-			System.out.println("Part 1: " + partOneStones.values().stream().mapToLong(Long::valueOf).sum());
+		public static long part(LongLongMap stones) {
+			return new StoneExpander(stones, SHARDS).count(25);
 		}
 	}
 	
@@ -106,17 +263,11 @@ public class Day11 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param stones frequency Map of the puzzle's stones.
+		 * @return The answer to the second part.
 		 */
-		public static void part(Map<Long, Long> stones) {
-			Map<Long, Long> partTwo = new HashMap<>();
-			partTwo.putAll(stones);
-			
-			for (int n = 0; n < 75; n++) {
-				partTwo = blink(partTwo);
-			}
-	
-			System.out.println("Part 2: " + partTwo.values().stream().mapToLong(Long::valueOf).sum());
+		public static long part(LongLongMap stones) {
+			return new StoneExpander(stones, SHARDS).count(75);
 		}
 	}
 }
@@ -1,13 +1,13 @@
 package year2024;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Queue;
+import java.util.Arrays;
 
+import universalFunctions.Grid;
+import universalFunctions.Metrics;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
+import universalFunctions.UnionFind;
 
 /**
  * =========================================================================
@@ -15,173 +15,136 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day12 {
-	private static final int[][] ORDINAL_DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+public class Day12 implements Solver<Day12.Regions> {
+
+	private static final Metrics.Counter UNIONS = Metrics.counter(Day12.class, "unions");
+	private static final Metrics.Counter WINDOWS = Metrics.counter(Day12.class, "windows");
+	private static final Metrics.Histogram REGION_SIZE = Metrics.histogram(Day12.class, "regionSize");
 	
-	/** Point class.
+	/** Statistics of every region of the garden, indexed by region.
 	 * 
+	 * @param areas Number of plots in each region.
+	 * @param perimeters Length of the fence around each region.
+	 * @param sides Number of straight sides of each region's fence.
 	 */
-	static class Point {
-
-		private int r;
-		private int c;
-		
-		/** Constructor for a point.
-		 * 
-		 * @param r Row index.
-		 * @param c Column index.
-		 */
-		public Point(int r, int c) {
-			this.r = r;
-			this.c = c;
-		}
-		
-		/** Returns a List of Points containing the neighbors of the point.
-		 * 
-		 * @return List of neighboring Points.
-		 */
-		public List<Point> getNeighbors() {
-			List<Point> adjacentPoints = new ArrayList<>();
-			
-			for (int[] direction: ORDINAL_DIRECTIONS) {
-				adjacentPoints.add(new Point(this.r + direction[0], this.c + direction[1]));
-			}
-			
-			return adjacentPoints;
-		}
-		
-		// Overriding hashCode and equals for comparison checking.
-		@Override
-		public int hashCode() {
-			return Objects.hash(c, r);
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj)
-				return true;
-			if (obj == null)
-				return false;
-			if (getClass() != obj.getClass())
-				return false;
-			Point other = (Point) obj;
-			return c == other.c && r == other.r;
-		}
-
-		// Formatting purposes.
-		@Override
-		public String toString() {
-			return String.format("(%d, %d)", this.r, this.c);
-		}
-	}
+	record Regions(long[] areas, long[] perimeters, long[] sides) {}
 	
 	// Runner Code.
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day12.txt");
-		List<List<String>> puzzle = ReadFiles.readIntoMatrix(puzzleFile);
-		List<List<Point>> plantPoints = getListOfPlantPoints(puzzle);
+		Solver.printAnswers(new Day12(), new File("input/2024/Day12.txt"));
+	}
+
+	@Override
+	public Regions parse(File puzzleFile) {
+		Grid garden = ReadFiles.readIntoGrid(puzzleFile);
+		int[] labels = labelRegions(garden);
 		
-		List<List<Integer>> statistics = getStatistics(plantPoints);
-		Part1.part(statistics);
-		Part2.part(statistics);
+		int regionCount = 0;
+		for (int label: labels) regionCount = Math.max(regionCount, label + 1);
+		return getStatistics(garden, labels, regionCount);
+	}
+
+	@Override
+	public Object part1(Regions regions) {
+		return Part1.part(regions);
+	}
+
+	@Override
+	public Object part2(Regions regions) {
+		return Part2.part(regions);
 	}
 	
-	/** Returns a nested list of points, split by the regions.
+	/** Labels every plot with its region. Every plot is joined with the plots to its right and below
+	 *  it that grow the same plant, then the sets are numbered in the order they're first seen.
 	 * 
-	 * @param map Map of the regions.
-	 * @return Nested list of points divided by the regions.
+	 * @param garden Map of the regions.
+	 * @return the region of every plot, by flat index, numbered from 0.
 	 */
-	public static List<List<Point>> getListOfPlantPoints(List<List<String>> map) {
-		List<List<Point>> result = new ArrayList<>();
+	public static int[] labelRegions(Grid garden) {
+		int width = garden.getWidth();
+		UnionFind regions = new UnionFind(garden.size());
 		
-		for (int r = 0; r < map.size(); r++) {
-			List<String> row = map.get(r);
-			for (int c = 0; c < row.size(); c++) {
-				Point plantPoint = new Point(r, c);
-				if (!result.stream().anyMatch(x -> x.contains(plantPoint))) {
-					result.add(floodFill(map, plantPoint, row.get(c)));
-				}
+		for (int cell = 0; cell < garden.size(); cell++) {
+			if ((cell + 1) % width != 0 && garden.get(cell) == garden.get(cell + 1) && regions.union(cell, cell + 1)) UNIONS.increment();
+			if (cell + width < garden.size() && garden.get(cell) == garden.get(cell + width) && regions.union(cell, cell + width)) UNIONS.increment();
+		}
+		
+		int[] labelOfRoot = new int[garden.size()];
+		Arrays.fill(labelOfRoot, -1);
+		int[] labels = new int[garden.size()];
+		int next = 0;
+		for (int cell = 0; cell < garden.size(); cell++) {
+			int root = regions.find(cell);
+			if (labelOfRoot[root] < 0) {
+				labelOfRoot[root] = next++;
+				REGION_SIZE.record(regions.size(root));
 			}
+			labels[cell] = labelOfRoot[root];
 		}
 		
-		return result;
+		return labels;
 	}
 	
-	/** Flood fill algorithm.
+	/** Returns the area, perimeter and number of sides of every region, in one sweep of a 2x2 window
+	 *  over the garden, including the windows hanging over its edges.
+	 * 
+	 *  The bottom right plot of every window adds to its region's area. Every fence segment is between
+	 *  two plots of different regions, or a plot and the outside, lying side by side along the bottom
+	 *  row or right column of exactly one window. A region has as many sides as corners, and every
+	 *  corner is at the middle of a window: where the region holds one plot of the window, three of
+	 *  them, or two diagonally opposite ones, which makes two corners.
 	 * 
-	 * @param map Map of the regions.
-	 * @param startPoint Where the flood fill search should start.
-	 * @param toSearch What region to search for.
-	 * @return A list of Points that flood filling has visited.
+	 * @param garden Map of the regions.
+	 * @param labels Region of every plot.
+	 * @param regionCount Number of regions.
+	 * @return the Regions, with their statistics.
 	 */
-	public static List<Point> floodFill(List<List<String>> map, Point startPoint, String toSearch) {
-		List<Point> adjacencyPoints = new ArrayList<>();
-		
-		Queue<Point> toCheck = new LinkedList<>();
-		adjacencyPoints.add(startPoint);
-		toCheck.add(startPoint);
+	public static Regions getStatistics(Grid garden, int[] labels, int regionCount) {
+		long[] areas = new long[regionCount];
+		long[] perimeters = new long[regionCount];
+		long[] sides = new long[regionCount];
+		int height = garden.getHeight();
+		int width = garden.getWidth();
+		// Regions of the window, top left, top right, bottom left, bottom right, with -1 for outside.
+		int[] window = new int[4];
 		
-		while (!toCheck.isEmpty()) {
-			Point currentPoint = toCheck.poll();
-			List<Point> neighboringPoints = currentPoint.getNeighbors();
-			for (Point neighborPoint: neighboringPoints) {
-				try {
-					if (map.get(neighborPoint.r).get(neighborPoint.c).equals(toSearch) && !adjacencyPoints.contains(neighborPoint)) {
-						adjacencyPoints.add(neighborPoint);
-						toCheck.add(neighborPoint);
+		for (int r = -1; r < height; r++) {
+			for (int c = -1; c < width; c++) {
+				window[0] = labelAt(labels, height, width, r, c);
+				window[1] = labelAt(labels, height, width, r, c + 1);
+				window[2] = labelAt(labels, height, width, r + 1, c);
+				window[3] = labelAt(labels, height, width, r + 1, c + 1);
+				WINDOWS.increment();
+				
+				if (window[3] >= 0) areas[window[3]]++;
+				if (window[2] != window[3]) {
+					if (window[2] >= 0) perimeters[window[2]]++;
+					if (window[3] >= 0) perimeters[window[3]]++;
+				}
+				if (window[1] != window[3]) {
+					if (window[1] >= 0) perimeters[window[1]]++;
+					if (window[3] >= 0) perimeters[window[3]]++;
+				}
+				
+				for (int i = 0; i < 4; i++) {
+					int region = window[i];
+					if (region < 0 || (i > 0 && region == window[0]) || (i > 1 && region == window[1]) || (i > 2 && region == window[2])) continue;
+					int mask = 0;
+					for (int j = 0; j < 4; j++) {
+						if (window[j] == region) mask |= 1 << j;
 					}
-				} catch (IndexOutOfBoundsException ioobe) {
-					continue;
+					int plots = Integer.bitCount(mask);
+					if (plots == 1 || plots == 3) sides[region]++;
+					else if (mask == 0b1001 || mask == 0b0110) sides[region] += 2;
 				}
 			}
 		}
 		
-		return adjacencyPoints;
-	}
-	
-	/** Returns the Area, Perimeter, and the number of Sides for each region. 
-	 * 
-	 * @param plantPoints Nested List of Points divided by regions.
-	 * @return a 3-length array containing the area, perimeter, and the number of sides each region has, respectively. 
-	 */
-	public static List<List<Integer>> getStatistics(List<List<Point>> plantPoints) {
-		List<List<Integer>> result = new ArrayList<>();
-		
-		for (List<Point> entry: plantPoints) {
-			List<Integer> statisticEntry = new ArrayList<>();
-			statisticEntry.add(entry.size());
-			
-			List<Point> adjacentPoints = new ArrayList<>();
-			for (Point plant: entry) {
-				List<Point> neighborPoints = plant.getNeighbors().stream().filter(x -> !entry.contains(x)).toList();
-				adjacentPoints.addAll(neighborPoints);
-			} 
-			statisticEntry.add(adjacentPoints.size());
-			statisticEntry.add(getSides(entry));
-			result.add(statisticEntry);
-		}
-		
-		return result;
+		return new Regions(areas, perimeters, sides);
 	}
 	
-	public static int getSides(List<Point> plantPoints) {
-		int result = 0;
-		final int[] dir = {-1, 1};
-		
-		for (Point point: plantPoints) {
-			for (int a: dir) {
-				for (int b: dir) {
-					Point rChange = new Point(point.r + a, point.c);
-					Point cChange = new Point(point.r, point.c + b);
-					if (!(plantPoints.contains(rChange) || plantPoints.contains(cChange))) result++;
-					Point rcChange = new Point(point.r + a, point.c + b);
-					if (plantPoints.contains(rChange) && plantPoints.contains(cChange) && !plantPoints.contains(rcChange)) result++;
-				}
-			}
-		}
-		
-//		ReadFiles.printMap(frequencyPoints);
-		return result;
+	private static int labelAt(int[] labels, int height, int width, int r, int c) {
+		return (r < 0 || c < 0 || r >= height || c >= width) ? -1 : labels[r * width + c];
 	}
 	
 	/**
@@ -195,10 +158,15 @@ public class Day12 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param regions Statistics of every region.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<List<Integer>> statistics) {
-			System.out.println("Part 1: " + statistics.stream().map(x -> x.get(0) * x.get(1)).mapToInt(Integer::valueOf).sum());
+		public static long part(Regions regions) {
+			long result = 0;
+			for (int region = 0; region < regions.areas().length; region++) {
+				result += regions.areas()[region] * regions.perimeters()[region];
+			}
+			return result;
 		}
 	}
 	
@@ -213,10 +181,15 @@ public class Day12 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param regions Statistics of every region.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<List<Integer>> statistics) {
-			System.out.println("Part 2: " + statistics.stream().map(x -> x.get(0) * x.get(2)).mapToInt(Integer::valueOf).sum());
+		public static long part(Regions regions) {
+			long result = 0;
+			for (int region = 0; region < regions.areas().length; region++) {
+				result += regions.areas()[region] * regions.sides()[region];
+			}
+			return result;
 		}
 	}
 }
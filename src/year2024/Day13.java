@@ -4,10 +4,11 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import universalFunctions.MappedInput.NumberScanner;
+import universalFunctions.MappedInput.Section;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -15,7 +16,7 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day13 {
+public class Day13 implements Solver<List<Section>> {
 	
 	// Class for a 2D Augmented Matrix.
 	static class TwoMatrix {
@@ -39,8 +40,8 @@ public class Day13 {
 		}
 		
 		/** Solves the 2D Augmented Matrix / 2 Dimensional System of Linear Equations with Cramer's Rule.
-		 *  Returns null if the solution is not an integer.
-		 * @return A Long array with solutions for x and y, or null if either one of the solution is not an integer.
+		 *  Returns null if the solution is not an integer, or if a button would be pressed a negative number of times.
+		 * @return A Long array with solutions for x and y, or null if either one of the solution is not a natural number.
 		 */
 		private Long[] solveInteger() {
 			Long[] solutions = new Long[2];
@@ -48,12 +49,12 @@ public class Day13 {
 			double denominator = this.matrix[0][0] * this.matrix[1][1] - this.matrix[0][1] * this.matrix[1][0];
 			double xNumerator = this.matrix[0][2] * this.matrix[1][1] - this.matrix[0][1] * this.matrix[1][2];
 			double x = xNumerator / denominator;
-			if (x % 1 != 0) return null;
+			if (x % 1 != 0 || x < 0) return null;
 			solutions[0] = (long) x;
 			
 			double yNumerator = this.matrix[0][0] * this.matrix[1][2] - this.matrix[0][2] * this.matrix[1][0];
 			double y = yNumerator / denominator;
-			if (y % 1 != 0) return null;
+			if (y % 1 != 0 || y < 0) return null;
 			solutions[1] = (long) y;
 			
 			return solutions;
@@ -62,45 +63,51 @@ public class Day13 {
 		// Formatting purposes.
 		@Override
 		public String toString() {
-			return String.format("\r\n%f + %f = %f\r\n%f + %f = %f\r\n", matrix[0][0], matrix[0][1], matrix[0][2], matrix[1][0], matrix[1][1], matrix[1][2]);
+			return String.format("%n%f + %f = %f%n%f + %f = %f%n", matrix[0][0], matrix[0][1], matrix[0][2], matrix[1][0], matrix[1][1], matrix[1][2]);
 		}
 	}
 	
 	// Runner code
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day13.txt");
-		List<String> puzzle = ReadFiles.readCustomGap(puzzleFile, System.lineSeparator() + System.lineSeparator());
-		List<TwoMatrix> systems = parseToMatrices(puzzle, 0);
-		List<TwoMatrix> newSystems = parseToMatrices(puzzle, 10000000000000.0);
-		
-		Part1.part(systems, true);
-		Part2.part(newSystems);
+		Solver.printAnswers(new Day13(), new File("input/2024/Day13.txt"));
+	}
+
+	@Override
+	public List<Section> parse(File puzzleFile) {
+		return ReadFiles.readSections(puzzleFile);
+	}
+
+	@Override
+	public Object part1(List<Section> puzzle) {
+		return Part1.part(parseToMatrices(puzzle, 0));
+	}
+
+	@Override
+	public Object part2(List<Section> puzzle) {
+		return Part2.part(parseToMatrices(puzzle, 10000000000000.0));
 	}
 	
-	/** Parses the input file to the 2D augmented matrix class above.
+	/** Parses the input file to the 2D augmented matrix class above. Every claw machine is one section,
+	 *  holding the X and Y of button A, button B and the prize, in that order.
 	 * 
-	 * @param inputs inputs.
+	 * @param machines Sections of the input, one for each claw machine.
 	 * @param offset an offset meter for the target solutions.
 	 * @return a List of 2D Augmented Matrices.
 	 */
-	public static List<TwoMatrix> parseToMatrices(List<String> inputs, double offset) {
+	public static List<TwoMatrix> parseToMatrices(List<Section> machines, double offset) {
 		List<TwoMatrix> matrices = new ArrayList<>();
-		String regex = "Button A: X\\+(\\d+), Y\\+(\\d+)\r\n"
-					+ "Button B: X\\+(\\d+), Y\\+(\\d+)\r\n"
-					+ "Prize: X=(\\d+), Y=(\\d+)";
-		Pattern pattern = Pattern.compile(regex);
+		long[] numbers = new long[6];
 		
-		for (String input: inputs) {
-			Matcher matcher = pattern.matcher(input);
-			while (matcher.find()) {
-				TwoMatrix m = new TwoMatrix(Double.valueOf(matcher.group(1)), 
-										Double.valueOf(matcher.group(3)), 
-										offset + Double.valueOf(matcher.group(5)), 
-										Double.valueOf(matcher.group(2)), 
-										Double.valueOf(matcher.group(4)), 
-										offset + Double.valueOf(matcher.group(6)));
-				matrices.add(m);
+		for (Section machine: machines) {
+			NumberScanner scanner = machine.numbers();
+			int count = 0;
+			while (count < numbers.length && scanner.hasNext()) {
+				numbers[count++] = scanner.nextLong();
 			}
+			if (count < numbers.length) continue;
+			
+			matrices.add(new TwoMatrix(numbers[0], numbers[2], offset + numbers[4], 
+									numbers[1], numbers[3], offset + numbers[5]));
 		}
 		
 		return matrices;
@@ -117,9 +124,10 @@ public class Day13 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param systems List of linear systems, one for each claw machine.
+		 * @return The answer to the first part.
 		 */
-		public static long part(List<TwoMatrix> systems, boolean solvePartOne) {
+		public static long part(List<TwoMatrix> systems) {
 			List<List<Long>> finalResults = new ArrayList<>();
 			for (TwoMatrix system: systems) {
 				Long[] solutions = system.solveInteger();
@@ -127,9 +135,7 @@ public class Day13 {
 				else finalResults.add(Arrays.asList(solutions));
 			}
 
-			long finalSum = finalResults.stream().map(l -> 3 * l.get(0) + l.get(1)).mapToLong(Long::valueOf).sum();
-			if (solvePartOne) System.out.println("Part 1: " + finalSum);
-			return finalSum;
+			return finalResults.stream().map(l -> 3 * l.get(0) + l.get(1)).mapToLong(Long::valueOf).sum();
 		}
 	}
 	
@@ -144,10 +150,11 @@ public class Day13 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param systems List of linear systems, with the prize positions moved further away.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<TwoMatrix> systems) {
-			System.out.println("Part 2: " + Part1.part(systems, false));
+		public static long part(List<TwoMatrix> systems) {
+			return Part1.part(systems);
 		}
 	}
 }
@@ -9,6 +9,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -16,7 +17,7 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day14 {
+public class Day14 implements Solver<List<Day14.Robot>> {
 	
 	public static class Robot {
 		private int[] position;
@@ -71,12 +72,23 @@ public class Day14 {
 	}
 	
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day14.txt");
+		Solver.printAnswers(new Day14(), new File("input/2024/Day14.txt"));
+	}
+
+	@Override
+	public List<Robot> parse(File puzzleFile) {
 		List<String> puzzle = ReadFiles.readLineByLine(puzzleFile);
-		List<Robot> robots = parseToRobots(puzzle);
-		
-		Part1.part(robots, 100, 101, 103);
-		Part2.part(robots, 101, 103);
+		return parseToRobots(puzzle);
+	}
+
+	@Override
+	public Object part1(List<Robot> robots) {
+		return Part1.part(robots, 100, 101, 103);
+	}
+
+	@Override
+	public Object part2(List<Robot> robots) {
+		return Part2.part(robots, 101, 103);
 	}
 	
 	public static List<Robot> parseToRobots(List<String> puzzleData) {
@@ -118,8 +130,9 @@ public class Day14 {
 		 * Solves the first part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<Robot> robots, int seconds, int maxX, int maxY) {
+		public static int part(List<Robot> robots, int seconds, int maxX, int maxY) {
 			List<Robot> steppedRobots = steppedRobots(robots, seconds, maxX, maxY);
 			List<List<Robot>> inQuadrant = new ArrayList<>(4);
 			for (int i = 0; i < 4; i++) inQuadrant.add(new ArrayList<>());
@@ -137,8 +150,7 @@ public class Day14 {
 				}
 			}
 
-			System.out.println(Robot.getListOfPositions(steppedRobots));
-			System.out.println("Part 1: " + inQuadrant.stream().map(x -> x.size()).reduce((a, b) -> a*b).get());
+			return inQuadrant.stream().map(x -> x.size()).reduce((a, b) -> a*b).get();
 		}
 	}
 	
@@ -154,17 +166,16 @@ public class Day14 {
 		 * Solves the second part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the second part, or -1 if the robots never spread out.
 		 */
-		public static void part(List<Robot> robots, int maxX, int maxY) {
+		public static int part(List<Robot> robots, int maxX, int maxY) {
 			for (int seconds = 0; seconds < 10431; seconds++) {
 				List<Robot> steppedRobots = steppedRobots(robots, seconds, maxX, maxY);
 				List<List<Integer>> positions = Robot.getListOfPositions(steppedRobots);
 				Set<List<Integer>> uniqueElements = new HashSet<>(positions);
-				if (uniqueElements.size() == steppedRobots.size()) {
-					System.out.println("Part 2: " + seconds);
-					break;
-				}
+				if (uniqueElements.size() == steppedRobots.size()) return seconds;
 			}
+			return -1;
 		}
 	}
 }
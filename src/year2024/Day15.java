@@ -1,15 +1,19 @@
 package year2024;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 import static java.util.Map.entry;
 
+import universalFunctions.Grid;
+import universalFunctions.MappedInput.Section;
+import universalFunctions.MappedInput.View;
+import universalFunctions.PositionSet;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
+import universalFunctions.CommonObjects.Position;
 
 /**
  * =========================================================================
@@ -17,148 +21,84 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day15 {
+public class Day15 implements Solver<Day15.Warehouse> {
 	
-	/** Class to store positions on the grid.
-	 * 
-	 */
-	static class Position {
-		private int r;
-		private int c;
-		
-		/** Constructor for primitive integer values.
-		 * 
-		 * @param r Row index.
-		 * @param c Column index.
-		 */
-		public Position(int r, int c) {
-			this.r = r;
-			this.c = c;
-		}
-		
-		/** Constructor for copying purposes.
-		 * 
-		 * @param p Position.
-		 */
-		public Position(Position p) {
-			this.r = p.r;
-			this.c = p.c;
-		}
-		
-		/** Moves the position based on an Integer array of direction and magnitude.
-		 * 
-		 * @param change Integer array to change position.
-		 * @return A Position with its values modified from the previous.
-		 */
-		public Position move(int[] change) {
-			return new Position(r + change[0], c + change[1]);
-		}
-		
-		/** Returns the position to the right.
-		 * 
-		 * @return New Position one to the right from the old position.
-		 */
-		public Position rightOne() {
-			return this.move(new int[] {0, 1});
-		}
-		
-		/** Returns the position to the left.
-		 * 
-		 * @return New Position one to the left from the old position.
-		 */
-		public Position leftOne() {
-			return this.move(new int[] {0, -1});
-		}
-		
-		// Checking equality and sets purpose
-		@Override
-		public int hashCode() {
-			return Objects.hash(c, r);
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj)
-				return true;
-			if (obj == null)
-				return false;
-			if (getClass() != obj.getClass())
-				return false;
-			Position other = (Position) obj;
-			return c == other.c && r == other.r;
-		}
-
-		// Formatting purposes
-		@Override
-		public String toString() {
-			return String.format("(%d, %d)", r, c);
-		}
-	}
-	
-	private static List<Position> walls = new ArrayList<>();
 	private static final Map<String, int[]> directions = Map.ofEntries(
 			entry("<", new int[] {0, -1}),
 			entry(">", new int[] {0, 1}),
 			entry("v", new int[] {1, 0}),
 			entry("^", new int[] {-1, 0})
 		);
+	private static final int[] LEFT = {0, -1};
+	private static final int[] RIGHT = {0, 1};
+	
+	record Warehouse(Grid grid, String instructions) {}
 	
 	// Runner Code.
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day15.txt");
-		List<String> puzzle = ReadFiles.readCustomGap(puzzleFile, System.lineSeparator() + System.lineSeparator());
-		List<List<String>> grid = ReadFiles.parseIntoMatrix(puzzle.get(0));
-		
-		List<Position> notablePositions = parseToPositionsList(grid);
+		Solver.printAnswers(new Day15(), new File("input/2024/Day15.txt"));
+	}
+
+	@Override
+	public Warehouse parse(File puzzleFile) {
+		List<Section> puzzle = ReadFiles.readSections(puzzleFile);
+		Grid grid = puzzle.get(0).grid();
 		
-		StringBuffer bString = new StringBuffer();
-		for (String s: puzzle.get(1).split(System.lineSeparator())) {
+		StringBuilder bString = new StringBuilder();
+		for (View s: puzzle.get(1).lines()) {
 			bString.append(s);
 		}
-		String instructions = bString.toString();
 		
-		Part1.part(notablePositions, instructions);
-		Part2.part(grid, instructions);
+		return new Warehouse(grid, bString.toString());
+	}
+
+	@Override
+	public Object part1(Warehouse warehouse) {
+		return Part1.part(warehouse.grid(), parseToPositionsList(warehouse.grid()), warehouse.instructions());
+	}
+
+	@Override
+	public Object part2(Warehouse warehouse) {
+		return Part2.part(warehouse.grid(), warehouse.instructions());
 	}
 	
-	/** Returns a list of positions as well as initializing the walls' position.
+	/** Returns a list of positions of the robot and the boxes.
 	 * 
 	 * @param grid The grid map of the whole facility.
-	 * @return A Position for the robot at the first index, and a List of Positions for the boxes.
+	 * @return A packed position for the robot at the first index, followed by the packed positions of the boxes.
 	 */
-	private static List<Position> parseToPositionsList(List<List<String>> grid) {
-		List<Position> results = new ArrayList<>();
+	private static long[] parseToPositionsList(Grid grid) {
+		long[] results = new long[grid.size() + 1];
+		int n = 1;
 		
-		for (int r = 0; r < grid.size(); r++) {
-			List<String> row = grid.get(r);
-			for (int c = 0; c < row.size(); c++) {
-				String element = row.get(c);
-				switch (element) {
-				case "#" -> walls.add(new Position(r, c));
-				case "O" -> results.add(new Position(r, c));
-				case "@" -> results.add(0, new Position(r,c));
+		for (int r = 0; r < grid.getHeight(); r++) {
+			for (int c = 0; c < grid.getWidth(); c++) {
+				switch (grid.get(r, c)) {
+				case 'O' -> results[n++] = Position.pack(r, c);
+				case '@' -> results[0] = Position.pack(r, c);
 				}
 			}
 		}
 		
-		return results;
+		return Arrays.copyOf(results, n);
 	}
 	
-	/** Returns a new Position for the moved target and modifies the list of positions based on the target's move. 
+	/** Returns a new packed position for the moved target and modifies the set of positions based on the target's move. 
 	 * 
-	 * @param currentPosition Current position of the moving target.
-	 * @param boxesPosition List of current movables Position.
+	 * @param grid The grid map of the whole facility. Only its walls are looked at.
+	 * @param currentPosition Current packed position of the moving target.
+	 * @param boxesPosition Set of current movables' packed positions.
 	 * @param instruction Direction for where to move to.
-	 * @return A new Position (if there's no wall) and an updated list of positions of the boxes.
+	 * @return A new packed position (if there's no wall) and an updated set of positions of the boxes.
 	 */
-	private static Position moveToPosition(Position currentPosition, List<Position> boxesPosition, String instruction) {
-		Position nextPosition = currentPosition.move(directions.get(instruction));
-		if (walls.contains(nextPosition)) return currentPosition;
+	private static long moveToPosition(Grid grid, long currentPosition, PositionSet boxesPosition, String instruction) {
+		long nextPosition = Position.move(currentPosition, directions.get(instruction));
+		if (grid.get(Position.row(nextPosition), Position.column(nextPosition)) == '#') return currentPosition;
 		else if (boxesPosition.contains(nextPosition)) {
 			boxesPosition.remove(nextPosition);
-			Position nextBoxPosition = moveToPosition(nextPosition, boxesPosition, instruction);
+			long nextBoxPosition = moveToPosition(grid, nextPosition, boxesPosition, instruction);
 			boxesPosition.add(nextBoxPosition);
-			if (nextBoxPosition.equals(nextPosition)) {
+			if (nextBoxPosition == nextPosition) {
 				return currentPosition;
 			}
 		}
@@ -167,17 +107,17 @@ public class Day15 {
 	
 	/** Calculates the sum of the GPS Coordinates from the boxes.
 	 * 
-	 * @param boxes List of box Positions.
+	 * @param boxes Set of packed box positions.
 	 * @return An integer of the sum of GPS Coordinates.
 	 */
-	private static int calculateGPSCoordinates(List<Position> boxes) {
-		List<Integer> results = new ArrayList<>();
+	private static int calculateGPSCoordinates(PositionSet boxes) {
+		int result = 0;
 		
-		for (Position box: boxes) {
-			results.add(box.r * 100 + box.c);
+		for (long box: boxes.toArray()) {
+			result += Position.row(box) * 100 + Position.column(box);
 		}
 		
-		return results.stream().mapToInt(Integer::valueOf).sum();
+		return result;
 	}
 	
 	/**
@@ -191,18 +131,22 @@ public class Day15 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param grid The grid map of the whole facility.
+		 * @param notablePositions Packed positions of the robot, followed by the boxes.
+		 * @param instructions Moves of the robot.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<Position> notablePositions, String instructions) {
-			Position robot = new Position(notablePositions.get(0));
-			List<Position> boxes = new ArrayList<>(notablePositions.subList(1, notablePositions.size()).stream().map(x -> new Position(x)).toList());
+		public static int part(Grid grid, long[] notablePositions, String instructions) {
+			long robot = notablePositions[0];
+			PositionSet boxes = new PositionSet(notablePositions.length);
+			for (int i = 1; i < notablePositions.length; i++) boxes.add(notablePositions[i]);
 			String[] instructionArray = instructions.split("");
 			
 			for (String instruction: instructionArray) {
-				robot = moveToPosition(robot, boxes, instruction);
+				robot = moveToPosition(grid, robot, boxes, instruction);
 			}
 			
-			System.out.println("Part 1: " + calculateGPSCoordinates(boxes));
+			return calculateGPSCoordinates(boxes);
 		}
 	}
 	
@@ -217,18 +161,20 @@ public class Day15 {
 	 * @param originalGrid Original grid.
 	 * @return A new grid twice its width of the previous grid.
 	 */
-	private static List<List<String>> mutateGrid(List<List<String>> originalGrid) {
-		List<List<String>> transformedGrid = new ArrayList<>();
+	private static Grid mutateGrid(Grid originalGrid) {
+		Grid transformedGrid = new Grid(originalGrid.getHeight(), originalGrid.getWidth() * 2, '.');
 		
-		for (List<String> row: originalGrid) {
-			List<String> transformedRow = new ArrayList<>();
-			for (String element: row) {
-				if (element.equals("#")) transformedRow.addAll(Arrays.asList("#", "#"));
-				else if (element.equals("O")) transformedRow.addAll(Arrays.asList("[", "]"));
-				else if (element.equals("@")) transformedRow.addAll(Arrays.asList("@", "."));
-				else transformedRow.addAll(Arrays.asList(".", "."));
+		for (int r = 0; r < originalGrid.getHeight(); r++) {
+			for (int c = 0; c < originalGrid.getWidth(); c++) {
+				char element = originalGrid.get(r, c);
+				if (element == '#') {
+					transformedGrid.set(r, 2 * c, '#');
+					transformedGrid.set(r, 2 * c + 1, '#');
+				} else if (element == 'O') {
+					transformedGrid.set(r, 2 * c, '[');
+					transformedGrid.set(r, 2 * c + 1, ']');
+				} else if (element == '@') transformedGrid.set(r, 2 * c, '@');
 			}
-			transformedGrid.add(transformedRow);
 		}
 		
 		return transformedGrid;
@@ -237,78 +183,53 @@ public class Day15 {
 	/** Returns the robot's position.
 	 * 
 	 * @param grid Grid to search from.
-	 * @return A Position for the robot.
+	 * @return A packed position for the robot.
 	 */
-	private static Position getRobot(List<List<String>> grid) {
-		for (int i = 0; i < grid.size(); i++) {
-			List<String> row = grid.get(i);
-			for (int j = 0; j < row.size(); j++) {
-				String element = row.get(j);
-				if (element.equals("@")) return new Position(i, j);
-			}
-		}
-		return null;
+	private static long getRobot(Grid grid) {
+		int robot = grid.find('@');
+		return Position.pack(grid.row(robot), grid.column(robot));
 	}
 	
-	/** Copies an entire grid, for dereferencing purposes.
-	 * 
-	 * @param grid Grid to copy from.
-	 * @return Identical grid from the original, dereferenced.
-	 */
-	private static List<List<String>> copyGrid(List<List<String>> grid) {
-		List<List<String>> result = new ArrayList<>();
-		
-		for (List<String> row: grid) {
-			List<String> resultRow = new ArrayList<>();
-			for (String element: row) {
-				resultRow.add(element);
-			}
-			result.add(resultRow);
-		}
-		
-		return result;
-	} 
-	
 	/** Moves the robot and the boxes if they interact.
 	 * 
 	 * @param grid Grid of the whole facility.
 	 * @param instruction Direction to move to.
 	 */
-	private static void moveRobot(List<List<String>> grid, String instruction) {
-		Position robot = getRobot(grid);
-		List<Position> thingsToMove = new ArrayList<>(Arrays.asList(robot));
-		boolean free = true;
+	private static void moveRobot(Grid grid, String instruction) {
+		int[] direction = directions.get(instruction);
+		long robot = getRobot(grid);
+		long[] thingsToMove = new long[16];
+		PositionSet queued = new PositionSet();
+		thingsToMove[0] = robot;
+		queued.add(robot);
+		int size = 1;
 		int n = 0;
-		while (n < thingsToMove.size()) {
-			Position p = thingsToMove.get(n);
+		while (n < size) {
+			long newPosition = Position.move(thingsToMove[n], direction);
 			n++;
-			Position newPosition = p.move(directions.get(instruction));
-			if (thingsToMove.contains(newPosition)) continue;
-			String element = grid.get(newPosition.r).get(newPosition.c);
-			if (element.equals("#")) {
-				free = false;
-				break;
-			}
-			if (element.equals("[")) {
-				thingsToMove.add(new Position(newPosition));
-				thingsToMove.add(new Position(newPosition.rightOne()));
-			}
-			if (element.equals("]")) {
-				thingsToMove.add(new Position(newPosition));
-				thingsToMove.add(new Position(newPosition.leftOne()));
+			if (queued.contains(newPosition)) continue;
+			char element = grid.get(Position.row(newPosition), Position.column(newPosition));
+			if (element == '#') return;
+			if (element == '[' || element == ']') {
+				long otherHalf = Position.move(newPosition, (element == '[') ? RIGHT : LEFT);
+				if (size + 2 > thingsToMove.length) thingsToMove = Arrays.copyOf(thingsToMove, size * 2);
+				thingsToMove[size++] = newPosition;
+				thingsToMove[size++] = otherHalf;
+				queued.add(newPosition);
+				queued.add(otherHalf);
 			}
 		}
-		if (!free) return;
-		List<List<String>> copy = copyGrid(grid);
-		Position newDirection = new Position(directions.get(instruction)[0], directions.get(instruction)[1]);
-		grid.get(robot.r).set(robot.c, ".");
-		for (Position p: thingsToMove.subList(1, thingsToMove.size())) {
-			grid.get(p.r).set(p.c, ".");
+		
+		char[] elements = new char[size];
+		for (int i = 1; i < size; i++) {
+			elements[i] = grid.get(Position.row(thingsToMove[i]), Position.column(thingsToMove[i]));
+			grid.set(Position.row(thingsToMove[i]), Position.column(thingsToMove[i]), '.');
 		}
-		for (Position p: thingsToMove.subList(1, thingsToMove.size())) {
-			grid.get(p.r + newDirection.r).set(p.c + newDirection.c, copy.get(p.r).get(p.c));
+		for (int i = 1; i < size; i++) {
+			grid.set(Position.row(thingsToMove[i]) + direction[0], Position.column(thingsToMove[i]) + direction[1], elements[i]);
 		}
-		grid.get(robot.r + newDirection.r).set(robot.c + newDirection.c, "@");
+		grid.set(Position.row(robot), Position.column(robot), '.');
+		grid.set(Position.row(robot) + direction[0], Position.column(robot) + direction[1], '@');
 	}
 	
 	/** Returns the sum of the GPS Coordinates from a doubled grid.
@@ -316,13 +237,12 @@ public class Day15 {
 	 * @param grid Doubled Grid to search from.
 	 * @return an Integer sum of the GPS Coordinates from the grid.
 	 */
-	private static int getDoubledGPSCoordinate(List<List<String>> grid) {
+	private static int getDoubledGPSCoordinate(Grid grid) {
 		int result = 0;
 		
-		for (int r = 0; r < grid.size(); r++) {
-			List<String> row = grid.get(r);
-			for (int c = 0; c < row.size(); c++) {
-				if (row.get(c).equals("[")) result += (100 * r + c);
+		for (int r = 0; r < grid.getHeight(); r++) {
+			for (int c = 0; c < grid.getWidth(); c++) {
+				if (grid.get(r, c) == '[') result += (100 * r + c);
 			}
 		}
 		
@@ -337,16 +257,16 @@ public class Day15 {
 		 * I could not figure it out with my implementation.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<List<String>> grid, String instructions) {
-			List<List<String>> mutableGrid = new ArrayList<>(grid);
-			List<List<String>> expandedGrid = mutateGrid(mutableGrid);
+		public static int part(Grid grid, String instructions) {
+			Grid expandedGrid = mutateGrid(grid);
 			
 			for (String instruction: instructions.split("")) {
 				moveRobot(expandedGrid, instruction);
 			}
 			
-			System.out.println("Part 2: " + getDoubledGPSCoordinate(expandedGrid));
+			return getDoubledGPSCoordinate(expandedGrid);
 		}
 	}
 }
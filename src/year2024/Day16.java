@@ -1,18 +1,12 @@
 package year2024;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.PriorityQueue;
-import java.util.Set;
 
-import universalFunctions.CommonObjects.Position;
+import universalFunctions.Grid;
+import universalFunctions.Metrics;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -20,252 +14,167 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day16 {
+public class Day16 implements Solver<Grid> {
 	
-	private static enum Direction {north, south, east, west};
-	private static final Map<Direction, Direction> flippedMap = Map.of(
-			Direction.north, Direction.south,
-			Direction.south, Direction.north,
-			Direction.west, Direction.east,
-			Direction.east, Direction.west
-		);
+	private static final Metrics.Counter POLLED = Metrics.counter(Day16.class, "polled");
+	private static final Metrics.Counter RELAXATIONS = Metrics.counter(Day16.class, "relaxations");
+	private static final Metrics.Timer DIJKSTRA = Metrics.timer(Day16.class, "dijkstra");
+	private static final Metrics.Counter BEST_PATH_STATES = Metrics.counter(Day16.class, "bestPathStates");
 	
-	// Class for each tile (node).
-	static class Tile {
-		private static final Map<Direction, int[]> directionsMap = Map.of(
-				Direction.north, new int[] {-1, 0}, 
-				Direction.south, new int[] {1, 0}, 
-				Direction.east, new int[] {0, 1}, 
-				Direction.west, new int[] {0, -1}
-			);
-		
-		private Position p;
-		private Direction dir;
-		
-		/** Constructor for a tile.
-		 * 
-		 * @param r Row index.
-		 * @param c Column index.
-		 * @param d Direction.
-		 */
-		public Tile(int r, int c, Direction d) {
-			this.p = new Position(r, c);
-			this.dir = d;
-		}
+	private static final int STEP_COST = 1;
+	private static final int TURN_COST = 1000;
+	// Directions are indices into Grid.CARDINAL_DIRECTIONS: north, east, south, west.
+	private static final int EAST = 1;
+	
+	// Bits of a predecessor mask: how a state can be reached at its best distance.
+	private static final byte FROM_BEHIND = 1;
+	private static final byte FROM_CLOCKWISE_TURN = 2;
+	private static final byte FROM_COUNTERCLOCKWISE_TURN = 4;
+	
+	/** Priority queue for distances that never decrease, with edge weights of at most maxWeight.
+	 *  Every queued distance is then within maxWeight of the smallest one, so a ring of maxWeight + 1
+	 *  buckets, one per distance, holds them all, and adding and polling take constant time.
+	 * 
+	 */
+	static class BucketQueue {
+		private final int[][] buckets;
+		private final int[] sizes;
+		private long current = 0;
+		private int currentBucket = 0;
+		private int size = 0;
 		
-		/** Constructor for a tile.
+		/** Constructor.
 		 * 
-		 * @param p Position object.
-		 * @param dir Direction
+		 * @param maxWeight Heaviest edge of the graph.
 		 */
-		public Tile(Position p, Direction dir) {
-			this.p = p;
-			this.dir = dir;
+		public BucketQueue(int maxWeight) {
+			this.buckets = new int[maxWeight + 1][16];
+			this.sizes = new int[maxWeight + 1];
 		}
 		
-		/** Returns a new Tile with its position changed according to the direction.
+		/** Queues a state. Its distance can't be below the last one polled, or above it by more than
+		 *  the heaviest edge.
 		 * 
-		 * @return A new Tile object with its position moved.
+		 * @param state State to queue.
+		 * @param distance Distance of the state.
 		 */
-		public Tile move() {
-			return new Tile(p.move(directionsMap.get(dir)), dir);
+		public void add(int state, long distance) {
+			int bucket = currentBucket + (int) (distance - current);
+			if (bucket >= buckets.length) bucket -= buckets.length;
+			if (sizes[bucket] == buckets[bucket].length) buckets[bucket] = Arrays.copyOf(buckets[bucket], sizes[bucket] * 2);
+			buckets[bucket][sizes[bucket]++] = state;
+			size++;
 		}
 		
-		/** Returns a new Tile with its direction changed to its left.
-		 * 
-		 * @return a new Tile object with its direction changed facing left.
-		 */
-		public Tile turnLeft() {
-			Direction newDir = null;
-			switch (dir) {
-			case Direction.north -> newDir = Direction.west;
-			case Direction.south -> newDir = Direction.east;
-			case Direction.east -> newDir = Direction.north;
-			case Direction.west -> newDir = Direction.south;
-			}
-			return new Tile(p, newDir);
+		public boolean isEmpty() {
+			return size == 0;
 		}
 		
-		/** Returns a new Tile with its direction changed to its right.
+		/** Takes out a state with the smallest distance.
 		 * 
-		 * @return a new Tile object with its direction changed facing right.
+		 * @return the state.
 		 */
-		public Tile turnRight() {
-			Direction newDir = null;
-			switch (dir) {
-			case Direction.north -> newDir = Direction.east;
-			case Direction.south -> newDir = Direction.west;
-			case Direction.east -> newDir = Direction.south;
-			case Direction.west -> newDir = Direction.north;
+		public int poll() {
+			while (sizes[currentBucket] == 0) {
+				current++;
+				if (++currentBucket == buckets.length) currentBucket = 0;
 			}
-			return new Tile(p, newDir);
-		}
-		
-		/** Returns the Position of the Tile.
-		 * 
-		 * @return Tile Position.
-		 */
-		public Position getPosition() {
-			return p;
-		} 
-		
-		/** Returns a mutable Tile with a specified direction.
-		 * 
-		 * @param dir new Direction for the Tile.
-		 * @return new Tile with the new Direction.
-		 */
-		public Tile setMutDir(Direction dir) {
-			return new Tile(p, dir);
+			size--;
+			return buckets[currentBucket][--sizes[currentBucket]];
 		}
 		
-		/** Checks if the object has the same position as specified.
+		/** Returns the distance of the state last polled.
 		 * 
-		 * @param pos Position to check.
-		 * @return Boolean value if the position of the Tile is equal to that of specified.
+		 * @return the distance.
 		 */
-		public boolean isSamePosition(Position pos) {
-			return (p.getR() == pos.getR()) && (p.getC() == pos.getC());
-		}
-		
-		// For sets and equality checking.
-		@Override
-		public int hashCode() {
-			return Objects.hash(dir, p);
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj)
-				return true;
-			if (obj == null)
-				return false;
-			if (getClass() != obj.getClass())
-				return false;
-			Tile other = (Tile) obj;
-			return dir == other.dir && Objects.equals(p, other.p);
-		}
-
-		// Formatting purposes.
-		@Override
-		public String toString() {
-			String direction = "";
-			try {
-				direction += dir.toString();
-			} catch (NullPointerException npe) {
-				direction += "null";
-			}
-			return String.format("(%d, %d, %s)", p.getR(), p.getC(), direction);
+		public long distance() {
+			return current;
 		}
 	}
 	
-	private static Tile startTile;
-	private static Tile finalTile;
-	
 	// Runner Code
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day16.txt");
-		List<List<String>> puzzle = ReadFiles.readIntoMatrix(puzzleFile);
-		
-		startTile = findElement(puzzle, "S");
-		finalTile = findElement(puzzle, "E");
-		
-		Part1.part(puzzle);
-		Part2.part(puzzle);
+		Solver.printAnswers(new Day16(), new File("input/2024/Day16.txt"));
 	}
-	
-	/** Finds an element of the maze and returns its indices.
-	 * 
-	 * @param maze Grid representation of the maze.
-	 * @param element String element to find in the maze.
-	 * @return a Tile containing the row and column index of the maze, facing east.
-	 */
-	public static Tile findElement(List<List<String>> maze, String element) {
-		for (int r = 0; r < maze.size(); r++) {
-			List<String> row = maze.get(r);
-			for (int c = 0; c < row.size(); c++) {
-				String current = row.get(c);
-				if (current.equals(element)) {
-					return new Tile(new Position(r, c), Direction.east);
-				}
-			}
-		}
-		return null;
+
+	@Override
+	public Grid parse(File puzzleFile) {
+		return ReadFiles.readIntoGrid(puzzleFile);
 	}
-	
-	/** Returns a list of non-wall elements of the maze.
-	 * 
-	 * @param maze Grid representation of the maze.
-	 * @return a List of Tiles referring to Positions that are not a wall.
-	 */
-	private static List<Tile> findAllEmpties(List<List<String>> maze) {
-		List<Tile> emptySpaces = new ArrayList<>();
-		for (int r = 0; r < maze.size(); r++) {
-			List<String> row = maze.get(r);
-			for (int c = 0; c < row.size(); c++) {
-				String current = row.get(c);
-				if (!current.equals("#")) {
-					emptySpaces.add(new Tile(r, c, Direction.east));
-					emptySpaces.add(new Tile(r, c, Direction.west));
-					emptySpaces.add(new Tile(r, c, Direction.north));
-					emptySpaces.add(new Tile(r, c, Direction.south));
-				}
-			}
-		}
-		return emptySpaces;
+
+	@Override
+	public Object part1(Grid map) {
+		return Part1.part(map);
+	}
+
+	@Override
+	public Object part2(Grid map) {
+		return Part2.part(map);
 	}
 	
-	/** Dijkstra's Algorithm to return a distance map from a point to every other point, based on the specified scoring function in the problem.
+	/** Dijkstra's Algorithm over the states of the reindeer, a tile and the direction it's facing,
+	 *  numbered as tile * 4 + direction. The distances are kept in a flat array, and the queue is a
+	 *  BucketQueue, as the only moves are a step forward costing 1 and a turn costing 1000.
+	 * 
+	 *  Optionally, every equal-cost way into a state is recorded too. A state can only be reached by a
+	 *  step from the tile behind it or a turn on its own tile, so its predecessors fit in a mask of three
+	 *  bits, and the masks of all states make up the DAG of the best paths.
 	 * 
 	 * @param maze Grid representation of the maze.
-	 * @param startTiles a List of starting Tiles.
-	 * @return a Map containing Tiles as Keys and Long numbers as distances from the key to one of the start tiles.
+	 * @param predecessors Array to fill with the predecessor mask of every state, or null.
+	 * @param startStates States to start from, at distance 0.
+	 * @return an array of the distance to every state, or Long.MAX_VALUE where it can't be reached.
 	 */
-	private static Map<Tile, Long> dijkstraAlgorithm(List<List<String>> maze, List<Tile> startTiles) {
-		Map<Tile, Long> tiles = new HashMap<>();
-		List<Tile> emptyTiles = findAllEmpties(maze);
-		for (Tile startTile: startTiles) {
-			tiles.put(startTile, 0L);
+	private static long[] dijkstraAlgorithm(Grid maze, byte[] predecessors, int... startStates) {
+		long timer = DIJKSTRA.start();
+		long[] distances = new long[maze.size() * 4];
+		Arrays.fill(distances, Long.MAX_VALUE);
+		BucketQueue search = new BucketQueue(TURN_COST);
+		for (int state: startStates) {
+			distances[state] = 0;
+			search.add(state, 0);
 		}
 		
-		PriorityQueue<Tile> search = new PriorityQueue<Tile>((a, b) -> tiles.get(a).compareTo(tiles.get(b)));
-		search.addAll(startTiles);
-		
 		while (!search.isEmpty()) {
-			Tile currentTile = search.poll();
-			long currentTileScore = tiles.get(currentTile);
+			int state = search.poll();
+			long distance = search.distance();
+			if (distances[state] < distance) continue;
+			POLLED.increment();
 			
-			List<Tile> turns = new ArrayList<>();
-			turns.addAll(Arrays.asList(currentTile.turnLeft(), currentTile.turnRight()));
-			for (Tile turn: turns) {
-				if (!tiles.containsKey(turn) || tiles.get(turn) > (currentTileScore + 1000)) {
-					tiles.put(turn, currentTileScore + 1000);
-					search.add(turn);
-				}
-			}
-			
-			Tile forwardTile = currentTile.move();
-			if (emptyTiles.contains(forwardTile) && (!tiles.containsKey(forwardTile) || tiles.get(forwardTile) > currentTileScore + 1)) {
-				tiles.put(forwardTile, currentTileScore + 1);
-				search.add(forwardTile);
-			}
+			int tile = state >> 2;
+			int direction = state & 3;
+			int forward = maze.neighbor(tile, direction);
+			if (forward >= 0 && maze.get(forward) != '#') relax(distances, predecessors, search, forward * 4 + direction, distance + STEP_COST, FROM_BEHIND);
+			relax(distances, predecessors, search, tile * 4 + ((direction + 1) & 3), distance + TURN_COST, FROM_CLOCKWISE_TURN);
+			relax(distances, predecessors, search, tile * 4 + ((direction + 3) & 3), distance + TURN_COST, FROM_COUNTERCLOCKWISE_TURN);
 		}
 		
-		return tiles;
+		DIJKSTRA.stop(timer);
+		return distances;
+	}
+	
+	private static void relax(long[] distances, byte[] predecessors, BucketQueue search, int state, long distance, byte from) {
+		if (distance > distances[state]) return;
+		if (distance == distances[state]) {
+			if (predecessors != null) predecessors[state] |= from;
+			return;
+		}
+		distances[state] = distance;
+		if (predecessors != null) predecessors[state] = from;
+		search.add(state, distance);
+		RELAXATIONS.increment();
 	}
 	
-	/** Calculates the smallest score to the final Tile, irregardless of ending direction.
+	/** Calculates the smallest score to a tile, irregardless of ending direction.
 	 * 
-	 * @param tiles distance Map as generated by the Dijkstra's Algorithm. 
-	 * @return the smallest Long distance.
+	 * @param distances distance array as generated by the Dijkstra's Algorithm.
+	 * @param tile Flat index of the tile.
+	 * @return the smallest distance.
 	 */
-	private static long calculateBest(Map<Tile, Long> tiles) {
-		List<Long> finalResults = new ArrayList<>();
-		for (Tile tileKey: tiles.keySet()) {
-			if (tileKey.isSamePosition(finalTile.p)) {
-				finalResults.add(tiles.get(tileKey));
-			}
-		}
-		return finalResults.stream().mapToLong(Long::valueOf).min().getAsLong();
+	private static long calculateBest(long[] distances, int tile) {
+		long best = Long.MAX_VALUE;
+		for (int direction = 0; direction < 4; direction++) best = Math.min(best, distances[tile * 4 + direction]);
+		return best;
 	}
 	
 	/**
@@ -279,12 +188,13 @@ public class Day16 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param map Grid representation of the maze.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<List<String>> map) {
-			Map<Tile, Long> tiles = dijkstraAlgorithm(map, Arrays.asList(startTile));
+		public static long part(Grid map) {
+			long[] distances = dijkstraAlgorithm(map, null, map.find('S') * 4 + EAST);
 
-			System.out.println("Part 1: " + calculateBest(tiles));
+			return calculateBest(distances, map.find('E'));
 		}
 	}
 	
@@ -297,35 +207,60 @@ public class Day16 {
 	class Part2 {
 
 		/**
-		 * Solves the second part of the puzzle.
-		 * Credit to u/ParanoidAndroidQ for the algorithm.
+		 * Solves the second part of the puzzle. One search records the best ways into every state, then
+		 * the best paths are walked back from the end through them, marking every tile on the way.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param map Grid representation of the maze.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<List<String>> map) {
-			Map<Tile, Long> benchmark = dijkstraAlgorithm(map, Arrays.asList(startTile));
-			long optimal = calculateBest(benchmark);
-			Map<Tile, Long> newTiles = dijkstraAlgorithm(map, Arrays.asList(finalTile, 
-					finalTile.setMutDir(Direction.west), 
-					finalTile.setMutDir(Direction.north), 
-					finalTile.setMutDir(Direction.south)));
+		public static int part(Grid map) {
+			int finalTile = map.find('E');
+			byte[] predecessors = new byte[map.size() * 4];
+			long[] distances = dijkstraAlgorithm(map, predecessors, map.find('S') * 4 + EAST);
+			long optimal = calculateBest(distances, finalTile);
+			if (optimal == Long.MAX_VALUE) return 0;
 			
-			Set<Position> result = new HashSet<>();
-			for (int r = 0; r < map.size(); r++) {
-				for (int c = 0; c < map.get(r).size(); c++) {
-					for (Direction dir: new Direction[] {Direction.east, Direction.north, Direction.south, Direction.west}) {
-						Tile start = new Tile(r, c, dir);
-						Tile end = new Tile(r, c, flippedMap.get(dir));
-						if (benchmark.containsKey(start) && newTiles.containsKey(end)) {
-							if (benchmark.get(start) + newTiles.get(end) == optimal) result.add(start.p);
-						}
-					}
-				}
+			long[] seenStates = new long[(map.size() * 4 + 63) >>> 6];
+			long[] seenTiles = new long[(map.size() + 63) >>> 6];
+			int[] stack = new int[64];
+			int stackSize = 0;
+			for (int direction = 0; direction < 4; direction++) {
+				int state = finalTile * 4 + direction;
+				if (distances[state] == optimal && markSeen(seenStates, state)) stack[stackSize++] = state;
 			}
 			
-			System.out.println("Part 2: " + result.size());
+			while (stackSize > 0) {
+				int state = stack[--stackSize];
+				int tile = state >> 2;
+				int direction = state & 3;
+				seenTiles[tile >>> 6] |= 1L << tile;
+				BEST_PATH_STATES.increment();
+				
+				int mask = predecessors[state];
+				if (stackSize + 3 > stack.length) stack = Arrays.copyOf(stack, stack.length * 2);
+				int behind = map.neighbor(tile, (direction + 2) & 3) * 4 + direction;
+				int clockwise = tile * 4 + ((direction + 3) & 3);
+				int counterclockwise = tile * 4 + ((direction + 1) & 3);
+				if ((mask & FROM_BEHIND) != 0 && markSeen(seenStates, behind)) stack[stackSize++] = behind;
+				if ((mask & FROM_CLOCKWISE_TURN) != 0 && markSeen(seenStates, clockwise)) stack[stackSize++] = clockwise;
+				if ((mask & FROM_COUNTERCLOCKWISE_TURN) != 0 && markSeen(seenStates, counterclockwise)) stack[stackSize++] = counterclockwise;
+			}
+			
+			int result = 0;
+			for (long word: seenTiles) result += Long.bitCount(word);
+			return result;
+		}
+		
+		/** Adds a state to a bitset of states.
+		 * 
+		 * @param seen Bitset of the states seen so far.
+		 * @param state Index of the state.
+		 * @return Boolean value if the state wasn't in the set yet.
+		 */
+		private static boolean markSeen(long[] seen, int state) {
+			if ((seen[state >>> 6] & (1L << state)) != 0) return false;
+			seen[state >>> 6] |= 1L << state;
+			return true;
 		}
 	}
 }
-
-
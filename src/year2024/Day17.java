@@ -2,7 +2,6 @@ package year2024;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -11,7 +10,11 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import universalFunctions.MappedInput.NumberScanner;
+import universalFunctions.MappedInput.Section;
+import universalFunctions.MappedInput.View;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -19,22 +22,21 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day17 {
+public class Day17 implements Solver<List<Section>> {
 	
-	private static int instructionPointer = 0;
-	private static Map<String, Long> registers = new HashMap<>();
-	private static List<Integer> commands = new ArrayList<>();
-	private static boolean cont = true;
-	
-	// Class to contain all the Operations.
-	static class OpCodes {
+	// Class to contain the state of the computer and all the Operations.
+	static class Computer {
+		private final Map<String, Long> registers = new HashMap<>();
+		private final List<Integer> commands = new ArrayList<>();
+		private int instructionPointer = 0;
+		private boolean cont = true;
 		
 		/** Returns the value of the combo operand.
 		 * 
 		 * @param operand Operand.
 		 * @return Combo Operand.
 		 */
-		private static Long getComboOperand(int operand) {
+		private Long getComboOperand(int operand) {
 			if (0 <= operand && operand <= 3) return (long) operand;
 			if (operand == 4) return registers.get("A");
 			if (operand == 5) return registers.get("B");
@@ -47,7 +49,7 @@ public class Day17 {
 		 * @param operand Operand.
 		 * @return Truncated division as specified.
 		 */
-		private static long division(int operand) {
+		private long division(int operand) {
 			 long numerator = registers.get("A");
 			 long denominator = (long) Math.pow(2L, getComboOperand(operand));
 			 return numerator / denominator;
@@ -57,7 +59,7 @@ public class Day17 {
 		 * 
 		 * @param operand Operand.
 		 */
-		public static void adv(int operand) {
+		public void adv(int operand) {
 			registers.put("A", division(operand));
 		}
 		
@@ -65,7 +67,7 @@ public class Day17 {
 		 * 
 		 * @param operand Operand.
 		 */
-		public static void bdv(int operand) {
+		public void bdv(int operand) {
 			registers.put("B", division(operand));
 		}
 		
@@ -73,7 +75,7 @@ public class Day17 {
 		 * 
 		 * @param operand Operand.
 		 */
-		public static void cdv(int operand) {
+		public void cdv(int operand) {
 			registers.put("C", division(operand));
 		}
 		
@@ -81,7 +83,7 @@ public class Day17 {
 		 * 
 		 * @param operand Operand.
 		 */
-		public static void bxl(int operand) {
+		public void bxl(int operand) {
 			registers.compute("B", (k, v) -> v ^ operand);
 		}
 		
@@ -89,7 +91,7 @@ public class Day17 {
 		 * 
 		 * @param operand Operand.
 		 */
-		public static void bst(int operand) {
+		public void bst(int operand) {
 			registers.put("B", getComboOperand(operand) % 8);
 		}
 		
@@ -97,7 +99,7 @@ public class Day17 {
 		 * 
 		 * @param operand Operand.
 		 */
-		public static void jnz(int operand) {
+		public void jnz(int operand) {
 			if (registers.get("A") == 0) return;
 			instructionPointer = operand;
 			cont = false;
@@ -106,7 +108,7 @@ public class Day17 {
 		/** Bitwise XOR Operation of register B and register C to store in register B.
 		 * 
 		 */
-		public static void bxc() {
+		public void bxc() {
 			registers.compute("B", (k, v) -> v ^ registers.get("C"));
 		}
 		
@@ -115,65 +117,82 @@ public class Day17 {
 		 * @param operand Operand.
 		 * @return a Long value of the Combo Operand.
 		 */
-		public static long out(int operand) {
+		public long out(int operand) {
 			return getComboOperand(operand) % 8;
 		}
 	}
 	
 	// Runner Code
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day17.txt");
-		List<String> puzzle = ReadFiles.readCustomGap(puzzleFile, System.lineSeparator() + System.lineSeparator());
-		
-		parse(puzzle);
-		
-		Part1.part();
-		Part2.part();
+		Solver.printAnswers(new Day17(), new File("input/2024/Day17.txt"));
+	}
+
+	@Override
+	public List<Section> parse(File puzzleFile) {
+		return ReadFiles.readSections(puzzleFile);
+	}
+
+	@Override
+	public Object part1(List<Section> puzzle) {
+		return Part1.part(initializeProgram(puzzle));
+	}
+
+	@Override
+	public Object part2(List<Section> puzzle) {
+		return Part2.part(initializeProgram(puzzle));
 	}
 	
 	/** Initializes the program.
 	 * 
-	 * @param computer List of Strings read from the file.
+	 * @param computer Sections of the file, the registers followed by the program.
+	 * @return a new Computer holding the registers and the program.
 	 */
-	private static void parse(List<String> computer) {
+	private static Computer initializeProgram(List<Section> computer) {
 		Pattern pattern = Pattern.compile("Register (\\w+): (\\d+)");
+		Computer program = new Computer();
 		
-		for (String reg: computer.get(0).split(System.lineSeparator())) {
+		for (View reg: computer.get(0).lines()) {
 			Matcher matchRegistry = pattern.matcher(reg);
 			if (matchRegistry.find()) {
-				registers.put(matchRegistry.group(1), Long.valueOf(matchRegistry.group(2)));
+				program.registers.put(matchRegistry.group(1), Long.valueOf(matchRegistry.group(2)));
 			}
 		}
 		
-		commands.addAll(Arrays.asList(computer.get(1).split(": ")[1].split(",")).stream().map(Integer::valueOf).toList());
+		NumberScanner commands = computer.get(1).numbers();
+		while (commands.hasNext()) {
+			program.commands.add(commands.nextInt());
+		}
+		return program;
 	}
 	
 	/** Runs the program itself.
 	 * 
+	 * @param computer Computer to run the program on.
 	 * @return a List of Long numbers according to what the "Out" operation returned.
 	 */
-	private static List<Long> program() {
-		instructionPointer = 0;
-		cont = true;
+	private static List<Long> program(Computer computer) {
+		computer.instructionPointer = 0;
+		computer.cont = true;
+		List<Integer> commands = computer.commands;
 		int maxCommands = commands.size();
 		List<Long> output = new ArrayList<>();
 		
 		while (true) {
-			if (instructionPointer >= maxCommands) break;
-			int opcode = commands.get(instructionPointer);
-			int operand = commands.get(instructionPointer + 1);
+			if (computer.instructionPointer >= maxCommands) break;
+			int opcode = commands.get(computer.instructionPointer);
+			int operand = commands.get(computer.instructionPointer + 1);
 			switch (opcode) {
-			case 0 -> OpCodes.adv(operand);
-			case 1 -> OpCodes.bxl(operand);
-			case 2 -> OpCodes.bst(operand);
-			case 3 -> OpCodes.jnz(operand);
-			case 4 -> OpCodes.bxc();
-			case 5 -> output.add(OpCodes.out(operand));
-			case 6 -> OpCodes.bdv(operand);
-			case 7 -> OpCodes.cdv(operand);
+			case 0 -> computer.adv(operand);
+			case 1 -> computer.bxl(operand);
+			case 2 -> computer.bst(operand);
+			case 3 -> computer.jnz(operand);
+			case 4 -> computer.bxc();
+			case 5 -> output.add(computer.out(operand));
+			case 6 -> computer.bdv(operand);
+			case 7 -> computer.cdv(operand);
 			}
-			if (cont) instructionPointer += 2;
-			else cont = true;
+			if (computer.cont) computer.instructionPointer += 2;
+			else computer.cont = true;
 		}
 		
 		return output;
@@ -184,11 +203,13 @@ public class Day17 {
 	 * 
 	 *  Credit to u/4HbQ for the clever algorithm.
 	 * 
+	 * @param computer Computer holding the program.
 	 * @return a List of Longs as described above.
 	 */
-	private static List<Long> sameProgram() {
+	private static List<Long> sameProgram(Computer computer) {
 		List<Long> results = new ArrayList<>();
-		List<Long> longCommands = commands.stream().mapToLong(Long::valueOf).boxed().toList();
+		Map<String, Long> registers = computer.registers;
+		List<Long> longCommands = computer.commands.stream().mapToLong(Long::valueOf).boxed().toList();
 		int lengthOfCommands = longCommands.size();
 		LinkedList<long[]> left = new LinkedList<>();
 		left.add(new long[] {longCommands.size()-1, 0});
@@ -203,7 +224,7 @@ public class Day17 {
 				registers.put("A", a);
 				registers.put("B", 0L);
 				registers.put("C", 0L);
-				List<Long> result = program();
+				List<Long> result = program(computer);
 				if (result.equals(listToCompare)) {
 					if (max == 0) results.add(a);
 					else left.add(new long[] {max-1, a});
@@ -224,12 +245,13 @@ public class Day17 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param computer Computer holding the registers and the program.
+		 * @return The answer to the first part.
 		 */
-		public static void part() {
-			List<Long> output = program();
+		public static String part(Computer computer) {
+			List<Long> output = program(computer);
 
-			System.out.println("Part 1: " + output.stream().map(x -> x.toString()).collect(Collectors.joining(",")));
+			return output.stream().map(x -> x.toString()).collect(Collectors.joining(","));
 		}
 	}
 	
@@ -244,11 +266,12 @@ public class Day17 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param computer Computer holding the program.
+		 * @return The answer to the second part.
 		 */
-		public static void part() {
+		public static long part(Computer computer) {
 	
-			System.out.println("Part 2: " + sameProgram().stream().mapToLong(Long::valueOf).min().getAsLong());
+			return sameProgram(computer).stream().mapToLong(Long::valueOf).min().getAsLong();
 		}
 	}
 }
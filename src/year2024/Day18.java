@@ -2,15 +2,14 @@ package year2024;
 
 import java.io.File;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Set;
 
-import universalFunctions.ReadFiles;
-import universalFunctions.CommonObjects.Position;
+import universalFunctions.BreadthFirstSearch;
+import universalFunctions.Grid;
+import universalFunctions.MappedInput;
+import universalFunctions.MappedInput.NumberScanner;
+import universalFunctions.Solver;
+import universalFunctions.UnionFind;
+import universalFunctions.Metrics;
 
 /**
  * =========================================================================
@@ -18,121 +17,134 @@ import universalFunctions.CommonObjects.Position;
  * =========================================================================
  */
 
-public class Day18 {
+public class Day18 implements Solver<Day18.Memory> {
 	
-	private static final Long infinity = Long.MAX_VALUE;
-	private static final Integer[][] directions = {
-			{0, 1}, {1, 0}, {0, -1}, {-1, 0}
-	};
-	private static String[][] map;
+	private static final Metrics.Counter SEARCHES = Metrics.counter(Day18.class, "searches");
+	private static final Metrics.Counter POLLED = Metrics.counter(Day18.class, "polled");
+	private static final Metrics.Counter BYTES_LIFTED = Metrics.counter(Day18.class, "bytesLifted");
 	
-	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day18.txt");
-		List<String> puzzle = ReadFiles.readLineByLine(puzzleFile);
-		
-		Part1.part(puzzle, 1024, 70);
-		Part2.part(puzzle, 70);
-	}
+	// Width and height of the memory space of an official input.
+	private static final int SIZE = 71;
+	// Number of bytes that have fallen in the first part.
+	private static final int FALLEN_BYTES = 1024;
 	
-	/** Parses the maze into a String representation of the maze.
+	/** The memory space, and where every byte falls in it.
 	 * 
-	 * @param wallCoordinates Coordinates of the walls.
-	 * @param wallNum Number of walls that should be placed.
-	 * @param sizeOfMap Size of the maze.
+	 * @param width Width of the memory space.
+	 * @param height Height of the memory space.
+	 * @param cells Cell of every byte, as row * width + column, in the order they fall.
 	 */
-	private static void parseToMap(List<String> wallCoordinates, int wallNum, int sizeOfMap) {
-		map = new String[sizeOfMap+1][sizeOfMap+1];
-		for (String[] row: map) Arrays.fill(row, ".");
+	record Memory(int width, int height, int[] cells) {
 		
-		for (String coordinate: wallCoordinates.subList(0, wallNum)) {
-			String[] wallCoordinate = coordinate.split(",");
-			map[Integer.valueOf(wallCoordinate[1])][Integer.valueOf(wallCoordinate[0])] = "#";
+		// The exit in the bottom right corner.
+		int exit() {
+			return width * height - 1;
 		}
 	}
 	
-	/** Finds every empty point in the maze.
+	public static void main(String[] args) {
+		Solver.printAnswers(new Day18(), new File("input/2024/Day18.txt"));
+	}
+
+	@Override
+	public Memory parse(File puzzleFile) {
+		return parse(puzzleFile, SIZE, SIZE);
+	}
+
+	@Override
+	public Object part1(Memory memory) {
+		return Part1.part(memory, FALLEN_BYTES, 0, memory.exit());
+	}
+
+	@Override
+	public Object part2(Memory memory) {
+		return Part2.part(memory, 0, memory.exit());
+	}
+	
+	/** Reads the coordinates of the bytes as flat cell indices of a memory space of any size.
 	 * 
-	 * @return a Set of Positions containing every traversable empty space.
+	 * @param puzzleFile File of byte locations, as "column,row" on every line.
+	 * @param width Width of the memory space.
+	 * @param height Height of the memory space.
+	 * @return the Memory with every byte.
 	 */
-	private static Set<Position> getAllEmpties() {
-		Set<Position> empties = new HashSet<>();
-		
-		for (int r = 0; r < map.length; r++) {
-			String[] row = map[r];
-			for (int c = 0; c < row.length; c++) {
-				String element = row[c];
-				if (element.equals(".")) empties.add(new Position(r, c));
-			}
+	static Memory parse(File puzzleFile, int width, int height) {
+		MappedInput input = MappedInput.map(puzzleFile);
+		NumberScanner numbers = input.numbers();
+		int[] cells = new int[input.lineCount()];
+		int count = 0;
+		while (numbers.hasNext()) {
+			int column = numbers.nextInt();
+			int row = numbers.nextInt();
+			cells[count++] = row * width + column;
 		}
-		
-		return empties;
+		return new Memory(width, height, Arrays.copyOf(cells, count));
 	}
 	
-	/** Dijkstra's Algorithm to traverse the maze of bytes.
+	/** Builds the memory space after some bytes have fallen.
 	 * 
-	 * @param start Position to start from.
-	 * @param stopAtFinal Boolean value if search must stop when reaching the finish tile.
-	 * @param goal Where the final tile is.
-	 * @return A distance matrix containing distance from the start to every other traversable point.
+	 * @param memory The memory space.
+	 * @param fallen Number of bytes that have fallen.
+	 * @return a Grid with a '#' on every corrupted cell.
 	 */
-	private static Map<Position, Long> dijkstra(Position start, boolean stopAtFinal, Position goal) {
-		boolean cont = true;
-		Set<Position> empties = getAllEmpties();
-		Map<Position, Long> distanceMapping = new HashMap<>();
-		for (Position empty: empties) {
-			distanceMapping.put(empty, infinity);
-		}
-		PriorityQueue<Position> toCheck = new PriorityQueue<>((a, b) -> distanceMapping.get(a).compareTo(distanceMapping.get(b)));
-		Set<Position> seen = new HashSet<>();
+	private static Grid dropBytes(Memory memory, int fallen) {
+		Grid grid = new Grid(memory.height(), memory.width(), '.');
+		for (int i = 0; i < fallen; i++) grid.set(memory.cells()[i], '#');
+		return grid;
+	}
+	
+	/** Finds the first byte that cuts two cells of the memory space off from each other. Works backwards:
+	 *  every byte is dropped first, then they're lifted again from the last one down, joining each freed
+	 *  cell to its free neighbors. The byte whose lifting first connects the two cells is the one that
+	 *  cut them off, so the whole search is a single pass of near-constant time unions.
+	 * 
+	 * @param cells Cell of every byte, as row * width + column, in the order they fall.
+	 * @param width Width of the memory space.
+	 * @param height Height of the memory space.
+	 * @param start Cell to start from.
+	 * @param goal Cell to reach.
+	 * @return the index of the first blocking byte, or -1 if no byte cuts the cells off.
+	 */
+	static int firstToBlock(int[] cells, int width, int height, int start, int goal) {
+		int[] fallen = new int[width * height];
+		for (int cell: cells) fallen[cell]++;
 		
-		distanceMapping.put(start, 0L);
-		toCheck.add(start);
+		UnionFind regions = new UnionFind(width * height);
+		for (int cell = 0; cell < fallen.length; cell++) {
+			if (fallen[cell] == 0) joinFreeNeighbors(regions, fallen, cell, width, height);
+		}
+		if (isConnected(regions, fallen, start, goal)) return -1;
 		
-		while (!toCheck.isEmpty() && cont) {
-			Position polled = toCheck.poll();
-			seen.add(polled);
-			long distance = distanceMapping.get(polled) + 1;
-			Set<Position> canMoveTo = new HashSet<>();
-			for (Integer[] direction: directions) {
-				int newR = polled.getR() + direction[0];
-				int newC = polled.getC() + direction[1];
-				Position posToCheck = new Position(newR, newC);
-				if (empties.contains(posToCheck)) canMoveTo.add(posToCheck);
-			}
-			
-			for (Position newPosition: canMoveTo) {
-				if (distanceMapping.get(newPosition) > distance) {
-					if (!seen.contains(newPosition)) toCheck.add(newPosition);
-					distanceMapping.put(newPosition, distance);
-				}
-				if (stopAtFinal && newPosition.equals(goal)) cont = false;
-			}
+		for (int i = cells.length - 1; i >= 0; i--) {
+			BYTES_LIFTED.increment();
+			int cell = cells[i];
+			if (--fallen[cell] > 0) continue;
+			joinFreeNeighbors(regions, fallen, cell, width, height);
+			if (isConnected(regions, fallen, start, goal)) return i;
 		}
 		
-		return distanceMapping;
+		return -1;
 	}
 	
-	/** Finds and returns the first byte that makes the final destination unreachable.
+	/** Joins a free cell to every free cell next to it.
 	 * 
-	 * @param bytes List of Byte locations.
-	 * @param size Size of the map.
-	 * @return The coordinate of the first byte blocking the goal.
+	 * @param regions Connected regions of free cells.
+	 * @param fallen Number of bytes on every cell.
+	 * @param cell Free cell to join.
+	 * @param width Width of the memory space.
+	 * @param height Height of the memory space.
 	 */
-	private static String firstToBlock(List<String> bytes, int size) {
-		int leftMost = 0;
-		int rightMost = bytes.size();
-		Position finalPos = new Position(size, size);
-		
-		while (leftMost < rightMost-1) {
-			int timeToCheck = (rightMost + leftMost)/2;
-			parseToMap(bytes, timeToCheck, size);
-			Map<Position, Long> distanceMatrix = dijkstra(new Position(), true, finalPos);
-			long finalPositionValue = distanceMatrix.get(finalPos);
-			if (finalPositionValue == infinity) rightMost = timeToCheck;
-			else leftMost = timeToCheck;
-		}
-		
-		return bytes.get(leftMost);
+	private static void joinFreeNeighbors(UnionFind regions, int[] fallen, int cell, int width, int height) {
+		int row = cell / width;
+		int column = cell % width;
+		if (row > 0 && fallen[cell - width] == 0) regions.union(cell, cell - width);
+		if (row < height - 1 && fallen[cell + width] == 0) regions.union(cell, cell + width);
+		if (column > 0 && fallen[cell - 1] == 0) regions.union(cell, cell - 1);
+		if (column < width - 1 && fallen[cell + 1] == 0) regions.union(cell, cell + 1);
+	}
+	
+	private static boolean isConnected(UnionFind regions, int[] fallen, int start, int goal) {
+		return fallen[start] == 0 && fallen[goal] == 0 && regions.connected(start, goal);
 	}
 	
 	/**
@@ -146,13 +158,19 @@ public class Day18 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param memory The memory space and its bytes.
+		 * @param fallen Number of bytes that have fallen.
+		 * @param start Cell to start from.
+		 * @param goal Cell to reach.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<String> bytes, int numOfBytes, int size) {
-			parseToMap(bytes, numOfBytes, size);
-			Map<Position, Long> distanceMatrix = dijkstra(new Position(), true, new Position(size, size));
+		public static int part(Memory memory, int fallen, int start, int goal) {
+			BreadthFirstSearch search = new BreadthFirstSearch(dropBytes(memory, fallen), '#');
+			int steps = search.distance(goal, start);
+			SEARCHES.increment();
+			POLLED.add(search.polled());
 
-			System.out.println("Part 1: " + distanceMatrix.get(new Position(size, size)));
+			return steps;
 		}
 	}
 	
@@ -167,11 +185,17 @@ public class Day18 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param memory The memory space and its bytes.
+		 * @param start Cell to start from.
+		 * @param goal Cell to reach.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<String> bytes, int size) {
-	
-			System.out.println("Part 2: " + firstToBlock(bytes, size));
+		public static String part(Memory memory, int start, int goal) {
+			int blocking = firstToBlock(memory.cells(), memory.width(), memory.height(), start, goal);
+			if (blocking < 0) return "none";
+
+			int cell = memory.cells()[blocking];
+			return cell % memory.width() + "," + cell / memory.width();
 		}
 	}
 }
@@ -2,12 +2,15 @@ package year2024;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import universalFunctions.MappedInput.Section;
+import universalFunctions.MappedInput.View;
+import universalFunctions.Metrics;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -15,48 +18,73 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day19 {
+public class Day19 implements Solver<Day19.Onsen> {
 	
-	private static List<String> availableStripes = new ArrayList<>();
+	private static final Metrics.Counter DESIGN_CHECKS = Metrics.counter(Day19.class, "designChecks");
+	private static final Metrics.Counter PREFIX_MATCHES = Metrics.counter(Day19.class, "prefixMatches");
+	
+	/** Parsed puzzle input.
+	 * 
+	 * @param availableStripes List of the available stripes.
+	 * @param designs List of the designs to make.
+	 */
+	record Onsen(List<String> availableStripes, List<String> designs) {}
 	
 	// Runner Code
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day19.txt");
-		List<String> puzzle = ReadFiles.readDoubleGap(puzzleFile);
-		List<String> listOfDesigns = Arrays.asList(puzzle.get(1).split(System.lineSeparator()));
-		
-		parseAvailableStripes(puzzle.get(0));
-		List<String> possibleDesigns = listOfDesigns.stream().filter(a -> checkDesign(a, new HashMap<>())).toList();
+		Solver.printAnswers(new Day19(), new File("input/2024/Day19.txt"));
+	}
+
+	@Override
+	public Onsen parse(File puzzleFile) {
+		List<Section> puzzle = ReadFiles.readSections(puzzleFile);
+		List<String> designs = puzzle.get(1).lines().stream().map(View::toString).toList();
 		
-		Part1.part(possibleDesigns);
-		Part2.part(possibleDesigns);
+		return new Onsen(parseAvailableStripes(puzzle.get(0).toString()), designs);
+	}
+
+	@Override
+	public Object part1(Onsen onsen) {
+		List<String> stripes = onsen.availableStripes();
+		return Part1.part(onsen.designs().stream().filter(a -> checkDesign(a, stripes, new HashMap<>())).toList());
+	}
+
+	@Override
+	public Object part2(Onsen onsen) {
+		return Part2.part(onsen.designs(), onsen.availableStripes());
 	}
 	
-	/** Initializes the available stripes list.
+	/** Parses the available stripes list.
 	 * 
 	 * @param stripesString a String containing the different stripes to use.
+	 * @return a List of the available stripes.
 	 */
-	private static void parseAvailableStripes(String stripesString) {
+	private static List<String> parseAvailableStripes(String stripesString) {
+		List<String> availableStripes = new ArrayList<>();
 		String[] stripeArray = stripesString.split(", ");
 		for (String stripe: stripeArray) {
 			availableStripes.add(stripe);
 		}
+		
+		return availableStripes;
 	}
 	
 	/** Checks the design to see if its possible to construct from the available stripes.
 	 * 
 	 * @param design String design.
+	 * @param availableStripes List of the available stripes.
 	 * @param memory HashMap for memory
 	 * @return Boolean value if its possible.
 	 */
-	private static boolean checkDesign(String design, Map<String, Boolean> memory) {
+	private static boolean checkDesign(String design, List<String> availableStripes, Map<String, Boolean> memory) {
 		if (design.isBlank()) return true;
 		if (memory.containsKey(design) && memory.get(design)) return memory.get(design);
 		
 		memory.put(design, false);
+		DESIGN_CHECKS.increment();
 		
 		for (String possibleStripe: availableStripes) {
-			if (design.startsWith(possibleStripe) && checkDesign(design.substring(possibleStripe.length()), memory)) 
+			if (design.startsWith(possibleStripe) && checkDesign(design.substring(possibleStripe.length()), availableStripes, memory)) 
 				memory.put(design, true);
 		}
 		
@@ -66,9 +94,10 @@ public class Day19 {
 	/** Counts the number of ways a design could be replicated with the available stripes.
 	 * 
 	 * @param design String design.
+	 * @param availableStripes List of the available stripes.
 	 * @return a Long number of the number of ways to create the design.
 	 */
-	private static long countWays(String design) {
+	private static long countWays(String design, List<String> availableStripes) {
 		long[] result = new long[design.length()+1];
 		result[0] = 1;
 		
@@ -78,6 +107,7 @@ public class Day19 {
 			for (String s: availableStripes) {
 				if (design.regionMatches(i, s, 0, s.length())) {
 					result[i + s.length()] += result[i];
+					PREFIX_MATCHES.increment();
 				}
 			}
 		}
@@ -97,10 +127,11 @@ public class Day19 {
 		 * Solves the first part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<String> possibleDesigns) {
+		public static int part(List<String> possibleDesigns) {
 
-			System.out.println("Part 1: " + possibleDesigns.size());
+			return possibleDesigns.size();
 		}
 	}
 	
@@ -115,15 +146,17 @@ public class Day19 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param possibleDesigns List of designs. Impossible designs have no ways to be made, so they add nothing.
+		 * @param availableStripes List of the available stripes.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<String> possibleDesigns) {
+		public static long part(List<String> possibleDesigns, List<String> availableStripes) {
 			long finalResult = 0;
 			for (String design: possibleDesigns) {
-				finalResult += countWays(design);
+				finalResult += countWays(design, availableStripes);
 			}
 	
-			System.out.println("Part 2: " + finalResult);
+			return finalResult;
 		}
 	}
 }
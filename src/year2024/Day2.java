@@ -2,10 +2,12 @@ package year2024;
 
 import java.io.File;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import universalFunctions.MappedInput.NumberScanner;
+import universalFunctions.MappedInput.View;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -13,13 +15,30 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day2 {
+public class Day2 implements Solver<File> {
 
 	public static void main(String[] args) {
-		File puzzle = new File("input/2024/Day2.txt");
-		List<String> puzzleLines = ReadFiles.readLineByLine(puzzle);
-		Part1.part(puzzleLines);
-		Part2.part(puzzleLines);
+		Solver.printAnswers(new Day2(), new File("input/2024/Day2.txt"));
+	}
+
+	// Every report is checked on its own, so the reports are streamed straight from the file.
+	@Override
+	public File parse(File puzzleFile) {
+		return puzzleFile;
+	}
+
+	@Override
+	public Object part1(File puzzleFile) {
+		try (Stream<View> reports = ReadFiles.streamLines(puzzleFile, true)) {
+			return Part1.part(reports);
+		}
+	}
+
+	@Override
+	public Object part2(File puzzleFile) {
+		try (Stream<View> reports = ReadFiles.streamLines(puzzleFile, true)) {
+			return Part2.part(reports);
+		}
 	}
 
 	/**
@@ -33,32 +52,54 @@ public class Day2 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param reports Stream of the lines of the file, one report each.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<String> puzzleLines) {
-			int result = 0;
-
-			for (String report : puzzleLines) {
-				List<Integer> levels = Arrays.asList(report.split("\\s+")).stream().map(Integer::valueOf)
-						.collect(Collectors.toList());
-
-				if (isSafe(levels)) {
-					result++;
-				}
-			}
+		public static long part(Stream<View> reports) {
+			return reports.filter(report -> !report.isEmpty())
+					.map(Day2::parseLevels)
+					.filter(levels -> isSafe(levels, -1))
+					.count();
+		}
+	}
 
-			System.out.println("Part 1: " + result);
+	/** Parses the levels of a report.
+	 * 
+	 * @param report View of the line of the report.
+	 * @return an int array of the levels.
+	 */
+	static int[] parseLevels(View report) {
+		int[] levels = new int[8];
+		int count = 0;
+
+		NumberScanner scanner = report.numbers();
+		while (scanner.hasNext()) {
+			if (count == levels.length) levels = Arrays.copyOf(levels, count * 2);
+			levels[count++] = scanner.nextInt();
 		}
+
+		return Arrays.copyOf(levels, count);
 	}
 
-	static boolean isSafe(List<Integer> numList) {
-		boolean isIncreasing = numList.get(0) < numList.get(1);
-		for (int i = 1; i < numList.size(); i++) {
-			int gap = Math.abs(numList.get(i - 1) - numList.get(i));
-			if (gap < 1 || gap > 3 || (isIncreasing && numList.get(i - 1) > numList.get(i))
-					|| (!isIncreasing && numList.get(i - 1) < numList.get(i))) {
-				return false;
+	/** Checks if a report is safe, with one of its levels left out.
+	 * 
+	 * @param levels int array of the levels.
+	 * @param skipped Index of the level to leave out, or -1 to keep them all.
+	 * @return Boolean value if the levels are all increasing or all decreasing, by 1 to 3 each.
+	 */
+	static boolean isSafe(int[] levels, int skipped) {
+		int previous = -1;
+		int direction = 0;
+
+		for (int i = 0; i < levels.length; i++) {
+			if (i == skipped) continue;
+			if (previous != -1) {
+				int gap = levels[i] - levels[previous];
+				if (Math.abs(gap) < 1 || Math.abs(gap) > 3) return false;
+				if (direction == 0) direction = Integer.signum(gap);
+				else if (Integer.signum(gap) != direction) return false;
 			}
+			previous = i;
 		}
 
 		return true;
@@ -75,32 +116,21 @@ public class Day2 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param reports Stream of the lines of the file, one report each.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<String> puzzleLines) {
-			int result = 0;
-
-			for (String report : puzzleLines) {
-				List<Integer> levels = Arrays.asList(report.split("\\s+")).stream().map(Integer::valueOf)
-						.collect(Collectors.toList());
-
-				if (isSafe(levels)) {
-					result++;
-				} else {
-					for (int i = 0; i < levels.size(); i++) {
-						int removed = levels.remove(i);
-
-						if (isSafe(levels)) {
-							result++;
-							break;
-						}
-
-						levels.add(i, removed);
-					}
-				}
-			}
+		public static long part(Stream<View> reports) {
+			return reports.filter(report -> !report.isEmpty())
+					.map(Day2::parseLevels)
+					.filter(Part2::isSafeWithDampener)
+					.count();
+		}
 
-			System.out.println("Part 2: " + result);
+		private static boolean isSafeWithDampener(int[] levels) {
+			for (int skipped = -1; skipped < levels.length; skipped++) {
+				if (isSafe(levels, skipped)) return true;
+			}
+			return false;
 		}
 	}
 }
@@ -1,16 +1,13 @@
 package year2024;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.PriorityQueue;
-import java.util.Set;
+import java.util.Arrays;
 
+import universalFunctions.BreadthFirstSearch;
+import universalFunctions.Grid;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
+import universalFunctions.Metrics;
 
 /**
  * =========================================================================
@@ -18,135 +15,139 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day20 {
+public class Day20 implements Solver<Day20.Track> {
 	
-	static class Position {
-		private int r;
-		private int c;
-		
-		public Position(int r, int c) {
-			this.r = r;
-			this.c = c;
-		}
-		
-		public Position add(int[] relativeDist) {
-			return new Position(r + relativeDist[0], c + relativeDist[1]);
-		}
-
-		@Override
-		public int hashCode() {
-			return Objects.hash(c, r);
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj)
-				return true;
-			if (obj == null)
-				return false;
-			if (getClass() != obj.getClass())
-				return false;
-			Position other = (Position) obj;
-			return c == other.c && r == other.r;
-		}
-
-		@Override
-		public String toString() {
-			return "Position [r=" + r + ", c=" + c + "]";
-		}
-	}
+	private static final Metrics.Counter POLLED = Metrics.counter(Day20.class, "polled");
+	private static final Metrics.Counter CHEATS_CHECKED = Metrics.counter(Day20.class, "cheatsChecked");
 	
-	private static Position startPos;
-	private static String[][] map;
-	private static Map<Position, Long> distance;
-	private static final long infinity = Long.MAX_VALUE;
-	private static final int[][] nearDistance = { {0, -1}, {0, 1}, {-1, 0}, {1, 0} };
-	private static List<Position> emptySpaces = new ArrayList<>();
+	/** The race track, as the distance from the start to every cell.
+	 * 
+	 * @param width Width of the map.
+	 * @param distances Distance from the start to every cell, indexed like the map, with
+	 *  BreadthFirstSearch.UNREACHED for walls and cells off the track.
+	 * @param cells Cells of the track, in order of their distance from the start.
+	 */
+	record Track(int width, int[] distances, int[] cells) {}
+	
+	/** Which cheats to count.
+	 * 
+	 * @param maxCheat Longest a cheat may be, in steps through walls or track.
+	 * @param minSaved Least a cheat has to save.
+	 */
+	record CheatRule(int maxCheat, int minSaved) {}
 	
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day20.txt");
-		List<List<String>> puzzle = ReadFiles.readIntoMatrix(puzzleFile);
+		Solver.printAnswers(new Day20(), new File("input/2024/Day20.txt"));
+	}
+
+	@Override
+	public Track parse(File puzzleFile) {
+		Grid map = ReadFiles.readIntoGrid(puzzleFile);
 		
-		parseToArrayMap(puzzle);
-		getEmpties();
-		distance = dijkstraAlgorithm();
+		BreadthFirstSearch search = new BreadthFirstSearch(map, '#');
+		int[] distances = search.distancesFrom(map.find('S'));
+		POLLED.add(search.polled());
 		
-		Part1.part();
-		Part2.part();
+		return new Track(map.getWidth(), distances, search.reached());
 	}
-	
-	private static void parseToArrayMap(List<List<String>> listMap) {
-		map = new String[listMap.size()][];
-		String[] blankArray = new String[0];
-		for (int i = 0; i < listMap.size(); i++) {
-			map[i] = listMap.get(i).toArray(blankArray);
-		}
+
+	@Override
+	public Object part1(Track track) {
+		return Part1.part(track);
+	}
+
+	@Override
+	public Object part2(Track track) {
+		return Part2.part(track);
 	}
 	
-	private static void getEmpties() {
-		for (int r = 0; r < map.length; r++) {
-			String[] mapRow = map[r];
-			for (int c = 0; c < mapRow.length; c++) {
-				String element = mapRow[c];
-				if (!element.equals("#")) {
-					emptySpaces.add(new Position(r, c));
-					if (element.equals("S")) startPos = new Position(r, c);
-				}
-			}
-		}
+	/** Finds the cheats in one rule, through the batched sweep.
+	 * 
+	 * @param track The race track.
+	 * @param maxCheat Longest a cheat may be.
+	 * @param minSaved Least a cheat has to save.
+	 * @return the number of cheats that save enough.
+	 */
+	private static long getSaves(Track track, int maxCheat, int minSaved) {
+		return countCheats(track, new CheatRule(maxCheat, minSaved))[0];
 	}
 	
-	private static Map<Position, Long> initializeDistance(List<Position> emptyPositions) {
-		Map<Position, Long> distance = new HashMap<>();
-		
-		for (Position empty: emptyPositions) {
-			if (empty.equals(startPos)) distance.put(empty, 0L);
-			else distance.put(empty, infinity);
+	/** Counts the cheats for any number of rules in a single sweep of the track. A cheat goes from a
+	 *  cell of the track to any track cell within its Manhattan diamond of the longest allowed length,
+	 *  and saves the difference of their distances minus its own length. Every cheat that saves
+	 *  something is counted once in a table of cheat length bands by saving bands, where the bands
+	 *  are cut at the lengths and savings of the rules. Prefix sums over the table then answer every
+	 *  rule at once.
+	 * 
+	 * @param track The race track.
+	 * @param rules Rules to count the cheats for. Every rule must ask for a saving of at least one.
+	 * @return the number of cheats for every rule, in the same order.
+	 */
+	private static long[] countCheats(Track track, CheatRule... rules) {
+		int width = track.width();
+		int[] distances = track.distances();
+		int height = distances.length / width;
+		int[] cells = track.cells();
+		for (CheatRule rule: rules) {
+			if (rule.minSaved() < 1) throw new IllegalArgumentException("A cheat has to save at least one picosecond!");
 		}
 		
-		return distance;
-	}
-	
-	private static Map<Position, Long> dijkstraAlgorithm() {
-		Map<Position, Long> distance = initializeDistance(emptySpaces);
-		List<Position> previous = new ArrayList<>();
+		int[] lengths = Arrays.stream(rules).mapToInt(CheatRule::maxCheat).distinct().sorted().toArray();
+		int[] savings = Arrays.stream(rules).mapToInt(CheatRule::minSaved).distinct().sorted().toArray();
+		int radius = lengths[lengths.length - 1];
+		int longestSaving = (cells.length == 0) ? 0 : distances[cells[cells.length - 1]];
 		
-		PriorityQueue<Position> toVisit = new PriorityQueue<>((a, b) -> -1 * distance.get(a).compareTo(distance.get(b)));
-		Set<Position> haveVisited = new HashSet<>();
-		toVisit.add(startPos);
+		// Band of every cheat length, as the first rule length that allows it.
+		int[] lengthBand = new int[radius + 1];
+		for (int length = 0, band = 0; length <= radius; length++) {
+			if (lengths[band] < length) band++;
+			lengthBand[length] = band;
+		}
+		// Band of every saving, as the last rule saving it reaches, or -1 if it reaches none.
+		int[] savingBand = new int[longestSaving + 1];
+		for (int saving = 0, band = -1; saving <= longestSaving; saving++) {
+			if (band + 1 < savings.length && savings[band + 1] == saving) band++;
+			savingBand[saving] = band;
+		}
 		
-		while (!toVisit.isEmpty()) {
-			Position polled = toVisit.poll();
-			long currDist = distance.get(polled);
+		long[][] found = new long[lengths.length][savings.length];
+		long checked = 0;
+		for (int cell: cells) {
+			int r = cell / width;
+			int c = cell % width;
+			int distance = distances[cell];
 			
-			for (int[] relativeDist: nearDistance) {
-				Position newPosition = polled.add(relativeDist);
-				if (emptySpaces.contains(newPosition) && distance.get(newPosition) > currDist+1) {
-					distance.put(newPosition, currDist+1);
-					previous.add(polled);
-					if (!haveVisited.contains(newPosition)) toVisit.add(newPosition);
+			for (int dr = Math.max(-radius, -r); dr <= Math.min(radius, height - 1 - r); dr++) {
+				int reach = radius - Math.abs(dr);
+				int rowStart = cell + dr * width;
+				for (int dc = Math.max(-reach, -c); dc <= Math.min(reach, width - 1 - c); dc++) {
+					int end = distances[rowStart + dc];
+					if (end == BreadthFirstSearch.UNREACHED) continue;
+					int length = Math.abs(dr) + Math.abs(dc);
+					int saving = end - distance - length;
+					if (saving <= 0 || savingBand[saving] < 0) continue;
+					found[lengthBand[length]][savingBand[saving]]++;
 				}
+				checked += Math.min(reach, width - 1 - c) - Math.max(-reach, -c) + 1;
 			}
-			
-			haveVisited.add(polled);
 		}
+		CHEATS_CHECKED.add(checked);
 		
-		return distance;
-	}
-	
-	private static int getSaves(Map<Position, Long> distances, int maxCheat, int minSaved) {
-		int saved = 0;
-		Set<Position> positions = distances.keySet();
-		
-		for (Position p: positions) {
-			for (Position np: positions) {
-				long cheatDist = Math.abs(p.r - np.r) + Math.abs(p.c - np.c);
-				long init = distances.get(np) - distances.get(p);
-				if (cheatDist <= maxCheat && (init - cheatDist) >= minSaved) saved++;
+		// Turns every entry into the number of cheats at most as long and saving at least as much.
+		for (int l = 0; l < lengths.length; l++) {
+			for (int s = savings.length - 2; s >= 0; s--) found[l][s] += found[l][s + 1];
+			if (l > 0) {
+				for (int s = 0; s < savings.length; s++) found[l][s] += found[l - 1][s];
 			}
 		}
 		
-		return saved;
+		long[] counts = new long[rules.length];
+		for (int i = 0; i < rules.length; i++) {
+			int l = Arrays.binarySearch(lengths, rules[i].maxCheat());
+			int s = Arrays.binarySearch(savings, rules[i].minSaved());
+			counts[i] = found[l][s];
+		}
+		return counts;
 	}
 	
 	/**
@@ -160,10 +161,11 @@ public class Day20 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param track Distance from the start to every cell of the track.
+		 * @return The answer to the first part.
 		 */
-		public static void part() {
-			System.out.println("Part 1: " + getSaves(distance, 2, 100));
+		public static long part(Track track) {
+			return getSaves(track, 2, 100);
 		}
 	}
 	
@@ -178,10 +180,11 @@ public class Day20 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param track Distance from the start to every cell of the track.
+		 * @return The answer to the second part.
 		 */
-		public static void part() {
-			System.out.println("Part 2: " + getSaves(distance, 20, 100));
+		public static long part(Track track) {
+			return getSaves(track, 20, 100);
 		}
 	}
 }
@@ -3,14 +3,15 @@ package year2024;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
-import java.util.concurrent.ConcurrentHashMap;
 
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -18,7 +19,7 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day21 {
+public class Day21 implements Solver<List<String>> {
 	
 	static class Position {
 		private int r;
@@ -72,7 +73,6 @@ public class Day21 {
 		}
 	}
 	
-	private static Map<RecursionTuple, Long> cache = new ConcurrentHashMap<>();
 	static class RecursionTuple {
 		private String code;
 		private int depth;
@@ -82,7 +82,12 @@ public class Day21 {
 			this.depth = depth;
 		}
 		
-		private long getRobotLength() {
+		/** Finds the fewest presses on the outermost keypad that type the code, through a number of robots.
+		 * 
+		 * @param cache Lengths found so far in this part, by code and depth.
+		 * @return the number of presses.
+		 */
+		private long getRobotLength(Map<RecursionTuple, Long> cache) {
 			if (cache.containsKey(this)) return cache.get(this);
 			if (depth == 0) return code.length();
 			
@@ -92,7 +97,7 @@ public class Day21 {
 				String dest = Character.toString(c);
 				List<Long> temporary = new ArrayList<>();
 				for (String path: getPaths(directionalKeypad, source, dest)) {
-					long res = new RecursionTuple(path, depth-1).getRobotLength();
+					long res = new RecursionTuple(path, depth-1).getRobotLength(cache);
 					temporary.add(res);
 				}
 				total += Collections.min(temporary);
@@ -121,23 +126,34 @@ public class Day21 {
 		}
 	}
 	
-	private static String[][] numericKeypad = {
+	private static final String[][] numericKeypad = {
 			{"7", "8", "9"},
 			{"4", "5", "6"},
 			{"1", "2", "3"},
 			{"X", "0", "A"}
 	};
-	private static String[][] directionalKeypad = {
+	private static final String[][] directionalKeypad = {
 			{"X", "^", "A"},
 			{"<", "v", ">"}
 	};
 	
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day21.txt");
-		List<String> puzzle = ReadFiles.readLineByLine(puzzleFile);
-		
-		Part1.part(puzzle);
-		Part2.part(puzzle);
+		Solver.printAnswers(new Day21(), new File("input/2024/Day21.txt"));
+	}
+
+	@Override
+	public List<String> parse(File puzzleFile) {
+		return ReadFiles.readLineByLine(puzzleFile);
+	}
+
+	@Override
+	public Object part1(List<String> doorCodes) {
+		return Part1.part(doorCodes);
+	}
+
+	@Override
+	public Object part2(List<String> doorCodes) {
+		return Part2.part(doorCodes);
 	}
 	
 	private static Position[] findStartEnd(String[][] keypad, String button1, String button2, String bad) {
@@ -230,21 +246,23 @@ public class Day21 {
 		 * Solves the first part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<String> doorCodes) {
+		public static long part(List<String> doorCodes) {
 			List<Long> trueRes = new ArrayList<>();
+			Map<RecursionTuple, Long> cache = new HashMap<>();
 			
 			for (String code: doorCodes) {
 				List<String> directionalCodes = getDoorRobotPaths(code);
 				List<Long> result = new ArrayList<>();
 				for (String dirCode: directionalCodes) {
 					RecursionTuple t = new RecursionTuple(dirCode, 2);
-					result.add(t.getRobotLength());
+					result.add(t.getRobotLength(cache));
 				}
 				trueRes.add(Collections.min(result) * Long.valueOf(code.substring(0, code.length()-1)));
 			}
 
-			System.out.println("Part 1: " + trueRes.stream().mapToLong(Long::valueOf).sum());
+			return trueRes.stream().mapToLong(Long::valueOf).sum();
 		}
 	}
 	
@@ -260,21 +278,23 @@ public class Day21 {
 		 * Solves the second part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<String> doorCodes) {
+		public static long part(List<String> doorCodes) {
 			List<Long> trueRes = new ArrayList<>();
+			Map<RecursionTuple, Long> cache = new HashMap<>();
 			
 			for (String code: doorCodes) {
 				List<String> directionalCodes = getDoorRobotPaths(code);
 				List<Long> result = new ArrayList<>();
 				for (String dirCode: directionalCodes) {
 					RecursionTuple t = new RecursionTuple(dirCode, 25);
-					result.add(t.getRobotLength());
+					result.add(t.getRobotLength(cache));
 				}
 				trueRes.add(Collections.min(result) * Long.valueOf(code.substring(0, code.length()-1)));
 			}
 
-			System.out.println("Part 2: " + trueRes.stream().mapToLong(Long::valueOf).sum());
+			return trueRes.stream().mapToLong(Long::valueOf).sum();
 		}
 	}
 }
@@ -1,15 +1,12 @@
 package year2024;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.stream.Stream;
 
+import universalFunctions.MappedInput.View;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -17,7 +14,7 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day22 {
+public class Day22 implements Solver<File> {
 	
 	static class SecretNumber {
 		private long number;
@@ -60,11 +57,27 @@ public class Day22 {
 	}
 	
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day22.txt");
-		List<String> puzzle = ReadFiles.readLineByLine(puzzleFile);
-		
-		Part1.part(puzzle);
-		Part2.part(puzzle);
+		Solver.printAnswers(new Day22(), new File("input/2024/Day22.txt"));
+	}
+
+	// Every buyer's secret number evolves on its own, so the buyers are streamed straight from the file.
+	@Override
+	public File parse(File puzzleFile) {
+		return puzzleFile;
+	}
+
+	@Override
+	public Object part1(File puzzleFile) {
+		try (Stream<View> buyers = ReadFiles.streamLines(puzzleFile, true)) {
+			return Part1.part(buyers);
+		}
+	}
+
+	@Override
+	public Object part2(File puzzleFile) {
+		try (Stream<View> buyers = ReadFiles.streamLines(puzzleFile, true)) {
+			return Part2.part(buyers);
+		}
 	}
 	
 	/**
@@ -78,16 +91,17 @@ public class Day22 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param buyers Stream of the lines of the file, one initial secret number each.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<String> puzzle) {
-			List<SecretNumber> secrets = puzzle.stream().map(x -> new SecretNumber(Long.valueOf(x))).toList();
-			
-			for (int i = 0; i < 2000; i++) {
-				secrets.forEach(x -> x.evolve());
-			}
-			
-			System.out.println("Part 1: " + secrets.stream().mapToLong(x -> x.number).sum());
+		public static long part(Stream<View> buyers) {
+			return buyers.filter(line -> !line.isEmpty()).mapToLong(line -> {
+				SecretNumber secret = new SecretNumber(line.parseLong());
+				for (int i = 0; i < 2000; i++) {
+					secret.evolve();
+				}
+				return secret.number;
+			}).sum();
 		}
 	}
 	
@@ -99,51 +113,53 @@ public class Day22 {
 
 	class Part2 {
 		
-		private record PriceTuple(int position, List<Long> delta) {}
+		// Four price changes, each from -9 to 9, make one of 19^4 sequences.
+		private static final int SEQUENCES = 19 * 19 * 19 * 19;
 		
-		/**
-		 * Solves the second part of the puzzle.
+		/** Bananas every sequence of four price changes would earn, over the buyers seen so far.
+		 *  A buyer only sells the first time a sequence shows up, which is tracked by stamping
+		 *  every sequence with the number of the last buyer it showed up for.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
 		 */
-		public static void part(List<String> puzzle) {
-			List<SecretNumber> secrets = puzzle.stream().map(x -> new SecretNumber(Long.valueOf(x))).toList();
-	
-			Set<PriceTuple> seen = new HashSet<>();
-			Map<List<Long>, Long> prices = new HashMap<>();
-			Map<Integer, List<Long>> history = new LinkedHashMap<>() {
-				private static final long serialVersionUID = 1L;
-				@Override
-				protected boolean removeEldestEntry(Map.Entry<Integer, List<Long>> eldest) {
-					return this.size() > 5;
+		private static class Bananas {
+			private final long[] totals = new long[SEQUENCES];
+			private final int[] lastBuyer = new int[SEQUENCES];
+			private int buyers = 0;
+			
+			void add(long initialSecret) {
+				int buyer = ++buyers;
+				SecretNumber secret = new SecretNumber(initialSecret);
+				int sequence = 0;
+				
+				for (int i = 0; i < 2000; i++) {
+					long previousPrice = secret.price;
+					secret.evolve();
+					sequence = (sequence * 19 + (int) (secret.price - previousPrice + 9)) % SEQUENCES;
+					if (i < 3 || lastBuyer[sequence] == buyer) continue;
+					
+					lastBuyer[sequence] = buyer;
+					totals[sequence] += secret.price;
 				}
-			};
-			history.put(-1, secrets.stream().map(x -> x.price).toList());
+			}
 			
-			for (int i = 0; i < 2000; i++) {
-				secrets.forEach(x -> x.evolve());
-				history.put(i, secrets.stream().map(x -> x.price).toList());
-				if (history.size() == 5) {
-					List<Long> latest = history.get(i);
-					for (int j = 0; j < puzzle.size(); j++) {
-						long affectedValue = latest.get(j);
-						List<Long> priceChange = new ArrayList<>();
-						for (int k = i-4; k < i; k++) {
-							priceChange.add(history.get(k+1).get(j) - history.get(k).get(j));
-						}
-						PriceTuple last = new PriceTuple(j, priceChange);
-						if (seen.contains(last)) continue;
-						
-						prices.computeIfPresent(priceChange, (k, v) -> v + affectedValue);
-						prices.putIfAbsent(priceChange, affectedValue);
-						seen.add(last);
-					}
+			void addAll(Bananas other) {
+				for (int i = 0; i < SEQUENCES; i++) {
+					totals[i] += other.totals[i];
 				}
 			}
+		}
+		
+		/**
+		 * Solves the second part of the puzzle.
+		 * 
+		 * @param buyers Stream of the lines of the file, one initial secret number each.
+		 * @return The answer to the second part.
+		 */
+		public static long part(Stream<View> buyers) {
+			Bananas bananas = buyers.filter(line -> !line.isEmpty())
+					.collect(Bananas::new, (b, line) -> b.add(line.parseLong()), Bananas::addAll);
 			
-			System.out.println("Part 2: " + prices.values().stream().mapToLong(Long::valueOf).max().getAsLong());
+			return Arrays.stream(bananas.totals).max().getAsLong();
 		}
 	}
 }
-
-
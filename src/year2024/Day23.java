@@ -11,7 +11,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import universalFunctions.Metrics;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -19,7 +21,9 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day23 {
+public class Day23 implements Solver<Day23.Graph> {
+	
+	private static final Metrics.Counter CLIQUE_CALLS = Metrics.counter(Day23.class, "cliqueCalls");
 	
 	private record Node(String label) {
 		@Override
@@ -75,11 +79,12 @@ public class Day23 {
 		
 		Set<Set<Node>> maximalCliques() {
 			Set<Set<Node>> maximalCliques = new HashSet<>();
-			bronKerbosch(new HashSet<>(), nNodes.keySet(), new HashSet<>(), maximalCliques);
+			bronKerbosch(new HashSet<>(), new HashSet<>(nNodes.keySet()), new HashSet<>(), maximalCliques);
 			return maximalCliques;
 		}
 		
 		private void bronKerbosch(Set<Node> R, Set<Node> P, Set<Node> X, Set<Set<Node>> maximalCliques) {
+			CLIQUE_CALLS.increment();
 			if (P.isEmpty() && X.isEmpty()) {
 				maximalCliques.add(R);
 				return;
@@ -103,15 +108,23 @@ public class Day23 {
 		}
 	}
 	
-	private static Graph network;
-	
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day23.txt");
-		List<String> puzzle = ReadFiles.readLineByLine(puzzleFile);
-		network = initializeLAN(puzzle);
-		
-		Part1.part();
-		Part2.part();
+		Solver.printAnswers(new Day23(), new File("input/2024/Day23.txt"));
+	}
+
+	@Override
+	public Graph parse(File puzzleFile) {
+		return initializeLAN(ReadFiles.readLineByLine(puzzleFile));
+	}
+
+	@Override
+	public Object part1(Graph network) {
+		return Part1.part(network);
+	}
+
+	@Override
+	public Object part2(Graph network) {
+		return Part2.part(network);
 	}
 	
 	private static Graph initializeLAN(List<String> puzzle) {
@@ -139,9 +152,10 @@ public class Day23 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param network Graph of the LAN party.
+		 * @return The answer to the first part.
 		 */
-		public static void part() {
+		public static int part(Graph network) {
 			Set<Set<Node>> containsChief = new HashSet<>();
 			for (Set<Node> triad: network.getTriads()) {
 				for (Node triadNode: triad) {
@@ -152,7 +166,7 @@ public class Day23 {
 				}
 			}
 
-			System.out.println("Part 1: " + containsChief.size());
+			return containsChief.size();
 		}
 	}
 	
@@ -167,15 +181,16 @@ public class Day23 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param network Graph of the LAN party.
+		 * @return The answer to the second part.
 		 */
-		public static void part() {
+		public static String part(Graph network) {
 			Set<Set<Node>> maximalCliques = network.maximalCliques();
 			Set<Node> biggest = maximalCliques.stream().max(Comparator.comparing(Set::size)).get();
 			List<String> biggestList = new ArrayList<>(new ArrayList<>(biggest).stream().map(x -> x.label).toList());
 			Collections.sort(biggestList);
 	
-			System.out.println("Part 2: " + String.join(",", biggestList));
+			return String.join(",", biggestList);
 		}
 	}
 }
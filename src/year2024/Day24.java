@@ -10,7 +10,10 @@ import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import universalFunctions.MappedInput.Section;
+import universalFunctions.MappedInput.View;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -18,13 +21,13 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day24 {
+public class Day24 implements Solver<Day24.Device> {
 	
 	static class Program {
 		private Map<String, Boolean> registers;
 		private Map<String, Boolean> instructions;
 		
-		public Program(String[] instructions, Map<String, Boolean> registers) {
+		public Program(List<String> instructions, Map<String, Boolean> registers) {
 			this.instructions = new LinkedHashMap<>();
 			for (String ins: instructions) {
 				this.instructions.put(ins, false);
@@ -128,19 +131,34 @@ public class Day24 {
 		}
 	}
 	
+	record Device(Map<String, Boolean> registers, List<String> instructions) {}
+	
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day24.txt");
-		List<String> puzzle = ReadFiles.readDoubleGap(puzzleFile);
-		Map<String, Boolean> registers = initializeRegisters(puzzle.get(0));
+		Solver.printAnswers(new Day24(), new File("input/2024/Day24.txt"));
+	}
+
+	@Override
+	public Device parse(File puzzleFile) {
+		List<Section> puzzle = ReadFiles.readSections(puzzleFile);
+		List<String> instructions = puzzle.get(1).lines().stream().map(View::toString).toList();
 		
-		Part1.part(registers, puzzle.get(1));
-		Part2.part(registers, puzzle.get(1));
+		return new Device(initializeRegisters(puzzle.get(0)), instructions);
+	}
+
+	@Override
+	public Object part1(Device device) {
+		return Part1.part(device.registers(), device.instructions());
+	}
+
+	@Override
+	public Object part2(Device device) {
+		return Part2.part(device.registers(), device.instructions());
 	}
 	
-	private static Map<String, Boolean> initializeRegisters(String start) {
+	private static Map<String, Boolean> initializeRegisters(Section start) {
 		Map<String, Boolean> registers = new HashMap<>();
 		Pattern pattern = Pattern.compile("(\\w+): (\\d)");
-		for (String s: start.split(System.lineSeparator())) {
+		for (View s: start.lines()) {
 			Matcher matcher = pattern.matcher(s);
 			while (matcher.find()) {
 				registers.put(matcher.group(1), (Integer.valueOf(matcher.group(2)) == 1) ? true : false);
@@ -169,9 +187,10 @@ public class Day24 {
 		 * Solves the first part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the first part.
 		 */
-		public static void part(Map<String, Boolean> registers, String instructions) {
-			Program program = new Program(instructions.split(System.lineSeparator()), registers);
+		public static long part(Map<String, Boolean> registers, List<String> instructions) {
+			Program program = new Program(instructions, new HashMap<>(registers));
 			program.execute();
 			
 			List<Long> res = new ArrayList<>();
@@ -181,7 +200,7 @@ public class Day24 {
 				res.add(powerOfTwo(Integer.valueOf(register.substring(1))));
 			}
 
-			System.out.println("Part 1: " + res.stream().mapToLong(Long::valueOf).sum());
+			return res.stream().mapToLong(Long::valueOf).sum();
 		}
 	}
 	
@@ -197,15 +216,16 @@ public class Day24 {
 		 * Solves the second part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the second part.
 		 */
-		public static void part(Map<String, Boolean> registers, String instructions) {
-			Program program = new Program(instructions.split(System.lineSeparator()), registers);
+		public static String part(Map<String, Boolean> registers, List<String> instructions) {
+			Program program = new Program(instructions, new HashMap<>(registers));
 			program.execute();
 			
 			List<String> badGates = program.findBadGates();
 			Collections.sort(badGates);
 	
-			System.out.println("Part 2: " + String.join(",", badGates));
+			return String.join(",", badGates);
 		}
 	}
 }
@@ -5,7 +5,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import universalFunctions.MappedInput.Section;
+import universalFunctions.MappedInput.View;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -13,22 +16,22 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day25 {
+public class Day25 implements Solver<List<Section>> {
 	
 	static class Schematic {
 		private char lockOrKey;
 		private int[] pinHeights;
 		
-		public Schematic(String[] locks) {
-			if (locks[0].equals("#####")) {
+		public Schematic(Section locks) {
+			if ("#####".contentEquals(locks.line(0))) {
 				lockOrKey = '#';
-			} else if (locks[0].equals(".....")) {
+			} else if (".....".contentEquals(locks.line(0))) {
 				lockOrKey = '.';
 			}
 			
 			pinHeights = new int[5];
-			for (int i = 1; i < locks.length-1; i++) {
-				String row = locks[i];
+			for (int i = 1; i < locks.lineCount()-1; i++) {
+				View row = locks.line(i);
 				for (int p = 0; p < row.length(); p++) {
 					char state = row.charAt(p);
 					if (state == '#') pinHeights[p]++;
@@ -43,11 +46,22 @@ public class Day25 {
 	}
 	
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day25.txt");
-		List<String> puzzle = ReadFiles.readDoubleGap(puzzleFile);
-		
-		Part1.part(puzzle);
-		Part2.part();
+		Solver.printAnswers(new Day25(), new File("input/2024/Day25.txt"));
+	}
+
+	@Override
+	public List<Section> parse(File puzzleFile) {
+		return ReadFiles.readSections(puzzleFile);
+	}
+
+	@Override
+	public Object part1(List<Section> schematics) {
+		return Part1.part(schematics);
+	}
+
+	@Override
+	public Object part2(List<Section> schematics) {
+		return Part2.part();
 	}
 	
 	/**
@@ -62,13 +76,14 @@ public class Day25 {
 		 * Solves the first part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<String> schematics) {
+		public static int part(List<Section> schematics) {
 			List<Schematic> locks = new ArrayList<>();
 			List<Schematic> keys = new ArrayList<>();
 			
-			for (String s: schematics) {
-				Schematic toAdd = new Schematic(s.split(System.lineSeparator()));
+			for (Section s: schematics) {
+				Schematic toAdd = new Schematic(s);
 				if (toAdd.lockOrKey == '#') locks.add(toAdd);
 				else if (toAdd.lockOrKey == '.') keys.add(toAdd);
 			}
@@ -89,7 +104,7 @@ public class Day25 {
 				}
 			}
 
-			System.out.println("Part 1: " + result);
+			return result;
 		}
 	}
 	
@@ -104,11 +119,11 @@ public class Day25 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @return The answer to the second part.
 		 */
-		public static void part() {
+		public static String part() {
 	
-			System.out.println("Part 2: Merry Christmas!");
+			return "Merry Christmas!";
 		}
 	}
 }
@@ -1,12 +1,14 @@
 package year2024;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
+import universalFunctions.LineSource;
+import universalFunctions.MappedInput.View;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -14,13 +16,33 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day3 {
+public class Day3 implements Solver<File> {
+
+	private static final Pattern MUL = Pattern.compile("mul\\((\\d+),(\\d+)\\)");
+	private static final Pattern INSTRUCTION = Pattern.compile("(?:mul\\((\\d+),(\\d+)\\)|don't\\(\\)|do\\(\\))");
 
 	public static void main(String[] args) {
-		File puzzle = new File("input/2024/Day3.txt");
-		List<String> puzzleLines = ReadFiles.readLineByLine(puzzle);
-		Part1.part(puzzleLines);
-		Part2.part(puzzleLines);
+		Solver.printAnswers(new Day3(), new File("input/2024/Day3.txt"));
+	}
+
+	// The memory is scanned line by line, so it's streamed straight from the file.
+	@Override
+	public File parse(File puzzleFile) {
+		return puzzleFile;
+	}
+
+	@Override
+	public Object part1(File puzzleFile) {
+		try (Stream<View> lines = ReadFiles.streamLines(puzzleFile, true)) {
+			return Part1.part(lines);
+		}
+	}
+
+	@Override
+	public Object part2(File puzzleFile) {
+		try (LineSource lines = ReadFiles.openLines(puzzleFile)) {
+			return Part2.part(lines);
+		}
 	}
 
 	/**
@@ -34,20 +56,18 @@ public class Day3 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param lines Stream of the lines of the file.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<String> puzzleLines) {
-			List<Integer> productResults = new ArrayList<>();
-
-			Pattern pattern = Pattern.compile("mul\\((\\d+),(\\d+)\\)");
-			Matcher matcher = pattern.matcher(String.join("", puzzleLines));
-
-			while (matcher.find()) {
-				productResults
-						.add(multiplyNumbers(Integer.valueOf(matcher.group(1)), Integer.valueOf(matcher.group(2))));
-			}
-
-			System.out.println("Part 1: " + productResults.stream().mapToInt(Integer::valueOf).sum());
+		public static int part(Stream<View> lines) {
+			return lines.mapToInt(line -> {
+				int sum = 0;
+				Matcher matcher = MUL.matcher(line);
+				while (matcher.find()) {
+					sum += multiplyNumbers(Integer.valueOf(matcher.group(1)), Integer.valueOf(matcher.group(2)));
+				}
+				return sum;
+			}).sum();
 		}
 	}
 
@@ -64,33 +84,34 @@ public class Day3 {
 	class Part2 {
 
 		/**
-		 * Solves the second part of the puzzle.
+		 * Solves the second part of the puzzle. The do() and don't() state carries over from one
+		 * line to the next, so the lines are pulled in order.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param lines LineSource over the lines of the file.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<String> puzzleLines) {
-			List<Integer> productResults = new ArrayList<>();
-			String bigString = String.join("", puzzleLines);
+		public static int part(LineSource lines) {
+			int result = 0;
 			boolean canMatch = true;
 
-			Pattern pattern = Pattern.compile("(?:mul\\((\\d+),(\\d+)\\)|don't\\(\\)|do\\(\\))");
-			Matcher matcher = pattern.matcher(bigString);
-
-			while (matcher.find()) {
-				if (matcher.group(0).equals("don't()")) {
-					canMatch = false;
-					continue;
-				} else if (matcher.group(0).equals("do()")) {
-					canMatch = true;
-					continue;
-				}
-				if (canMatch) {
-					productResults
-							.add(multiplyNumbers(Integer.valueOf(matcher.group(1)), Integer.valueOf(matcher.group(2))));
+			while (lines.next()) {
+				Matcher matcher = INSTRUCTION.matcher(lines.line());
+
+				while (matcher.find()) {
+					if (matcher.group(0).equals("don't()")) {
+						canMatch = false;
+						continue;
+					} else if (matcher.group(0).equals("do()")) {
+						canMatch = true;
+						continue;
+					}
+					if (canMatch) {
+						result += multiplyNumbers(Integer.valueOf(matcher.group(1)), Integer.valueOf(matcher.group(2)));
+					}
 				}
 			}
 
-			System.out.println("Part 2: " + productResults.stream().mapToInt(Integer::valueOf).sum());
+			return result;
 		}
 	}
 }
@@ -1,9 +1,10 @@
 package year2024;
 
 import java.io.File;
-import java.util.List;
 
+import universalFunctions.Grid;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -11,17 +12,29 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day4 {
+public class Day4 implements Solver<Grid> {
 	private static final int[][] NEIGHBORS = { { -1, -1 }, { -1, 0 }, { -1, 1 }, { 0, -1 }, { 0, 1 }, { 1, -1 },
 			{ 1, 0 }, { 1, 1 } };
 
 	private static final int[][][] CORNER_OPPOSITE_NEIGHBORS = { { { -1, -1 }, { 1, 1 } }, { { 1, -1 }, { -1, 1 } } };
 
 	public static void main(String[] args) {
-		File puzzle = new File("input/2024/Day4.txt");
-		List<List<String>> wordSearch = ReadFiles.readIntoMatrix(puzzle);
-		Part1.part(wordSearch);
-		Part2.part(wordSearch);
+		Solver.printAnswers(new Day4(), new File("input/2024/Day4.txt"));
+	}
+
+	@Override
+	public Grid parse(File puzzleFile) {
+		return ReadFiles.readIntoGrid(puzzleFile);
+	}
+
+	@Override
+	public Object part1(Grid wordSearch) {
+		return Part1.part(wordSearch);
+	}
+
+	@Override
+	public Object part2(Grid wordSearch) {
+		return Part2.part(wordSearch);
 	}
 
 	/**
@@ -35,18 +48,19 @@ public class Day4 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file matrix-style.
+		 * @param puzzleLines Grid read from the file.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<List<String>> puzzleLines) {
+		public static int part(Grid puzzleLines) {
 			int result = 0;
 
-			for (int r = 0; r < puzzleLines.size(); r++) {
-				for (int c = 0; c < puzzleLines.get(r).size(); c++) {
+			for (int r = 0; r < puzzleLines.getHeight(); r++) {
+				for (int c = 0; c < puzzleLines.getWidth(); c++) {
 					result += findWordAtCoords(puzzleLines, "XMAS", r, c);
 				}
 			}
 
-			System.out.println("Part 1: " + result);
+			return result;
 		}
 
 		/**
@@ -59,10 +73,10 @@ public class Day4 {
 		 * @param column Column index of the board.
 		 * @return Number of occurrences of the word found in the board at that index.
 		 */
-		static int findWordAtCoords(List<List<String>> board, String word, int row, int column) {
+		static int findWordAtCoords(Grid board, String word, int row, int column) {
 			// Checks if the first letter matches with the first letter in the word, returns
 			// false immediately if not.
-			if (board.get(row).get(column).charAt(0) != word.charAt(0))
+			if (board.get(row, column) != word.charAt(0))
 				return 0;
 			int finalResult = 0;
 
@@ -74,14 +88,10 @@ public class Day4 {
 				// If one doesn't match or is out of bounds, it automatically breaks and checks
 				// another direction.
 				for (k = 1; k < word.length(); k++) {
-					try {
-						if (board.get(cursorRow).get(cursorColumn).charAt(0) != word.charAt(k))
-							break;
-						cursorRow += NEIGHBORS[i][0];
-						cursorColumn += NEIGHBORS[i][1];
-					} catch (IndexOutOfBoundsException ioobe) {
+					if (board.getOrDefault(cursorRow, cursorColumn, ' ') != word.charAt(k))
 						break;
-					}
+					cursorRow += NEIGHBORS[i][0];
+					cursorColumn += NEIGHBORS[i][1];
 				}
 
 				// If the loop did not break at all, then this will pass and we have ourselves a
@@ -108,19 +118,20 @@ public class Day4 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file matrix style.
+		 * @param puzzleLines Grid read from the file.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<List<String>> puzzleLines) {
+		public static int part(Grid puzzleLines) {
 			int result = 0;
 
-			for (int r = 0; r < puzzleLines.size(); r++) {
-				for (int c = 0; c < puzzleLines.get(r).size(); c++) {
+			for (int r = 0; r < puzzleLines.getHeight(); r++) {
+				for (int c = 0; c < puzzleLines.getWidth(); c++) {
 					if (findMASAtCoords(puzzleLines, r, c))
 						result++;
 				}
 			}
 
-			System.out.println("Part 2: " + result);
+			return result;
 		}
 
 		/**
@@ -131,20 +142,16 @@ public class Day4 {
 		 * @param column Column index of the board.
 		 * @return True if the specified pattern is found, false otherwise.
 		 */
-		static boolean findMASAtCoords(List<List<String>> board, int row, int column) {
-			if (board.get(row).get(column).charAt(0) != 'A')
+		static boolean findMASAtCoords(Grid board, int row, int column) {
+			if (board.get(row, column) != 'A')
 				return false;
 
 			for (int[][] direction : CORNER_OPPOSITE_NEIGHBORS) {
-				try {
-					char firstChar = board.get(row + direction[0][0]).get(column + direction[0][1]).charAt(0);
-					char secondChar = board.get(row + direction[1][0]).get(column + direction[1][1]).charAt(0);
+				char firstChar = board.getOrDefault(row + direction[0][0], column + direction[0][1], ' ');
+				char secondChar = board.getOrDefault(row + direction[1][0], column + direction[1][1], ' ');
 
-					if (!(firstChar == 'M' && secondChar == 'S') && !(firstChar == 'S' && secondChar == 'M'))
-						return false;
-				} catch (IndexOutOfBoundsException ioobe) {
+				if (!(firstChar == 'M' && secondChar == 'S') && !(firstChar == 'S' && secondChar == 'M'))
 					return false;
-				}
 			}
 
 			return true;
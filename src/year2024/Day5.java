@@ -9,7 +9,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import universalFunctions.MappedInput.Section;
+import universalFunctions.MappedInput.View;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -17,28 +20,57 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day5 {
+public class Day5 implements Solver<Day5.PrintQueue> {
 
-	public static Map<String, List<String>> rules = new HashMap<>();
-	public static Map<String, List<String>> reversedRules = new HashMap<>();
+	/** Parsed puzzle input: the ordering rules in both directions, and the updates.
+	 * 
+	 */
+	record PrintQueue(Map<String, List<String>> rules, Map<String, List<String>> reversedRules, List<String> updates) {}
 
 	public static void main(String[] args) {
-		File puzzle = new File("input/2024/Day5.txt");
-		List<String> puzzleLines = Arrays.asList(ReadFiles.readFileRaw(puzzle).split("\\r\\n\\r\\n"));
+		Solver.printAnswers(new Day5(), new File("input/2024/Day5.txt"));
+	}
+
+	@Override
+	public PrintQueue parse(File puzzleFile) {
+		List<Section> puzzleSections = ReadFiles.readSections(puzzleFile);
 
-		setRules(Arrays.asList(puzzleLines.get(0).split("\\r\\n")));
+		Map<String, List<String>> rules = new HashMap<>();
+		Map<String, List<String>> reversedRules = new HashMap<>();
+		setRules(lineStrings(puzzleSections.get(0)), rules, reversedRules);
 
-		Part1.part(Arrays.asList(puzzleLines.get(1).split("\\r\\n")));
-		Part2.part(Arrays.asList(puzzleLines.get(1).split("\\r\\n")));
+		return new PrintQueue(rules, reversedRules, lineStrings(puzzleSections.get(1)));
+	}
+
+	/** Copies the lines of a section into Strings.
+	 * 
+	 * @param section Section of the puzzle input.
+	 * @return List of Strings of the lines.
+	 */
+	private static List<String> lineStrings(Section section) {
+		return section.lines().stream().map(View::toString).toList();
+	}
+
+	@Override
+	public Object part1(PrintQueue queue) {
+		return Part1.part(queue.updates(), new sortOnRules(queue.rules(), queue.reversedRules()));
+	}
+
+	@Override
+	public Object part2(PrintQueue queue) {
+		return Part2.part(queue.updates(), new sortOnRules(queue.rules(), queue.reversedRules()));
 	}
 
 	/**
 	 * Sets the ordering rule of page numbers.
 	 * 
-	 * @param rulesString A list of Strings containing the rules for the available
-	 *                    page numbers.
+	 * @param rulesString   A list of Strings containing the rules for the available
+	 *                      page numbers.
+	 * @param rules         Map to fill with the pages that must come after each page.
+	 * @param reversedRules Map to fill with the pages that must come before each page.
 	 */
-	private static void setRules(List<String> rulesString) {
+	private static void setRules(List<String> rulesString, Map<String, List<String>> rules,
+			Map<String, List<String>> reversedRules) {
 		for (String rule : rulesString) {
 			String[] splitRule = rule.split("\\|");
 			String before = splitRule[0];
@@ -60,10 +92,18 @@ public class Day5 {
 
 	/**
 	 * Custom comparator object that compares 2 Strings with the HashMap rules
-	 * listed above.
+	 * of the puzzle input.
 	 * 
 	 */
 	static class sortOnRules implements Comparator<String> {
+		private final Map<String, List<String>> rules;
+		private final Map<String, List<String>> reversedRules;
+
+		public sortOnRules(Map<String, List<String>> rules, Map<String, List<String>> reversedRules) {
+			this.rules = rules;
+			this.reversedRules = reversedRules;
+		}
+
 		@Override
 		public int compare(String s1, String s2) {
 			if (rules.containsKey(s1) && rules.get(s1).contains(s2))
@@ -86,20 +126,22 @@ public class Day5 {
 		 * Solves the first part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param ordering    Comparator following the ordering rules.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<String> puzzleLines) {
+		public static int part(List<String> puzzleLines, sortOnRules ordering) {
 			List<Integer> validUpdates = new ArrayList<>();
 
 			for (String unsplitPages : puzzleLines) {
 				List<String> pageNumbers = Arrays.asList(unsplitPages.split(","));
-				List<String> sortedPageNumbers = pageNumbers.stream().sorted(new sortOnRules()).toList();
+				List<String> sortedPageNumbers = pageNumbers.stream().sorted(ordering).toList();
 
 				if (pageNumbers.equals(sortedPageNumbers)) {
 					validUpdates.add(Integer.valueOf(pageNumbers.get(pageNumbers.size() / 2)));
 				}
 			}
 
-			System.out.println("Part 1: " + validUpdates.stream().mapToInt(Integer::valueOf).sum());
+			return validUpdates.stream().mapToInt(Integer::valueOf).sum();
 		}
 	}
 
@@ -115,31 +157,36 @@ public class Day5 {
 		 * Solves the second part of the puzzle.
 		 * 
 		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param ordering    Comparator following the ordering rules.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<String> puzzleLines) {
+		public static int part(List<String> puzzleLines, sortOnRules ordering) {
 			List<Integer> validatedInvalids = new ArrayList<>();
 
 			for (String unsplitPages : puzzleLines) {
 				List<String> pageNumbers = Arrays.asList(unsplitPages.split(","));
-				List<String> sortedPageNumbers = pageNumbers.stream().sorted(new sortOnRules()).toList();
+				List<String> sortedPageNumbers = pageNumbers.stream().sorted(ordering).toList();
 
 				if (!pageNumbers.equals(sortedPageNumbers)) {
-					Collections.sort(pageNumbers, new sortOnRules());
+					Collections.sort(pageNumbers, ordering);
 					validatedInvalids.add(Integer.valueOf(pageNumbers.get(pageNumbers.size() / 2)));
 				}
 			}
 
-			System.out.println("Part 2: " + validatedInvalids.stream().mapToInt(Integer::valueOf).sum());
+			return validatedInvalids.stream().mapToInt(Integer::valueOf).sum();
 		}
 	}
 
 	/**
 	 * Checks if the list of page numbers is in the correct order. [OBSOLETE]
 	 * 
-	 * @param pageNumbers List of page numbers.
+	 * @param pageNumbers   List of page numbers.
+	 * @param rules         Pages that must come after each page.
+	 * @param reversedRules Pages that must come before each page.
 	 * @return Boolean value to see if its already sorted.
 	 */
-	public static boolean checkForValidity(List<String> pageNumbers) {
+	public static boolean checkForValidity(List<String> pageNumbers, Map<String, List<String>> rules,
+			Map<String, List<String>> reversedRules) {
 		int currentPage = 0;
 		int reversedCurrentPage = pageNumbers.size() - 1;
 		boolean valid = true;
@@ -1,13 +1,14 @@
 package year2024;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
+import universalFunctions.Grid;
+import universalFunctions.Metrics;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -15,148 +16,244 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day6 {
+public class Day6 implements Solver<Day6.Lab> {
 
-	private static enum Directions {
-		up, down, left, right
-	};
+	private static final Metrics.Counter OBSTACLES_TRIED = Metrics.counter(Day6.class, "obstaclesTried");
+	private static final Metrics.Counter JUMPS = Metrics.counter(Day6.class, "jumps");
+	private static final Metrics.Histogram JUMPS_PER_OBSTACLE = Metrics.histogram(Day6.class, "jumpsPerObstacle");
+
+	// Directions are indices into Grid.CARDINAL_DIRECTIONS: up, right, down, left. Turning right adds one.
+	private static final String GUARD_DIRECTIONS = "^>v<";
 
 	/**
-	 * Class to keep track of the security guard's location and direction.
+	 * Parsed puzzle input: the jump table of the lab, and where the guard starts.
 	 * 
+	 * @param table     Jump table of the lab.
+	 * @param start     Flat index of the guard's starting cell.
+	 * @param direction Direction the guard starts facing.
 	 */
-	static class SecurityGuard {
-
-		private int[] location;
-		private Directions direction;
-
-		public SecurityGuard(int[] location, Directions direction) {
-			this.location = location;
-			this.direction = direction;
-		}
-
-		@Override
-		public String toString() {
-			return String.format("Guard is at index [row: %d, column: %d] and is facing [%s]", location[0], location[1],
-					direction);
-		}
-	}
+	record Lab(JumpTable table, int start, int direction) {}
 
 	/**
-	 * Runner code.
+	 * The guard's walk out of the lab, without extra obstacles.
 	 * 
-	 * @param args String arguments.
+	 * @param cells   Flat indices of every tile the guard walks over, in the order
+	 *                they're first reached.
+	 * @param entries State the guard is in right before first reaching each tile,
+	 *                as direction * size + cell, or -1 for the starting tile.
 	 */
-	public static void main(String[] args) {
-		File puzzle = new File("input/2024/Day6.txt");
-		List<List<String>> map = ReadFiles.readIntoMatrix(puzzle);
-		int[] originalLocation = getLocation(map);
-		Directions originalDirection = getDirection(map);
-		SecurityGuard guard = new SecurityGuard(originalLocation, originalDirection);
-
-		Set<List<Integer>> tilesVisited = Part1.part(map, guard);
-		Part2.part(map, tilesVisited, originalLocation, originalDirection);
-	}
+	record Walk(int[] cells, int[] entries) {}
 
 	/**
-	 * Returns the initial direction of the security guard.
+	 * Precomputed moves of the guard. For every cell and direction, the table holds
+	 * the cell the guard stops at in front of the next obstacle, so the guard jumps
+	 * from turn to turn instead of walking every cell in between.
 	 * 
-	 * @param map A grid containing the security guard and obstacles.
-	 * @return the initial direction that the security guard is facing.
 	 */
-	private static Directions getDirection(List<List<String>> map) {
-		Directions result = null;
-		for (List<String> row : map) {
-			for (String element : row) {
-				switch (element) {
-				case "^" -> result = Directions.up;
-				case ">" -> result = Directions.right;
-				case "v" -> result = Directions.down;
-				case "<" -> result = Directions.left;
+	static class JumpTable {
+		private final int height;
+		private final int width;
+		private final int size;
+		private final int[] stops;
+
+		/**
+		 * Builds the table with one sweep of every row and column per direction.
+		 * 
+		 * @param map Grid of the lab, with '#' for obstacles.
+		 */
+		JumpTable(Grid map) {
+			this.height = map.getHeight();
+			this.width = map.getWidth();
+			this.size = map.size();
+			this.stops = new int[4 * size];
+
+			for (int c = 0; c < width; c++) {
+				int stop = -1;
+				for (int r = 0; r < height; r++) {
+					int cell = r * width + c;
+					if (map.get(cell) == '#') stop = cell + width;
+					else stops[cell] = stop;
+				}
+				stop = -1;
+				for (int r = height - 1; r >= 0; r--) {
+					int cell = r * width + c;
+					if (map.get(cell) == '#') stop = cell - width;
+					else stops[2 * size + cell] = stop;
+				}
+			}
+			for (int r = 0; r < height; r++) {
+				int stop = -1;
+				for (int c = width - 1; c >= 0; c--) {
+					int cell = r * width + c;
+					if (map.get(cell) == '#') stop = cell - 1;
+					else stops[size + cell] = stop;
 				}
+				stop = -1;
+				for (int c = 0; c < width; c++) {
+					int cell = r * width + c;
+					if (map.get(cell) == '#') stop = cell + 1;
+					else stops[3 * size + cell] = stop;
+				}
+			}
+		}
+
+		/**
+		 * Finds where the guard stops when walking straight from a cell. An extra
+		 * obstacle only matters when it's on the same row or column, between the
+		 * guard and the stop, so that one check is all the patching the table needs.
+		 * 
+		 * @param cell      Flat index of the guard's cell.
+		 * @param direction Direction the guard is facing.
+		 * @param extra     Flat index of an extra obstacle, or -1 for none.
+		 * @return the flat index of the cell in front of the obstacle, or -1 if the
+		 *         guard walks off the map.
+		 */
+		int jump(int cell, int direction, int extra) {
+			int stop = stops[direction * size + cell];
+			if (extra < 0) return stop;
 
-				if (result != null)
-					return result;
+			int r = cell / width;
+			int c = cell % width;
+			int extraRow = extra / width;
+			int extraColumn = extra % width;
+			switch (direction) {
+			case 0 -> {
+				if (extraColumn == c && extraRow < r && (stop < 0 || extraRow >= stop / width)) return extra + width;
+			}
+			case 1 -> {
+				if (extraRow == r && extraColumn > c && (stop < 0 || extraColumn <= stop % width)) return extra - 1;
+			}
+			case 2 -> {
+				if (extraColumn == c && extraRow > r && (stop < 0 || extraRow <= stop / width)) return extra - width;
+			}
+			default -> {
+				if (extraRow == r && extraColumn < c && (stop < 0 || extraColumn >= stop % width)) return extra + 1;
+			}
 			}
+			return stop;
 		}
-		throw new IllegalArgumentException("Map has no security guards!");
+
 	}
 
 	/**
-	 * Returns a new direction for the guard, following the 90 degrees right turn
-	 * rule.
+	 * Set of the (cell, direction) states the guard has been in, as a bitset with
+	 * one bit per state. It's reused for every obstacle that's tried: instead of
+	 * clearing the bits, clear() starts a new generation, and a word of bits from an
+	 * older generation counts as empty.
 	 * 
-	 * @param guard the security guard.
-	 * @return the updated direction of the guard.
 	 */
-	private static Directions getNewDirection(SecurityGuard guard) {
-		Directions newDir = null;
-		switch (guard.direction) {
-		case Directions.up -> newDir = Directions.right;
-		case Directions.right -> newDir = Directions.down;
-		case Directions.down -> newDir = Directions.left;
-		case Directions.left -> newDir = Directions.up;
+	static class VisitedStates {
+		private final long[] bits;
+		private final int[] generations;
+		private int generation = 1;
+
+		/**
+		 * Constructor.
+		 * 
+		 * @param states Number of states, four per cell.
+		 */
+		VisitedStates(int states) {
+			this.bits = new long[(states + 63) >>> 6];
+			this.generations = new int[bits.length];
 		}
-		return newDir;
+
+		/**
+		 * Empties the set.
+		 * 
+		 */
+		void clear() {
+			if (generation == Integer.MAX_VALUE) {
+				Arrays.fill(generations, 0);
+				generation = 0;
+			}
+			generation++;
+		}
+
+		/**
+		 * Adds a state to the set.
+		 * 
+		 * @param state Index of the state, as direction * size + cell.
+		 * @return Boolean value if the state wasn't in the set yet.
+		 */
+		boolean add(int state) {
+			int word = state >>> 6;
+			long bit = 1L << state;
+			if (generations[word] != generation) {
+				generations[word] = generation;
+				bits[word] = bit;
+				return true;
+			}
+			if ((bits[word] & bit) != 0) return false;
+			bits[word] |= bit;
+			return true;
+		}
+	}
+
+	public static void main(String[] args) {
+		Solver.printAnswers(new Day6(), new File("input/2024/Day6.txt"));
+	}
+
+	@Override
+	public Lab parse(File puzzleFile) {
+		Grid map = ReadFiles.readIntoGrid(puzzleFile);
+		int start = getLocation(map);
+		return new Lab(new JumpTable(map), start, GUARD_DIRECTIONS.indexOf(map.get(start)));
+	}
+
+	@Override
+	public Object part1(Lab lab) {
+		return Part1.part(lab).cells().length;
+	}
+
+	@Override
+	public Object part2(Lab lab) {
+		return Part2.part(lab, Part1.part(lab), true);
 	}
 
 	/**
 	 * Returns an initial location of the security guard.
 	 * 
 	 * @param map the grid containing the security guard and obstacles.
-	 * @return an Integer Array index of the security guard's location.
+	 * @return the flat index of the security guard's location.
 	 */
-	private static int[] getLocation(List<List<String>> map) {
-		List<String> directionsChar = new ArrayList<String>(Arrays.asList("^", ">", "v", "<"));
-		for (int r = 0; r < map.size(); r++) {
-			List<String> row = map.get(r);
-			for (int c = 0; c < row.size(); c++) {
-				if (directionsChar.contains(row.get(c)))
-					return new int[] { r, c };
-			}
+	private static int getLocation(Grid map) {
+		for (int i = 0; i < map.size(); i++) {
+			if (GUARD_DIRECTIONS.indexOf(map.get(i)) >= 0)
+				return i;
 		}
 		throw new IllegalArgumentException("Map has no security guards!");
 	}
 
 	/**
-	 * Computes a new location for the guard to move, according to the direction
-	 * they're facing.
+	 * Checks if the guard gets stuck in a loop with an extra obstacle, jumping from
+	 * turn to turn. Only the states right after a turn are recorded, as every loop
+	 * has to turn, and the guard is looping as soon as one of them comes up again.
 	 * 
-	 * @param guard the security guard.
-	 * @return an Integer Array index of the new location.
+	 * @param table     Jump table of the lab.
+	 * @param cell      Flat index of the cell the guard starts on.
+	 * @param direction Direction the guard starts facing.
+	 * @param extra     Flat index of the extra obstacle.
+	 * @param visited   Set of states to reuse, cleared here.
+	 * @return Boolean value if the guard never leaves the map.
 	 */
-	private static int[] getNewLocation(SecurityGuard guard) {
-		int[] newLocation = new int[] { guard.location[0], guard.location[1] };
-		switch (guard.direction) {
-		case Directions.up -> newLocation[0]--;
-		case Directions.down -> newLocation[0]++;
-		case Directions.right -> newLocation[1]++;
-		case Directions.left -> newLocation[1]--;
-		}
-		return newLocation;
-	}
+	private static boolean isLoop(JumpTable table, int cell, int direction, int extra, VisitedStates visited) {
+		visited.clear();
 
-	/**
-	 * Progresses the simulation of the security guard by one step.
-	 * 
-	 * @param map   Map of the place.
-	 * @param guard the security guard.
-	 * @return a boolean value if the guard leaves the map entirely.
-	 */
-	private static boolean step(List<List<String>> map, SecurityGuard guard) {
-		int[] newLocation = getNewLocation(guard);
-		Directions newDirection = getNewDirection(guard);
-
-		try {
-			if (map.get(newLocation[0]).get(newLocation[1]).equals("#"))
-				guard.direction = newDirection;
-			else
-				guard.location = newLocation;
-			return true;
-		} catch (IndexOutOfBoundsException ioobe) {
-			return false;
+		for (int jumps = 1;; jumps++) {
+			int stop = table.jump(cell, direction, extra);
+			if (stop < 0) {
+				JUMPS.add(jumps);
+				JUMPS_PER_OBSTACLE.record(jumps);
+				return false;
+			}
+			cell = stop;
+			direction = (direction + 1) % 4;
+			if (!visited.add(direction * table.size + cell)) {
+				JUMPS.add(jumps);
+				JUMPS_PER_OBSTACLE.record(jumps);
+				return true;
+			}
 		}
-
 	}
 
 	/**
@@ -168,21 +265,47 @@ public class Day6 {
 	class Part1 {
 
 		/**
-		 * Solves the first part of the puzzle.
+		 * Solves the first part of the puzzle. The guard jumps from turn to turn, and
+		 * the cells in between are marked on the way.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param lab The lab and the guard's start.
+		 * @return the Walk of the guard. The number of its cells is the answer to the
+		 *         first part.
 		 */
-		public static Set<List<Integer>> part(List<List<String>> map, SecurityGuard guard) {
-			Set<List<Integer>> tilesVisited = new HashSet<>();
+		public static Walk part(Lab lab) {
+			JumpTable table = lab.table();
+			boolean[] visited = new boolean[table.size];
+			int[] cells = new int[table.size];
+			int[] entries = new int[table.size];
+			int n = 0;
 
-			do {
-				List<Integer> currentLocation = Arrays
-						.asList(Arrays.stream(guard.location).boxed().toArray(Integer[]::new));
-				tilesVisited.add(currentLocation);
-			} while (step(map, guard));
+			int cell = lab.start();
+			int direction = lab.direction();
+			visited[cell] = true;
+			cells[n] = cell;
+			entries[n++] = -1;
 
-			System.out.println("Part 1: " + tilesVisited.size());
-			return tilesVisited;
+			while (true) {
+				int stop = table.jump(cell, direction, -1);
+				int[] step = Grid.CARDINAL_DIRECTIONS[direction];
+				int r = cell / table.width;
+				int c = cell % table.width;
+				while (cell != stop) {
+					r += step[0];
+					c += step[1];
+					if (r < 0 || c < 0 || r >= table.height || c >= table.width) {
+						return new Walk(Arrays.copyOf(cells, n), Arrays.copyOf(entries, n));
+					}
+					int previous = cell;
+					cell = r * table.width + c;
+					if (!visited[cell]) {
+						visited[cell] = true;
+						cells[n] = cell;
+						entries[n++] = direction * table.size + previous;
+					}
+				}
+				direction = (direction + 1) % 4;
+			}
 		}
 	}
 
@@ -194,34 +317,101 @@ public class Day6 {
 
 	class Part2 {
 
+		// Fewest candidates per task, below which a task stops splitting.
+		private static final int THRESHOLD = 64;
+
+		// Tasks every worker thread gets, about, so the set of visited states every task builds is paid for.
+		private static final int TASKS_PER_THREAD = 8;
+
 		/**
-		 * Solves the second part of the puzzle. Brute-force approach, never feels good.
-		 * I don't know how to do this efficiently though.
+		 * Solves the second part of the puzzle. An obstacle can only change the
+		 * guard's walk if it's somewhere on the walk, so only those tiles are tried,
+		 * apart from the guard's own starting tile. Up to the first time the guard
+		 * reaches the obstacle's tile, its walk is the same as without it, so every
+		 * candidate starts right in front of its obstacle instead of at the start.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param lab      The lab and the guard's start.
+		 * @param walk     The guard's walk without extra obstacles.
+		 * @param parallel Boolean value if the candidates should be tried in parallel.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<List<String>> map, Set<List<Integer>> tilesVisited, int[] orLoc,
-				Directions orDir) {
-			int maxSteps = map.size() * map.get(0).size(); // Arbitrary value so the simulataion would actually end.
+		public static int part(Lab lab, Walk walk, boolean parallel) {
+			if (!parallel) return countLoops(lab.table(), walk, 1, walk.cells().length);
+
+			int candidates = walk.cells().length - 1;
+			int threshold = Math.max(THRESHOLD, candidates / (TASKS_PER_THREAD * ForkJoinPool.getCommonPoolParallelism()));
+			LoopCount count = new LoopCount(lab.table(), walk, threshold, 1, walk.cells().length);
+			return ForkJoinPool.commonPool().invoke(count);
+		}
+
+		/**
+		 * Counts the candidates of a range of the walk that make the guard loop, one
+		 * after the other on the calling thread.
+		 * 
+		 * @param table Jump table of the lab.
+		 * @param walk  The guard's walk without extra obstacles.
+		 * @param from  Index of the first candidate in the walk, inclusive.
+		 * @param to    Index of the last candidate in the walk, exclusive.
+		 * @return the number of candidates that make the guard loop.
+		 */
+		private static int countLoops(JumpTable table, Walk walk, int from, int to) {
 			int result = 0;
+			VisitedStates states = new VisitedStates(4 * table.size);
+			for (int i = from; i < to; i++) {
+				int entry = walk.entries()[i];
+				OBSTACLES_TRIED.increment();
+				if (isLoop(table, entry % table.size, entry / table.size, walk.cells()[i], states))
+					result++;
+			}
+			return result;
+		}
+
+		/**
+		 * Counts the candidates of a range of the walk that make the guard loop. The
+		 * lab's jump table is only read, with each candidate patched in as the extra
+		 * obstacle, so the only state of its own is a set of visited states, made
+		 * by every task that stops splitting. The counts of the halves are added up, which gives the same answer
+		 * however the work was split.
+		 * 
+		 */
+		static class LoopCount extends RecursiveTask<Integer> {
+			private static final long serialVersionUID = 1L;
+
+			private final transient JumpTable table;
+			private final transient Walk walk;
+			private final int threshold;
+			private final int from;
+			private final int to;
 
-			for (List<Integer> indexBlocks : tilesVisited) {
-				List<List<String>> newMap = new ArrayList<>(map);
-				List<String> newRow = new ArrayList<>(map.get(indexBlocks.get(0)));
-				newRow.set(indexBlocks.get(1), "#");
-				newMap.set(indexBlocks.get(0), newRow);
-				SecurityGuard newGuard = new SecurityGuard(orLoc, orDir);
+			/**
+			 * Constructor.
+			 * 
+			 * @param table     Jump table of the lab.
+			 * @param walk      The guard's walk without extra obstacles.
+			 * @param threshold Candidates per task, below which a task stops splitting.
+			 * @param from      Index of the first candidate in the walk, inclusive.
+			 * @param to        Index of the last candidate in the walk, exclusive.
+			 */
+			LoopCount(JumpTable table, Walk walk, int threshold, int from, int to) {
+				this.table = table;
+				this.walk = walk;
+				this.threshold = threshold;
+				this.from = from;
+				this.to = to;
+			}
 
-				int n = 0;
-				while (step(newMap, newGuard) && n < maxSteps) {
-					n++;
+			@Override
+			protected Integer compute() {
+				if (to - from > threshold) {
+					int middle = (from + to) >>> 1;
+					LoopCount left = new LoopCount(table, walk, threshold, from, middle);
+					left.fork();
+					int right = new LoopCount(table, walk, threshold, middle, to).compute();
+					return left.join() + right;
 				}
 
-				if (n >= maxSteps)
-					result++;
+				return countLoops(table, walk, from, to);
 			}
-
-			System.out.println("Part 2: " + result);
 		}
 	}
 }
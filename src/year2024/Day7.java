@@ -4,12 +4,15 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Stream;
 
+import universalFunctions.MappedInput.NumberScanner;
+import universalFunctions.MappedInput.View;
+import universalFunctions.Metrics;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -17,7 +20,10 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day7 {
+public class Day7 implements Solver<File> {
+	
+	private static final Metrics.Counter NODES = Metrics.counter(Day7.class, "nodes");
+	private static final Metrics.Counter EQUATIONS_TRIED = Metrics.counter(Day7.class, "equationsTried");
 	
 	/** Node class for binary tree.
 	 * 
@@ -51,6 +57,7 @@ public class Day7 {
 				current.left = new Node(current.value * value);
 				current.right = new Node(current.value + value);
 				if (includeConcat) current.middle = new Node(Long.valueOf(Long.toString(current.value) + Long.toString(value)));
+				NODES.add(includeConcat ? 3 : 2);
 			} else {
 				addRecursiveNode(current.left, value, includeConcat);
 				addRecursiveNode(current.right, value, includeConcat);
@@ -108,7 +115,7 @@ public class Day7 {
 	 */
 	public static class BinaryTree {
 		
-		private static Node root;
+		private Node root;
 		
 		/** Constructor for a binary tree to solve this problem.
 		 * 
@@ -142,26 +149,63 @@ public class Day7 {
 		}
 	}
 	
-	/** Hash map to format the input. Key is the target number and the value is a list of available numbers.
-	 *  Second hash map to store the pairs that were not valid in Part 1.
+	public static void main(String[] args) {
+		Solver.printAnswers(new Day7(), new File("input/2024/Day7.txt"));
+	}
+
+	// Every equation is solved on its own, so the equations are streamed straight from the file.
+	@Override
+	public File parse(File puzzleFile) {
+		return puzzleFile;
+	}
+
+	@Override
+	public Object part1(File puzzleFile) {
+		try (Stream<View> equations = ReadFiles.streamLines(puzzleFile, true)) {
+			return Part1.part(equations);
+		}
+	}
+
+	@Override
+	public Object part2(File puzzleFile) {
+		try (Stream<View> equations = ReadFiles.streamLines(puzzleFile, true)) {
+			return Part2.part(equations);
+		}
+	}
+	
+	/** Parses an equation into its numbers.
+	 * 
+	 * @param line View of the line of the equation.
+	 * @return a long array of the target value, followed by the available numbers.
 	 */
-	private static Map<Long, List<Long>> countdownState = new HashMap<>();
-	private static Map<Long, List<Long>> failedPartOne = new HashMap<>();
+	static long[] parseEquation(View line) {
+		long[] numbers = new long[16];
+		int count = 0;
+		
+		NumberScanner scanner = line.numbers();
+		while (scanner.hasNext()) {
+			if (count == numbers.length) numbers = Arrays.copyOf(numbers, count * 2);
+			numbers[count++] = scanner.nextLong();
+		}
+		
+		return Arrays.copyOf(numbers, count);
+	}
 	
-	/** Runner code.
+	/** Checks if the available numbers of an equation can make its target value.
 	 * 
-	 * @param args Arguments.
+	 * @param equation long array of the target value, followed by the available numbers.
+	 * @param includeConcat Boolean value of whether or not to include concatenation as an operator.
+	 * @return Boolean value if any leaf of the tree of operations is the target value.
 	 */
-	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day7.txt");
-		List<String> puzzle = ReadFiles.readLineByLine(puzzleFile);
+	static boolean isValid(long[] equation, boolean includeConcat) {
+		EQUATIONS_TRIED.increment();
+		BinaryTree tree = new BinaryTree(equation[1]);
 		
-		for (String round: puzzle) {
-			String[] info = round.split(": ");
-			countdownState.put(Long.valueOf(info[0]), Arrays.asList(info[1].split(" ")).stream().mapToLong(Long::valueOf).boxed().toList());
+		for (int i = 2; i < equation.length; i++) {
+			tree.add(equation[i], includeConcat);
 		}
 		
-		Part2.part();
+		return tree.getLeafNodes(includeConcat).contains(equation[0]);
 	}
 	
 	/**
@@ -175,30 +219,15 @@ public class Day7 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param equations Stream of the lines of the file, one equation each.
+		 * @return The answer to the first part.
 		 */
-		public static long part() {
-			List<Long> validTrees = new ArrayList<>(); 
-			
-			for (Map.Entry<Long, List<Long>> entry: countdownState.entrySet()) {
-				long target = entry.getKey();
-				List<Long> availableNums = entry.getValue();
-				BinaryTree tree = new BinaryTree(availableNums.get(0));
-				
-				for (int i = 1; i < availableNums.size(); i++) {
-					tree.add(availableNums.get(i), false);
-				}
-				
-				if (tree.getLeafNodes(false).contains(target)) {
-					validTrees.add(target);
-				} else {
-					failedPartOne.put(target, availableNums);
-				}
-			}
-			
-			long sum = validTrees.stream().mapToLong(Long::valueOf).sum();
-			System.out.println("Part 1: " + sum);
-			return sum;
+		public static long part(Stream<View> equations) {
+			return equations.filter(line -> !line.isEmpty())
+					.map(Day7::parseEquation)
+					.filter(equation -> isValid(equation, false))
+					.mapToLong(equation -> equation[0])
+					.sum();
 		}
 	}
 	
@@ -213,31 +242,16 @@ public class Day7 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param equations Stream of the lines of the file, one equation each.
+		 * @return The answer to the second part.
 		 */
-		public static void part() {
-			List<Long> validTrees = new ArrayList<>();
-			long partOneResult = Part1.part();
-			
-			for (Map.Entry<Long, List<Long>> entry: failedPartOne.entrySet()) {
-				long target = entry.getKey();
-				List<Long> availableNums = entry.getValue();
-				BinaryTree tree = new BinaryTree(availableNums.get(0));
-				
-				for (int i = 1; i < availableNums.size(); i++) {
-					tree.add(availableNums.get(i), true);
-				}
-				
-				if (tree.getLeafNodes(true).contains(target)) {
-					validTrees.add(target);
-				}
-			}
-			
-			// Solution is still a bit slow. I just improved it a bit by reducing the number of trees it has to check.
-			long result = partOneResult + validTrees.stream().mapToLong(Long::valueOf).sum();
-			System.out.println("Part 2: " + result);
+		public static long part(Stream<View> equations) {
+			// The smaller tree without concatenation is tried first, as most valid equations don't need it.
+			return equations.filter(line -> !line.isEmpty())
+					.map(Day7::parseEquation)
+					.filter(equation -> isValid(equation, false) || isValid(equation, true))
+					.mapToLong(equation -> equation[0])
+					.sum();
 		}
 	}
 }
-
-
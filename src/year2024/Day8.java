@@ -10,7 +10,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import universalFunctions.Grid;
 import universalFunctions.ReadFiles;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -18,7 +20,7 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day8 {
+public class Day8 implements Solver<Day8.AntennaMap> {
 	
 	/** Point Class
 	 * 
@@ -89,36 +91,51 @@ public class Day8 {
 		}
 	}
 	
-	private static Map<String, List<Point>> antennasLocation = new HashMap<>();
-	private static int maxRows;
-	private static int maxColumns;
+	/** Parsed puzzle input: where every frequency's antennas are, and the size of the map.
+	 * 
+	 */
+	record AntennaMap(Map<Character, List<Point>> antennasLocation, int maxRows, int maxColumns) {}
 	
 	// Runner Code
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day8.txt");
-		List<List<String>> puzzle = ReadFiles.readIntoMatrix(puzzleFile);
-		
-		maxRows = puzzle.size();
-		maxColumns = puzzle.get(0).size();
-		addAntennasLocation(puzzle);
+		Solver.printAnswers(new Day8(), new File("input/2024/Day8.txt"));
+	}
+
+	@Override
+	public AntennaMap parse(File puzzleFile) {
+		Grid puzzle = ReadFiles.readIntoGrid(puzzleFile);
 		
-		Part1.part();
-		Part2.part();
+		return new AntennaMap(getAntennasLocation(puzzle), puzzle.getHeight(), puzzle.getWidth());
+	}
+
+	@Override
+	public Object part1(AntennaMap map) {
+		return Part1.part(map.antennasLocation(), map.maxRows(), map.maxColumns());
+	}
+
+	@Override
+	public Object part2(AntennaMap map) {
+		return Part2.part(map.antennasLocation(), map.maxRows(), map.maxColumns());
 	}
 	
-	/** Initializes the antennaLocation HashMap based on the map itself.
+	/** Returns the antennas' locations based on the map itself.
 	 * 
-	 * @param map Map of the antennas in a List of List of Strings.
+	 * @param map Map of the antennas in a Grid.
+	 * @return HashMap of every frequency to the Points of its antennas.
 	 */
-	public static void addAntennasLocation(List<List<String>> map) {
-		for (int r = 0; r < map.size(); r++) {
-			for (int c = 0; c < map.get(r).size(); c++) {
-				String currentCharacter = map.get(r).get(c);
-				if (currentCharacter.equals(".")) continue;
+	public static Map<Character, List<Point>> getAntennasLocation(Grid map) {
+		Map<Character, List<Point>> antennasLocation = new HashMap<>();
+		
+		for (int r = 0; r < map.getHeight(); r++) {
+			for (int c = 0; c < map.getWidth(); c++) {
+				char currentCharacter = map.get(r, c);
+				if (currentCharacter == '.') continue;
 				else if (antennasLocation.containsKey(currentCharacter)) antennasLocation.get(currentCharacter).add(new Point(r, c));
 				else antennasLocation.put(currentCharacter, new ArrayList<>(Arrays.asList(new Point(r, c))));
 			}
 		}
+		
+		return antennasLocation;
 	}
 	
 	/** Calculates the antinodes from 2 Points.
@@ -148,9 +165,12 @@ public class Day8 {
 		/**
 		 * Solves the first part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param antennasLocation HashMap of every frequency to the Points of its antennas.
+		 * @param maxRows Number of rows of the map.
+		 * @param maxColumns Number of columns of the map.
+		 * @return The answer to the first part.
 		 */
-		public static void part() {
+		public static int part(Map<Character, List<Point>> antennasLocation, int maxRows, int maxColumns) {
 			Set<Point> resultingAntinodes = new HashSet<>();
 			
 			for (List<Point> points: antennasLocation.values()) {
@@ -170,7 +190,7 @@ public class Day8 {
 				}
 			}
 
-			System.out.println("Part 1: " + resultingAntinodes.size());
+			return resultingAntinodes.size();
 		}
 	}
 	
@@ -185,9 +205,12 @@ public class Day8 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param antennasLocation HashMap of every frequency to the Points of its antennas.
+		 * @param maxRows Number of rows of the map.
+		 * @param maxColumns Number of columns of the map.
+		 * @return The answer to the second part.
 		 */
-		public static void part() {
+		public static int part(Map<Character, List<Point>> antennasLocation, int maxRows, int maxColumns) {
 			Set<Point> resultingAntinodes = new HashSet<>();
 			
 			for (List<Point> points: antennasLocation.values()) {
@@ -217,7 +240,7 @@ public class Day8 {
 				}
 			}
 	
-			System.out.println("Part 2: " + resultingAntinodes.size());
+			return resultingAntinodes.size();
 		}
 	}
 }
@@ -1,12 +1,12 @@
 package year2024;
 
 import java.io.File;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 
-import universalFunctions.ReadFiles;
+import universalFunctions.MappedInput;
+import universalFunctions.MappedInput.View;
+import universalFunctions.Metrics;
+import universalFunctions.Solver;
 
 /**
  * =========================================================================
@@ -14,168 +14,169 @@ import universalFunctions.ReadFiles;
  * =========================================================================
  */
 
-public class Day9 {
+public class Day9 implements Solver<View> {
 	
-	static class Block {
-		List<Integer> files;
-		int freeSpaceRemaining;
-		
-		public Block(int size) {
-			this.files = Arrays.asList(new Integer[size]);
-		}
-		
-		public Block(int id, int size) {
-			this.files = Arrays.asList(Collections.nCopies(size, id).toArray(new Integer[size]));
-		}
-		
-		public Block(Block block) {
-			this.files = block.files;
-		}
-		
-		public boolean isEmpty() {
-			return this.files.stream().allMatch(x -> x == null);
-		}
-		
-		public void empties() {
-			this.files.replaceAll(x -> x = null);
-		}
-		
-		public boolean isFull() {
-			return this.files.stream().allMatch(x -> x != null);
-		}
-		
-		public boolean canHandle(Block block2) {
-			return Collections.frequency(this.files, null) >= block2.files.size();
-		}
+	private static final Metrics.Counter BLOCKS_MOVED = Metrics.counter(Day9.class, "blocksMoved");
+	private static final Metrics.Counter FILES_MOVED = Metrics.counter(Day9.class, "filesMoved");
+	private static final Metrics.Counter SPANS_CHECKED = Metrics.counter(Day9.class, "spansChecked");
+	
+	// Longest span a single digit of the disk map can describe.
+	private static final int MAX_SPAN = 9;
+	
+	/** The disk as flat arrays of spans: where every file starts and how long it is, and the same for the
+	 *  free spaces between them. File n is followed by free space n.
+	 * 
+	 */
+	static class Spans {
+		final int[] fileStarts;
+		final int[] fileLengths;
+		final int[] freeStarts;
+		final int[] freeLengths;
 		
-		public void addLeftmost(int id) {
-			for (int i = 0; i < this.files.size(); i++) {
-				if (this.files.get(i) == null) {
-					this.files.set(i, id);
-					return;
+		/** Constructor.
+		 * 
+		 * @param diskMap Digits of the disk map, alternating between file and free space lengths.
+		 */
+		public Spans(View diskMap) {
+			int files = (diskMap.length() + 1) / 2;
+			this.fileStarts = new int[files];
+			this.fileLengths = new int[files];
+			this.freeStarts = new int[files];
+			this.freeLengths = new int[files];
+			
+			int position = 0;
+			for (int i = 0; i < diskMap.length(); i++) {
+				int digit = diskMap.charAt(i) - '0';
+				if (i % 2 == 0) {
+					fileStarts[i / 2] = position;
+					fileLengths[i / 2] = digit;
+				} else {
+					freeStarts[i / 2] = position;
+					freeLengths[i / 2] = digit;
 				}
+				position += digit;
 			}
 		}
 		
-		public void addLeftmostBlock(Block blockToAdd) {
-			int idNumber = blockToAdd.files.get(0);
-			int sizeOfTarget = blockToAdd.files.size();
-			for (int i = 0; i < this.files.size(); i++) {
-				if (this.files.get(i) == null && sizeOfTarget > 0) {
-					this.files.set(i, idNumber);
-					sizeOfTarget--;
-				}
+		/** Adds up the position times the file ID of every block of the files, one file at a time.
+		 * 
+		 * @return the checksum of the disk.
+		 */
+		public long checksum() {
+			long result = 0;
+			for (int id = 0; id < fileStarts.length; id++) {
+				result += id * sumOfPositions(fileStarts[id], fileLengths[id]);
 			}
+			return result;
 		}
+	}
+	
+	/** Min-heap of the start positions of free spans, all of the same length.
+	 * 
+	 */
+	static class SpanHeap {
+		private int[] starts = new int[16];
+		private int size = 0;
 		
-		public int removeRightmost() {
-			for (int i = this.files.size()-1; i > -1; i--) {
-				Integer poppedElement = this.files.get(i);
-				if (poppedElement != null) {
-					this.files.set(i, null);
-					return poppedElement;
-				}
-			}
-			return -1;
+		public boolean isEmpty() {
+			return size == 0;
 		}
 		
-		public void removeRightmostBlock() {
-			this.empties();
+		public int peek() {
+			return starts[0];
 		}
 		
-		public static List<Integer> flattenBlocks(List<Block> diskMap) {
-			List<Integer> result = new ArrayList<>();
-			
-			for (Block block: diskMap) {
-				for (Integer file: block.files) {
-					result.add(file);
-				}
+		public void add(int start) {
+			if (size == starts.length) starts = Arrays.copyOf(starts, size * 2);
+			int i = size++;
+			while (i > 0 && starts[(i - 1) / 2] > start) {
+				starts[i] = starts[(i - 1) / 2];
+				i = (i - 1) / 2;
 			}
-			
-			return result;
-		}
-		
-		@Override
-		public String toString() {
-			return this.files.toString();
-//			return Integer.toString(this.files.size());
+			starts[i] = start;
+		}
+		
+		public int poll() {
+			int first = starts[0];
+			int last = starts[--size];
+			int i = 0;
+			while (2 * i + 1 < size) {
+				int child = 2 * i + 1;
+				if (child + 1 < size && starts[child + 1] < starts[child]) child++;
+				if (starts[child] >= last) break;
+				starts[i] = starts[child];
+				i = child;
+			}
+			starts[i] = last;
+			return first;
 		}
 	}
 	
-//	private static List<Block> diskMap = new ArrayList<>();
-	
 	public static void main(String[] args) {
-		File puzzleFile = new File("input/2024/Day9.txt");
-		List<Integer> puzzle = Arrays.asList(ReadFiles.readFileRaw(puzzleFile).split("")).stream().mapToInt(Integer::valueOf).boxed().toList();
-		
-		Part1.part(initializeDiskMap(puzzle));
-		Part2.part(initializeDiskMap(puzzle));
+		Solver.printAnswers(new Day9(), new File("input/2024/Day9.txt"));
 	}
-	
-	private static List<Block> initializeDiskMap(List<Integer> puzzle) {
-		List<Block> result = new ArrayList<>();
-		
-		int n = 0;
-		for (int i = 0; i < puzzle.size(); i++) {
-			int size = puzzle.get(i);
-			if (i % 2 == 0) {
-				result.add(new Block(n, size));
-				n++;
-			} else result.add(new Block(size));
-		}
-		
-		return result;
+
+	@Override
+	public View parse(File puzzleFile) {
+		MappedInput input = MappedInput.map(puzzleFile);
+		return (input.lineCount() == 0) ? input.view(0, 0) : input.line(0);
+	}
+
+	@Override
+	public Object part1(View diskMap) {
+		return Part1.part(diskMap);
+	}
+
+	@Override
+	public Object part2(View diskMap) {
+		return Part2.part(new Spans(diskMap));
 	}
 	
-	private static void moveElementToFront(List<Block> diskMap) {
-		int leftmostFreePointer = 0;
-		int rightmostFilesPointer = diskMap.size()-1;
-		
-		while (leftmostFreePointer < rightmostFilesPointer) {
-			Block leftmostBlock = diskMap.get(leftmostFreePointer);
-			if (leftmostBlock.isFull()) {
-				leftmostFreePointer++;
-				continue;
-			}
-			
-			Block rightmostBlock = diskMap.get(rightmostFilesPointer);
-			if (rightmostBlock.isEmpty()) {
-				rightmostFilesPointer--;
-				continue;
-			}
-			
-			while (!leftmostBlock.isFull() && !rightmostBlock.isEmpty()) {
-				int removedElement = rightmostBlock.removeRightmost();
-				leftmostBlock.addLeftmost(removedElement);
-			}
-		}
+	/** Adds up the positions of a span of blocks, as an arithmetic series.
+	 * 
+	 * @param start Position of the first block.
+	 * @param length Number of blocks.
+	 * @return the sum of the positions.
+	 */
+	private static long sumOfPositions(long start, long length) {
+		return start * length + length * (length - 1) / 2;
 	}
 	
-	private static void moveBlockToFront(List<Block> diskMap) {
-		int leftmostFreePointer = 0;
-		int rightmostFilesPointer = diskMap.size()-1;
-		boolean suitablesNotFound = false;
+	/** Moves every file once, from the highest ID down, into the leftmost free span that fits it.
+	 *  The free spans are kept in one heap per length, so the leftmost span of at least the file's
+	 *  length is the smallest of at most nine heap tops. What's left of a span after a move goes into
+	 *  the heap of its new length. The space a file leaves behind is never used, as every file still
+	 *  to move is further left.
+	 * 
+	 * @param spans Spans of the disk, with the files moved in place.
+	 */
+	private static void moveFilesToFront(Spans spans) {
+		SpanHeap[] heaps = new SpanHeap[MAX_SPAN + 1];
+		for (int length = 1; length <= MAX_SPAN; length++) heaps[length] = new SpanHeap();
+		for (int i = 0; i < spans.freeStarts.length; i++) {
+			if (spans.freeLengths[i] > 0) heaps[spans.freeLengths[i]].add(spans.freeStarts[i]);
+		}
 		
-		while (leftmostFreePointer < rightmostFilesPointer) {
-			Block leftmostBlock = diskMap.get(leftmostFreePointer);
-			if (leftmostBlock.isFull()) {
-				leftmostFreePointer++;
-				continue;
-			}
+		for (int id = spans.fileStarts.length - 1; id >= 0; id--) {
+			int fileLength = spans.fileLengths[id];
+			if (fileLength == 0) continue;
 			
-			for (int i = rightmostFilesPointer; i > leftmostFreePointer; i--) {
-				Block rightmostBlock = diskMap.get(i);
-				if (rightmostBlock.isEmpty()) {
-					continue;
-				}
-				if (leftmostBlock.canHandle(rightmostBlock)) {
-					leftmostBlock.addLeftmostBlock(rightmostBlock);
-					rightmostBlock.removeRightmostBlock();
-					suitablesNotFound = true;
+			int bestLength = 0;
+			int bestStart = spans.fileStarts[id];
+			for (int length = fileLength; length <= MAX_SPAN; length++) {
+				if (heaps[length].isEmpty()) continue;
+				SPANS_CHECKED.increment();
+				if (heaps[length].peek() < bestStart) {
+					bestStart = heaps[length].peek();
+					bestLength = length;
 				}
 			}
+			if (bestLength == 0) continue;
 			
-			if (suitablesNotFound) leftmostFreePointer++;
+			heaps[bestLength].poll();
+			if (bestLength > fileLength) heaps[bestLength - fileLength].add(bestStart + fileLength);
+			spans.fileStarts[id] = bestStart;
+			FILES_MOVED.increment();
 		}
 	}
 	
@@ -188,20 +189,45 @@ public class Day9 {
 	class Part1 {
 
 		/**
-		 * Solves the first part of the puzzle.
+		 * Solves the first part of the puzzle. The disk map is read from both ends at once: the left
+		 * cursor walks the files in place and the free spaces between them, and the right cursor hands
+		 * out the blocks of the last files to fill those free spaces. Every run of blocks of one file
+		 * adds to the checksum as an arithmetic series, so nothing but the two cursors is kept.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param diskMap Digits of the disk map, read straight from the memory-mapped input.
+		 * @return The answer to the first part.
 		 */
-		public static void part(List<Block> diskMap) {
-			moveElementToFront(diskMap);
-			List<Integer> sortedList = Block.flattenBlocks(diskMap);
-			
+		public static long part(View diskMap) {
+			int right = (diskMap.length() - 1) & ~1;
+			int rightRemaining = (right < 0) ? 0 : diskMap.charAt(right) - '0';
+			long position = 0;
 			long result = 0;
-			for (int i = 0; i < sortedList.size(); i++) {
-				if (sortedList.get(i) != null) result += (i * sortedList.get(i));
+			
+			for (int left = 0; left <= right; left++) {
+				if (left % 2 == 0) {
+					int length = (left == right) ? rightRemaining : diskMap.charAt(left) - '0';
+					result += (left / 2) * sumOfPositions(position, length);
+					position += length;
+					continue;
+				}
+				
+				int free = diskMap.charAt(left) - '0';
+				while (free > 0 && right > left) {
+					if (rightRemaining == 0) {
+						right -= 2;
+						if (right > left) rightRemaining = diskMap.charAt(right) - '0';
+						continue;
+					}
+					int moved = Math.min(free, rightRemaining);
+					result += (right / 2) * sumOfPositions(position, moved);
+					position += moved;
+					free -= moved;
+					rightRemaining -= moved;
+					BLOCKS_MOVED.add(moved);
+				}
 			}
 
-			System.out.println("Part 1: " + result);
+			return result;
 		}
 	}
 	
@@ -216,18 +242,12 @@ public class Day9 {
 		/**
 		 * Solves the second part of the puzzle.
 		 * 
-		 * @param puzzleLines List of Strings read from the file line-by-line.
+		 * @param spans Spans of the disk.
+		 * @return The answer to the second part.
 		 */
-		public static void part(List<Block> diskMap) {
-			moveBlockToFront(diskMap);
-			List<Integer> sortedList = Block.flattenBlocks(diskMap);
-			
-			long result = 0;
-			for (int i = 0; i < sortedList.size(); i++) if (sortedList.get(i) != null) result += (i * sortedList.get(i));
-			
-			System.out.println("Part 2: " + result);
+		public static long part(Spans spans) {
+			moveFilesToFront(spans);
+			return spans.checksum();
 		}
 	}
 }
-
-